@@ -69,6 +69,25 @@ public interface RuntimeConfiguration {
      */
     Boolean isHandleFault();
 
+    /**
+     * Sets whether a lightweight {@link org.apache.camel.spi.UnitOfWork} should be used (default is disabled).
+     * <p/>
+     * The lightweight unit of work does not keep a copy of the original message, does not set the
+     * {@link Exchange#CREATED_TIMESTAMP} property and only creates its internal structures when they are needed.
+     * Therefore the <tt>useOriginalMessage</tt> and <tt>useOriginalBody</tt> options are not supported
+     * when the lightweight unit of work is in use.
+     *
+     * @param lightweightUnitOfWork whether to use the lightweight unit of work.
+     */
+    void setLightweightUnitOfWork(Boolean lightweightUnitOfWork);
+
+    /**
+     * Returns whether a lightweight {@link org.apache.camel.spi.UnitOfWork} is used
+     *
+     * @return true if the lightweight unit of work is used
+     */
+    Boolean isLightweightUnitOfWork();
+
     /**
      * Sets a delay value in millis that a message is delayed at every step it takes in the route path,
      * slowing the process down to better observe what is occurring
@@ -0,0 +1,72 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedBacklogTracerMBean {
+
+    @ManagedAttribute(description = "Camel id")
+    String getCamelId();
+
+    @ManagedAttribute(description = "Is tracing enabled")
+    boolean getEnabled();
+
+    @ManagedAttribute(description = "Is tracing enabled")
+    void setEnabled(boolean enabled);
+
+    @ManagedAttribute(description = "Number of traced messages to keep in the backlog per route")
+    int getBacklogSize();
+
+    @ManagedAttribute(description = "Number of traced messages to keep in the backlog per route")
+    void setBacklogSize(int backlogSize);
+
+    @ManagedAttribute(description = "Trace every Nth exchange")
+    int getSamplingRate();
+
+    @ManagedAttribute(description = "Trace every Nth exchange")
+    void setSamplingRate(int samplingRate);
+
+    @ManagedAttribute(description = "Maximum number of characters of the message body to render")
+    int getBodyMaxChars();
+
+    @ManagedAttribute(description = "Maximum number of characters of the message body to render")
+    void setBodyMaxChars(int bodyMaxChars);
+
+    @ManagedAttribute(description = "Whether to include the message headers")
+    boolean getTraceHeaders();
+
+    @ManagedAttribute(description = "Whether to include the message headers")
+    void setTraceHeaders(boolean traceHeaders);
+
+    @ManagedAttribute(description = "Number of total traced messages")
+    long getTraceCounter();
+
+    @ManagedOperation(description = "Resets the trace counter")
+    void resetTraceCounter();
+
+    @ManagedOperation(description = "Dumps the traced messages of the given route")
+    String dumpTracedMessages(String routeId);
+
+    @ManagedOperation(description = "Dumps the traced messages of all the routes")
+    String dumpAllTracedMessages();
+
+    @ManagedOperation(description = "Removes all the traced messages")
+    void clear();
+
+}
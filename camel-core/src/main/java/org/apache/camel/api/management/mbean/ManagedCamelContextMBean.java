@@ -78,6 +78,21 @@ public interface ManagedCamelContextMBean extends ManagedPerformanceCounterMBean
     @ManagedAttribute(description = "Average load over the last fifteen minutes")
     String getLoad15();
 
+    @ManagedAttribute(description = "Duration in millis of the last update of routes from XML")
+    Long getLastRoutesUpdateDuration();
+
+    @ManagedAttribute(description = "Number of routes which was added or replaced by the last update of routes from XML")
+    Integer getLastRoutesUpdateCount();
+
+    @ManagedAttribute(description = "Duration in millis to start the services when CamelContext was started")
+    Long getStartupServicesDuration();
+
+    @ManagedAttribute(description = "Duration in millis to create the routes from the route definitions when CamelContext was started")
+    Long getStartupCreateRoutesDuration();
+
+    @ManagedAttribute(description = "Duration in millis to start the routes when CamelContext was started")
+    Long getStartupStartRoutesDuration();
+
     @ManagedOperation(description = "Start Camel")
     void start() throws Exception;
 
@@ -114,6 +129,9 @@ public interface ManagedCamelContextMBean extends ManagedPerformanceCounterMBean
     @ManagedOperation(description = "Adds or updates existing routes from XML")
     void addOrUpdateRoutesFromXml(String xml) throws Exception;
 
+    @ManagedOperation(description = "Updates the routes from XML, where only the routes which has changed are restarted")
+    int updateRoutesFromXml(String xml) throws Exception;
+
     @ManagedOperation(description = "Dumps the routes stats as XML")
     String dumpRoutesStatsAsXml(boolean fullStats, boolean includeProcessors) throws Exception;
 
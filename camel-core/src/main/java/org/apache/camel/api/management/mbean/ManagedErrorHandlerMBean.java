@@ -38,6 +38,12 @@ public interface ManagedErrorHandlerMBean {
     @ManagedAttribute(description = "Endpoint Uri for the dead letter channel where dead message is move to")
     String getDeadLetterChannelEndpointUri();
 
+    @ManagedAttribute(description = "Number of exchanges waiting for an asynchronous redelivery attempt")
+    Integer getPendingRedeliveries();
+
+    @ManagedAttribute(description = "Mean time in millis the exchanges waiting for an asynchronous redelivery attempt have been waiting")
+    Long getPendingRedeliveriesMeanAge();
+
     @ManagedAttribute(description = "RedeliveryPolicy for maximum redeliveries")
     Integer getMaximumRedeliveries();
 
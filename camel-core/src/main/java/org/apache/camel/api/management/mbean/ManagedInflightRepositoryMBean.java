@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedInflightRepositoryMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Number of inflight exchanges")
+    Integer getSize();
+
+    @ManagedAttribute(description = "Maximum number of inflight exchanges to keep track of")
+    Integer getMaxTrackedExchanges();
+
+    @ManagedAttribute(description = "Duration in millis of the exchange which has been inflight for the longest time")
+    Long getOldestInflightDuration();
+
+    @ManagedOperation(description = "Number of inflight exchanges for the given route")
+    Integer size(String routeId);
+
+    @ManagedOperation(description = "Dumps the inflight exchanges which has been inflight for the longest time")
+    String dumpOldestInflightExchanges(int limit);
+
+    @ManagedOperation(description = "Dumps the number of inflight exchanges by how long they have been inflight")
+    String dumpInflightAgeHistogram();
+
+}
@@ -166,6 +166,17 @@ public class DefaultErrorHandlerBuilder extends ErrorHandlerBuilderSupport {
         return this;
     }
 
+    /**
+     * Will use synchronous delayed redeliveries, which blocks the current thread while waiting.
+     *
+     * @see org.apache.camel.processor.RedeliveryPolicy#setAsyncDelayedRedelivery(boolean)
+     * @return the builder
+     */
+    public DefaultErrorHandlerBuilder syncDelayedRedelivery() {
+        getRedeliveryPolicy().setAsyncDelayedRedelivery(false);
+        return this;
+    }
+
     /**
      * Sets a reference to a thread pool to be used for redelivery.
      *
@@ -22,6 +22,7 @@ import java.util.List;
 import org.apache.camel.model.OnExceptionDefinition;
 import org.apache.camel.processor.ErrorHandler;
 import org.apache.camel.processor.ErrorHandlerSupport;
+import org.apache.camel.processor.RedeliveryErrorHandler;
 import org.apache.camel.processor.exceptionpolicy.ExceptionPolicyStrategy;
 import org.apache.camel.spi.RouteContext;
 import org.apache.camel.util.ObjectHelper;
@@ -43,15 +44,32 @@ public abstract class ErrorHandlerBuilderSupport implements ErrorHandlerBuilder
     }
 
     public void configure(RouteContext routeContext, ErrorHandler handler) {
+        if (handler instanceof RedeliveryErrorHandler && ((RedeliveryErrorHandler) handler).isUseOriginalMessagePolicy()) {
+            validateUseOriginalMessage(routeContext);
+        }
         if (handler instanceof ErrorHandlerSupport) {
             ErrorHandlerSupport handlerSupport = (ErrorHandlerSupport) handler;
 
             for (OnExceptionDefinition exception : exceptions) {
+                if (exception.isUseOriginalMessage()) {
+                    validateUseOriginalMessage(routeContext);
+                }
                 handlerSupport.addExceptionPolicy(routeContext, exception);
             }
         }
     }
 
+    /**
+     * The lightweight {@link org.apache.camel.spi.UnitOfWork} does not keep the original message,
+     * so the route cannot use the original message when handling errors.
+     */
+    private static void validateUseOriginalMessage(RouteContext routeContext) {
+        if (routeContext != null && Boolean.TRUE.equals(routeContext.isLightweightUnitOfWork())) {
+            throw new IllegalArgumentException("The useOriginalMessage option is not supported with the lightweight UnitOfWork on route: "
+                    + routeContext.getRoute().getId());
+        }
+    }
+
     public List<OnExceptionDefinition> getErrorHandlers() {
         return exceptions;
     }
@@ -44,6 +44,7 @@ import org.apache.camel.spi.Language;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.TokenPairExpressionIterator;
 import org.apache.camel.support.TokenXMLPairExpressionIterator;
+import org.apache.camel.support.TokenXMLStreamExpressionIterator;
 import org.apache.camel.util.ExchangeHelper;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.GroupIterator;
@@ -1093,6 +1094,25 @@ public final class ExpressionBuilder {
         return new TokenXMLPairExpressionIterator(tagName, endToken, inheritNamespaceTagName);
     }
 
+    /**
+     * Returns an {@link TokenXMLStreamExpressionIterator} expression
+     */
+    public static Expression tokenizeXMLStreamExpression(String tagName, String inheritNamespaceTagName) {
+        ObjectHelper.notEmpty(tagName, "tagName");
+        return new TokenXMLStreamExpressionIterator(stripXMLTag(tagName),
+                inheritNamespaceTagName != null ? stripXMLTag(inheritNamespaceTagName) : null);
+    }
+
+    private static String stripXMLTag(String tagName) {
+        if (tagName.startsWith("<")) {
+            tagName = tagName.substring(1);
+        }
+        if (tagName.endsWith(">")) {
+            tagName = tagName.substring(0, tagName.length() - 1);
+        }
+        return tagName;
+    }
+
     /**
      * Returns a tokenize expression which will tokenize the string with the
      * given regex
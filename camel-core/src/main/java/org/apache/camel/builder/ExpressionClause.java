@@ -533,6 +533,19 @@ public class ExpressionClause<T> extends ExpressionDefinition {
         return delegate.tokenizeXMLPair(tagName, inheritNamespaceTagName, group);
     }
 
+    /**
+     * Evaluates a XML token expression on the message body with XML content, using a StAX parser
+     * which reads the stream only once and handles CDATA sections and comments
+     *
+     * @param tagName the the tag name of the child nodes to tokenize, such as <tt>order</tt>, <tt>ns:order</tt>
+     *                or <tt>{http://acme.com}order</tt> to match by namespace
+     * @param inheritNamespaceTagName  parent or root tag name that contains namespace(s) to inherit
+     * @return the builder to continue processing the DSL
+     */
+    public T tokenizeXMLStream(String tagName, String inheritNamespaceTagName) {
+        return delegate.expression(ExpressionBuilder.tokenizeXMLStreamExpression(tagName, inheritNamespaceTagName));
+    }
+
     /**
      * Evaluates an <a href="http://camel.apache.org/xpath.html">XPath
      * expression</a>
@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.IOException;
+import javax.xml.transform.Result;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Processes the XSLT result as a {@link org.apache.camel.StreamCache}.
+ * <p/>
+ * The result is written directly into a {@link CachedOutputStream} which spools to a
+ * temporary file when the result exceeds the stream cache threshold, which avoids holding
+ * the entire result of big transformations in memory.
+ *
+ * @version 
+ */
+public class StreamCacheResultHandler implements ResultHandler {
+
+    private final CachedOutputStream cos;
+    private final StreamResult result;
+
+    public StreamCacheResultHandler(Exchange exchange) {
+        this.cos = new CachedOutputStream(exchange);
+        this.result = new StreamResult(cos);
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    public void setBody(Message in) {
+        try {
+            in.setBody(cos.getStreamCache());
+        } catch (IOException e) {
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+}
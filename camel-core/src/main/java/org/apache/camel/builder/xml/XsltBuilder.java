@@ -195,6 +195,16 @@ public class XsltBuilder implements Processor {
         return this;
     }
 
+    /**
+     * Sets the output as being a {@link org.apache.camel.StreamCache} which is written
+     * directly into a {@link org.apache.camel.converter.stream.CachedOutputStream}, and spooled
+     * to disk if the result is big.
+     */
+    public XsltBuilder outputStreamCache() {
+        setResultHandlerFactory(new StreamCacheResultHandlerFactory());
+        return this;
+    }
+
     /**
      * Sets the output as being a DOM
      */
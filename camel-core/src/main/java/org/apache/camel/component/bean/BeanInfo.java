@@ -29,6 +29,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.camel.Attachments;
 import org.apache.camel.Body;
@@ -64,6 +66,8 @@ public class BeanInfo {
     private static final transient Logger LOG = LoggerFactory.getLogger(BeanInfo.class);
     private static final String CGLIB_CLASS_SEPARATOR = "$$";
     private static final List<Method> EXCLUDED_METHODS = new ArrayList<Method>();
+    private static final int MAX_CHOSEN_METHODS = 1000;
+    private static final Expression EXCEPTION_EXPRESSION = ExpressionBuilder.exchangeExceptionExpression();
     private final CamelContext camelContext;
     private final Class<?> type;
     private final ParameterMappingStrategy strategy;
@@ -75,6 +79,8 @@ public class BeanInfo {
     private List<MethodInfo> operationsWithCustomAnnotation = new ArrayList<MethodInfo>();
     private List<MethodInfo> operationsWithHandlerAnnotation = new ArrayList<MethodInfo>();
     private Map<Method, MethodInfo> methodMap = new HashMap<Method, MethodInfo>();
+    // the methods chosen at runtime, so we only need to choose the method once per body type
+    private final ConcurrentMap<ChosenMethodKey, MethodInfo> chosenMethods = new ConcurrentHashMap<ChosenMethodKey, MethodInfo>();
 
     static {
         // exclude all java.lang.Object methods as we dont want to invoke them
@@ -208,7 +214,7 @@ public class BeanInfo {
 
                     // but first let's try to choose a method and see if that complies with the name
                     // must use the method name which may have qualifiers
-                    methodInfo = chooseMethod(pojo, exchange, methodName);
+                    methodInfo = chooseCachedMethod(pojo, exchange, methodName);
 
                     if (methodInfo == null || !name.equals(methodInfo.getMethod().getName())) {
                         throw new AmbiguousMethodCallException(exchange, methods);
@@ -222,7 +228,7 @@ public class BeanInfo {
 
         if (methodInfo == null) {
             // no name or type
-            methodInfo = chooseMethod(pojo, exchange, null);
+            methodInfo = chooseCachedMethod(pojo, exchange, null);
         }
         if (methodInfo == null) {
             methodInfo = defaultMethod;
@@ -427,6 +433,32 @@ public class BeanInfo {
         }
     }
 
+    /**
+     * Choose one of the available methods to invoke using {@link #chooseMethod(Object, Exchange, String)},
+     * where the chosen method is cached per body type, so the method only has to be chosen once.
+     * <p/>
+     * The chosen method is not cached if the message body had to be converted to choose the method,
+     * as whether the conversion is possible depends on the actual message body.
+     */
+    private MethodInfo chooseCachedMethod(Object pojo, Exchange exchange, String name) throws AmbiguousMethodCallException {
+        Object body = exchange.getIn().getBody();
+        if (body == null) {
+            return chooseMethod(pojo, exchange, name);
+        }
+
+        // the MEP and whether there is an exception is also used when choosing the method
+        ChosenMethodKey key = new ChosenMethodKey(body.getClass(), name, exchange.getPattern().isOutCapable(),
+                EXCEPTION_EXPRESSION.evaluate(exchange, Exception.class) != null);
+        MethodInfo answer = chosenMethods.get(key);
+        if (answer == null) {
+            answer = chooseMethod(pojo, exchange, name);
+            if (answer != null && exchange.getIn().getBody() == body && chosenMethods.size() < MAX_CHOSEN_METHODS) {
+                chosenMethods.put(key, answer);
+            }
+        }
+        return answer;
+    }
+
     /**
      * Choose one of the available methods to invoke if we can match
      * the message body to the body parameter
@@ -944,4 +976,43 @@ public class BeanInfo {
         return null;
     }
 
+    /**
+     * Key for the methods chosen at runtime
+     */
+    private static final class ChosenMethodKey {
+        private final Class<?> bodyType;
+        private final String name;
+        private final boolean outCapable;
+        private final boolean exception;
+        private final int hashCode;
+
+        private ChosenMethodKey(Class<?> bodyType, String name, boolean outCapable, boolean exception) {
+            this.bodyType = bodyType;
+            this.name = name;
+            this.outCapable = outCapable;
+            this.exception = exception;
+            int hash = bodyType.hashCode();
+            hash = 31 * hash + (name != null ? name.hashCode() : 0);
+            hash = 31 * hash + (outCapable ? 1 : 0);
+            this.hashCode = 31 * hash + (exception ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ChosenMethodKey)) {
+                return false;
+            }
+            ChosenMethodKey that = (ChosenMethodKey) o;
+            return bodyType == that.bodyType && outCapable == that.outCapable && exception == that.exception
+                    && ObjectHelper.equal(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
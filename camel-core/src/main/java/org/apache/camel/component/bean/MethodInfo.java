@@ -351,9 +351,11 @@ public class MethodInfo {
         LOG.trace("Creating parameters expression for {} parameters", size);
 
         final Expression[] expressions = new Expression[size];
+        final Class<?>[] parameterTypes = new Class<?>[size];
         for (int i = 0; i < size; i++) {
             Expression parameterExpression = parameters.get(i).getExpression();
             expressions[i] = parameterExpression;
+            parameterTypes[i] = parameters.get(i).getType();
             LOG.trace("Parameter #{} has expression: {}", i, parameterExpression);
         }
         return new Expression() {
@@ -362,19 +364,21 @@ public class MethodInfo {
                 Object[] answer = new Object[size];
                 Object body = exchange.getIn().getBody();
                 boolean multiParameterArray = false;
-                if (exchange.getIn().getHeader(Exchange.BEAN_MULTI_PARAMETER_ARRAY) != null) {
-                    multiParameterArray = exchange.getIn().getHeader(Exchange.BEAN_MULTI_PARAMETER_ARRAY, Boolean.class);
+                Object multiParameterArrayHeader = exchange.getIn().getHeader(Exchange.BEAN_MULTI_PARAMETER_ARRAY);
+                if (multiParameterArrayHeader != null) {
+                    multiParameterArray = exchange.getContext().getTypeConverter().convertTo(Boolean.class, multiParameterArrayHeader);
                 }
 
                 // if there was an explicit method name to invoke, then we should support using
                 // any provided parameter values in the method name
-                String methodName = exchange.getIn().getHeader(Exchange.BEAN_METHOD_NAME, "", String.class);
-                // the parameter values is between the parenthesis
-                String methodParameters = ObjectHelper.between(methodName, "(", ")");
-                // use an iterator to walk the parameter values
+                String methodName = exchange.getIn().getHeader(Exchange.BEAN_METHOD_NAME, String.class);
+                // use an iterator to walk the parameter values which is between the parenthesis
                 Iterator<?> it = null;
-                if (methodParameters != null) {
-                    it = ObjectHelper.createIterator(methodParameters);
+                if (size > 0 && methodName != null && methodName.indexOf('(') != -1) {
+                    String methodParameters = ObjectHelper.between(methodName, "(", ")");
+                    if (methodParameters != null) {
+                        it = ObjectHelper.createIterator(methodParameters);
+                    }
                 }
 
                 // remove headers as they should not be propagated
@@ -388,7 +392,7 @@ public class MethodInfo {
                     // grab the parameter value for the given index
                     Object parameterValue = it != null && it.hasNext() ? it.next() : null;
                     // and the expected parameter type
-                    Class<?> parameterType = parameters.get(i).getType();
+                    Class<?> parameterType = parameterTypes[i];
                     // the value for the parameter to use
                     Object value = null;
 
@@ -508,7 +512,10 @@ public class MethodInfo {
 
                 // use object first to avoid type conversion so we know if there is a value or not
                 Object result = expression.evaluate(exchange, Object.class);
-                if (result != null) {
+                if (parameterType.isInstance(result)) {
+                    // no need to convert as its already the expected type
+                    answer = result;
+                } else if (result != null) {
                     // we got a value now try to convert it to the expected type
                     try {
                         answer = exchange.getContext().getTypeConverter().mandatoryConvertTo(parameterType, result);
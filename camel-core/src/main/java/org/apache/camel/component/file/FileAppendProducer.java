@@ -0,0 +1,419 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * File producer which appends to files which are kept open between the writes.
+ * <p/>
+ * The open files are kept in a bounded LRU cache (<tt>appendMaxOpenFiles</tt>) and are closed
+ * when they have not been written to for <tt>appendIdleTimeout</tt> millis. Small writes are
+ * buffered, and the buffered data is written and synced to disk as a group according to the
+ * <tt>appendSyncCount</tt> and <tt>appendSyncInterval</tt> options. If <tt>appendSyncWait</tt> is
+ * enabled then the exchange is first completed when its data has been synced to disk.
+ * <p/>
+ * As the files are kept open, the target files should not be renamed or deleted by others while
+ * the producer is running, for example by log rotation.
+ */
+public class FileAppendProducer extends GenericFileProducer<File> {
+
+    private final Map<String, AppendChannel> channels;
+    // the least recently used channels which has been evicted, and must be closed outside the lock
+    private final List<AppendChannel> evicted = new ArrayList<AppendChannel>();
+    private ScheduledExecutorService executor;
+
+    public FileAppendProducer(final FileEndpoint endpoint, GenericFileOperations<File> operations) {
+        super(endpoint, operations);
+        this.channels = new LinkedHashMap<String, AppendChannel>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AppendChannel> eldest) {
+                if (size() > endpoint.getAppendMaxOpenFiles()) {
+                    log.debug("Closing least recently used file: {}", eldest.getKey());
+                    evicted.add(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public FileEndpoint getEndpoint() {
+        return (FileEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        // no need to lock on the file name as the writes to the open files are synchronized
+        // and we want concurrent writers to the same file to be synced as a group
+        processExchange(exchange, createFileName(exchange));
+    }
+
+    @Override
+    public void writeFile(Exchange exchange, String fileName) throws GenericFileOperationFailedException {
+        File file = new File(FileUtil.normalizePath(fileName));
+
+        // build directory if auto create is enabled
+        if (endpoint.isAutoCreate() && file.getParent() != null) {
+            if (!operations.buildDirectory(file.getParent(), FileUtil.isAbsolute(file))) {
+                log.debug("Cannot build directory [{}] (could be because of denied permissions)", file.getParent());
+            }
+        }
+
+        byte[] data;
+        try {
+            String charset = endpoint.getCharset();
+            if (charset != null) {
+                data = exchange.getIn().getMandatoryBody(String.class).getBytes(charset);
+            } else {
+                data = exchange.getIn().getMandatoryBody(byte[].class);
+            }
+        } catch (InvalidPayloadException e) {
+            throw new GenericFileOperationFailedException("Cannot store file: " + file, e);
+        } catch (IOException e) {
+            throw new GenericFileOperationFailedException("Cannot store file: " + file, e);
+        }
+
+        AppendChannel channel = null;
+        try {
+            String key = file.getAbsolutePath();
+            while (true) {
+                channel = getOrCreateChannel(key, file);
+                long sequence = channel.write(data);
+                if (sequence < 0) {
+                    // the channel was closed concurrently so try again with a new channel
+                    discardChannel(channel);
+                    continue;
+                }
+                if (getEndpoint().isAppendSyncWait()) {
+                    channel.awaitSynced(sequence);
+                }
+                break;
+            }
+        } catch (IOException e) {
+            if (channel != null && channel.failure != null) {
+                // the file could not be synced so open it again for the next writes
+                discardChannel(channel);
+            }
+            throw new GenericFileOperationFailedException("Cannot store file: " + file, e);
+        } catch (InterruptedException e) {
+            throw new GenericFileOperationFailedException("Interrupted while waiting for file to be synced: " + file, e);
+        }
+        log.debug("Appended [{}] bytes to [{}]", data.length, file);
+    }
+
+    private AppendChannel getOrCreateChannel(String key, File file) throws IOException {
+        AppendChannel channel;
+        List<AppendChannel> toClose = null;
+        synchronized (channels) {
+            channel = channels.get(key);
+            if (channel == null) {
+                log.debug("Opening file: {} for appending", file);
+                channel = new AppendChannel(file);
+                channels.put(key, channel);
+                if (!evicted.isEmpty()) {
+                    toClose = new ArrayList<AppendChannel>(evicted);
+                    evicted.clear();
+                    for (AppendChannel old : toClose) {
+                        // write the buffered data while holding the lock, so its written before any data
+                        // written by a new channel to the same file
+                        old.closeForWrites();
+                    }
+                }
+            }
+        }
+        if (toClose != null) {
+            for (AppendChannel old : toClose) {
+                old.close();
+            }
+        }
+        return channel;
+    }
+
+    /**
+     * Removes the channel, if its still in use, and closes it
+     */
+    private void discardChannel(AppendChannel channel) {
+        synchronized (channels) {
+            if (channels.get(channel.key) == channel) {
+                channels.remove(channel.key);
+            }
+            channel.closeForWrites();
+        }
+        channel.close();
+    }
+
+    /**
+     * Background task which syncs the pending writes and closes the idle files
+     */
+    private void onTimer() {
+        List<AppendChannel> list;
+        synchronized (channels) {
+            list = new ArrayList<AppendChannel>(channels.values());
+        }
+
+        long now = System.currentTimeMillis();
+        for (AppendChannel channel : list) {
+            try {
+                if (now - channel.lastWrite >= getEndpoint().getAppendIdleTimeout()) {
+                    log.debug("Closing idle file: {}", channel.key);
+                    discardChannel(channel);
+                } else if (getEndpoint().getAppendSyncInterval() > 0) {
+                    channel.sync(true);
+                } else {
+                    // make the buffered data visible to readers of the file
+                    channel.sync(false);
+                }
+            } catch (Throwable e) {
+                log.warn("Error syncing file: " + channel.key + ". This exception will be ignored.", e);
+                if (channel.failure != null) {
+                    discardChannel(channel);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (executor == null) {
+            executor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "FileAppendSyncer");
+            long interval = getEndpoint().getAppendSyncInterval() > 0 ? getEndpoint().getAppendSyncInterval() : 1000;
+            executor.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    onTimer();
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(executor);
+            executor = null;
+        }
+        List<AppendChannel> toClose;
+        synchronized (channels) {
+            toClose = new ArrayList<AppendChannel>(channels.values());
+            toClose.addAll(evicted);
+            channels.clear();
+            evicted.clear();
+            for (AppendChannel channel : toClose) {
+                channel.closeForWrites();
+            }
+        }
+        for (AppendChannel channel : toClose) {
+            channel.close();
+        }
+        super.doStop();
+    }
+
+    /**
+     * A file which is kept open for appending
+     */
+    private final class AppendChannel {
+        private final String key;
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        // sequence of the last write, and the last write which has been synced to disk
+        private long written;
+        private long synced;
+        // the error syncing the file to disk, after which the writes which has not been synced are failed
+        private volatile IOException failure;
+        // number of syncs in progress, which must complete before the file is closed
+        private int syncing;
+        private volatile long lastWrite;
+        private boolean closed;
+
+        private AppendChannel(File file) throws IOException {
+            this.key = file.getAbsolutePath();
+            // in append mode, so the writes of a new channel to the same file are always at the end of the file
+            this.channel = new FileOutputStream(file, true).getChannel();
+            this.buffer = ByteBuffer.allocate(getEndpoint().getBufferSize());
+            this.lastWrite = System.currentTimeMillis();
+        }
+
+        /**
+         * Writes the data
+         *
+         * @return the sequence of the write, or <tt>-1</tt> if the channel has been closed
+         */
+        private long write(byte[] data) throws IOException {
+            long sequence;
+            boolean syncNow;
+            synchronized (this) {
+                if (closed) {
+                    return -1;
+                }
+                if (data.length > buffer.remaining()) {
+                    flushBuffer();
+                }
+                if (data.length > buffer.remaining()) {
+                    // too big to be buffered
+                    ByteBuffer wrapped = ByteBuffer.wrap(data);
+                    while (wrapped.hasRemaining()) {
+                        channel.write(wrapped);
+                    }
+                } else {
+                    buffer.put(data);
+                }
+                sequence = ++written;
+                lastWrite = System.currentTimeMillis();
+
+                int count = getEndpoint().getAppendSyncCount();
+                syncNow = (count > 0 && written - synced >= count)
+                        || (getEndpoint().isAppendSyncWait() && getEndpoint().getAppendSyncInterval() <= 0);
+            }
+            if (syncNow) {
+                sync(true);
+            }
+            return sequence;
+        }
+
+        /**
+         * Writes the buffered data to the file, and optionally syncs the file to disk
+         */
+        private void sync(boolean force) throws IOException {
+            long sequence;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                flushBuffer();
+                if (!force || synced >= written) {
+                    return;
+                }
+                sequence = written;
+                syncing++;
+            }
+
+            // sync outside the lock so concurrent writers can continue, and are synced as the next group
+            try {
+                channel.force(false);
+                onSynced(sequence, null);
+            } catch (IOException e) {
+                onSynced(sequence, e);
+                throw e;
+            }
+        }
+
+        private synchronized void onSynced(long sequence, IOException cause) {
+            syncing--;
+            if (cause != null) {
+                // its unknown which writes has been synced, so fail all the writes which are not known
+                // to be synced, and reject further writes so the file is opened again
+                if (failure == null) {
+                    failure = cause;
+                }
+                closed = true;
+            } else if (failure == null && sequence > synced) {
+                synced = sequence;
+            }
+            notifyAll();
+        }
+
+        private synchronized void awaitSynced(long sequence) throws InterruptedException, IOException {
+            while (synced < sequence && failure == null) {
+                wait();
+            }
+            if (synced < sequence) {
+                IOException e = new IOException("Error syncing file: " + key);
+                e.initCause(failure);
+                throw e;
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } finally {
+                // keep any data which was not written, so its written by the next flush
+                buffer.compact();
+            }
+        }
+
+        /**
+         * Rejects further writes, and writes the buffered data to the file
+         */
+        private synchronized void closeForWrites() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                flushBuffer();
+            } catch (IOException e) {
+                log.warn("Error writing to file: " + key + ". This exception will be ignored.", e);
+                failure = e;
+                notifyAll();
+            }
+        }
+
+        /**
+         * Syncs and closes the file, when the syncs in progress has completed
+         */
+        private synchronized void close() {
+            closeForWrites();
+            while (syncing > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (!channel.isOpen()) {
+                return;
+            }
+            // force updates to be written, and then close afterwards
+            if (failure == null) {
+                try {
+                    channel.force(false);
+                    synced = written;
+                } catch (IOException e) {
+                    log.warn("Error syncing file: " + key + ". This exception will be ignored.", e);
+                    failure = e;
+                }
+            }
+            IOHelper.close(channel, key, log);
+            notifyAll();
+        }
+    }
+}
@@ -17,7 +17,10 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.Processor;
 import org.apache.camel.util.FileUtil;
@@ -28,19 +31,50 @@ import org.apache.camel.util.ObjectHelper;
  */
 public class FileConsumer extends GenericFileConsumer<File> {
 
+    // how old the last modified timestamp of a directory must be before we can trust it
+    // as file systems may only keep the timestamps with a granularity of seconds
+    private static final long DIRECTORY_TIMESTAMP_GRANULARITY = 2000;
     private String endpointPath;
+    private final Map<String, DirectoryState> directoryStates = new HashMap<String, DirectoryState>();
+    private long lastFullRescan;
+    private boolean fullRescan = true;
 
     public FileConsumer(GenericFileEndpoint<File> endpoint, Processor processor, GenericFileOperations<File> operations) {
         super(endpoint, processor, operations);
         this.endpointPath = endpoint.getConfiguration().getDirectory();
     }
 
+    @Override
+    protected int poll() throws Exception {
+        if (getEndpoint().isDirectoryChangeDetection()) {
+            long now = System.currentTimeMillis();
+            fullRescan = now - lastFullRescan >= getEndpoint().getFullRescanInterval();
+            if (fullRescan) {
+                log.trace("Doing a full rescan of the directories");
+                lastFullRescan = now;
+            }
+        }
+        return super.poll();
+    }
+
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
         log.trace("pollDirectory from fileName: {}", fileName);
 
         depth++;
 
+        boolean changeDetection = getEndpoint().isDirectoryChangeDetection();
+        long listed = System.currentTimeMillis();
+        if (changeDetection && !fullRescan) {
+            DirectoryState state = directoryStates.get(fileName);
+            if (state != null && state.lastModified == new File(fileName).lastModified()) {
+                log.trace("Skipping listing unchanged directory: {}", fileName);
+                return pollSubDirectories(state, fileList, depth);
+            }
+        }
+        // forget the state as we list the directory again
+        directoryStates.remove(fileName);
+
         File directory = new File(fileName);
         if (!directory.exists() || !directory.isDirectory()) {
             log.debug("Cannot poll as directory does not exists or its not a directory: {}", directory);
@@ -50,6 +84,10 @@ public class FileConsumer extends GenericFileConsumer<File> {
             return true;
         }
 
+        long lastModified = directory.lastModified();
+        List<String> subDirectories = new ArrayList<String>();
+        boolean unchanged = true;
+
         log.trace("Polling directory: {}", directory.getPath());
         File[] files = directory.listFiles();
         if (files == null || files.length == 0) {
@@ -57,6 +95,9 @@ public class FileConsumer extends GenericFileConsumer<File> {
             if (log.isTraceEnabled()) {
                 log.trace("No files found in directory: {}", directory.getPath());
             }
+            if (changeDetection) {
+                updateDirectoryState(fileName, lastModified, listed, subDirectories);
+            }
             return true;
         } else {
             // we found some files
@@ -84,6 +125,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
                 if (endpoint.isRecursive() && isValidFile(gf, true) && depth < endpoint.getMaxDepth()) {
                     // recursive scan and add the sub files and folders
                     String subDirectory = fileName + File.separator + file.getName();
+                    subDirectories.add(subDirectory);
                     boolean canPollMore = pollDirectory(subDirectory, fileList, depth);
                     if (!canPollMore) {
                         return false;
@@ -92,6 +134,8 @@ public class FileConsumer extends GenericFileConsumer<File> {
             } else {
                 // Windows can report false to a file on a share so regard it always as a file (if its not a directory)
                 if (isValidFile(gf, false) && depth >= endpoint.minDepth) {
+                    // the file may still be picked up so the directory must be listed again on next poll
+                    unchanged = false;
                     if (isInProgress(gf)) {
                         if (log.isTraceEnabled()) {
                             log.trace("Skipping as file is already in progress: {}", gf.getFileName());
@@ -106,9 +150,40 @@ public class FileConsumer extends GenericFileConsumer<File> {
             }
         }
 
+        if (changeDetection && unchanged) {
+            updateDirectoryState(fileName, lastModified, listed, subDirectories);
+        }
         return true;
     }
 
+    /**
+     * Polls the sub directories of a directory which has not changed since it was last listed.
+     */
+    private boolean pollSubDirectories(DirectoryState state, List<GenericFile<File>> fileList, int depth) {
+        for (String subDirectory : state.subDirectories) {
+            if (!canPollMoreFiles(fileList)) {
+                return false;
+            }
+            if (!new File(subDirectory).isDirectory()) {
+                // the directory has been deleted
+                continue;
+            }
+            boolean canPollMore = pollDirectory(subDirectory, fileList, depth);
+            if (!canPollMore) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void updateDirectoryState(String fileName, long lastModified, long listed, List<String> subDirectories) {
+        // only trust the timestamp if its older than the granularity of the file system timestamps,
+        // otherwise a file could be added later within the same timestamp
+        if (lastModified > 0 && listed - lastModified > DIRECTORY_TIMESTAMP_GRANULARITY) {
+            directoryStates.put(fileName, new DirectoryState(lastModified, subDirectories));
+        }
+    }
+
     /**
      * Creates a new GenericFile<File> based on the given file.
      *
@@ -164,4 +239,25 @@ public class FileConsumer extends GenericFileConsumer<File> {
     public FileEndpoint getEndpoint() {
         return (FileEndpoint) super.getEndpoint();
     }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        directoryStates.clear();
+        fullRescan = true;
+        lastFullRescan = 0;
+    }
+
+    /**
+     * The state of a directory when it was last listed.
+     */
+    private static final class DirectoryState {
+        private final long lastModified;
+        private final List<String> subDirectories;
+
+        private DirectoryState(long lastModified, List<String> subDirectories) {
+            this.lastModified = lastModified;
+            this.subDirectories = subDirectories;
+        }
+    }
 }
@@ -34,6 +34,14 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private FileOperations operations = new FileOperations(this);
     private File file;
     private boolean copyAndDeleteOnRenameFail = true;
+    private boolean directoryChangeDetection;
+    private long fullRescanInterval = 60000;
+    private boolean appendKeepOpen;
+    private int appendMaxOpenFiles = 100;
+    private long appendIdleTimeout = 60000;
+    private int appendSyncCount;
+    private long appendSyncInterval;
+    private boolean appendSyncWait;
 
     public FileEndpoint() {
         // use marker file as default exclusive read locks
@@ -98,6 +106,13 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
             throw new IllegalArgumentException("You cannot set both fileExist=Append and tempPrefix options");
         }
 
+        if (getFileExist() == GenericFileExist.Append && isAppendKeepOpen()) {
+            if (getDoneFileName() != null) {
+                throw new IllegalArgumentException("You cannot set both appendKeepOpen=true and doneFileName options");
+            }
+            return new FileAppendProducer(this, operations);
+        }
+
         return new GenericFileProducer<File>(this, operations);
     }
 
@@ -158,4 +173,111 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     public void setCopyAndDeleteOnRenameFail(boolean copyAndDeleteOnRenameFail) {
         this.copyAndDeleteOnRenameFail = copyAndDeleteOnRenameFail;
     }
+
+    public boolean isDirectoryChangeDetection() {
+        return directoryChangeDetection;
+    }
+
+    /**
+     * Sets whether the consumer should only list the directories which has changed since the last poll.
+     * <p/>
+     * A directory is regarded as unchanged when its last modified timestamp is the same as when it was last listed,
+     * and no files from the directory was picked up by that listing. This avoids listing large directories with
+     * files which has already been consumed (for example when using <tt>noop=true</tt>) on every poll.
+     * The directories are fully rescanned every <tt>fullRescanInterval</tt> millis as a safety net.
+     * <p/>
+     * Notice a file which was rejected by a filter that depends on time (for example the age of the file),
+     * is not checked again until the directory is changed or the next full rescan.
+     */
+    public void setDirectoryChangeDetection(boolean directoryChangeDetection) {
+        this.directoryChangeDetection = directoryChangeDetection;
+    }
+
+    public long getFullRescanInterval() {
+        return fullRescanInterval;
+    }
+
+    /**
+     * Sets the interval in millis when all the directories is fully rescanned, when using <tt>directoryChangeDetection</tt>.
+     */
+    public void setFullRescanInterval(long fullRescanInterval) {
+        this.fullRescanInterval = fullRescanInterval;
+    }
+
+    public boolean isAppendKeepOpen() {
+        return appendKeepOpen;
+    }
+
+    /**
+     * Sets whether to keep the files open between writes when using <tt>fileExist=Append</tt>.
+     * <p/>
+     * Then the writes are buffered and synced to disk according to the <tt>appendSyncCount</tt>
+     * and <tt>appendSyncInterval</tt> options, instead of syncing and closing the file after every write.
+     */
+    public void setAppendKeepOpen(boolean appendKeepOpen) {
+        this.appendKeepOpen = appendKeepOpen;
+    }
+
+    public int getAppendMaxOpenFiles() {
+        return appendMaxOpenFiles;
+    }
+
+    /**
+     * Sets the maximum number of files kept open when using <tt>appendKeepOpen</tt>.
+     * The least recently used file is closed when the limit is hit.
+     */
+    public void setAppendMaxOpenFiles(int appendMaxOpenFiles) {
+        this.appendMaxOpenFiles = appendMaxOpenFiles;
+    }
+
+    public long getAppendIdleTimeout() {
+        return appendIdleTimeout;
+    }
+
+    /**
+     * Sets the time in millis a file kept open by <tt>appendKeepOpen</tt> can be idle before its closed.
+     */
+    public void setAppendIdleTimeout(long appendIdleTimeout) {
+        this.appendIdleTimeout = appendIdleTimeout;
+    }
+
+    public int getAppendSyncCount() {
+        return appendSyncCount;
+    }
+
+    /**
+     * Sets the number of writes after which a file kept open by <tt>appendKeepOpen</tt> is synced to disk.
+     * Is default <tt>0</tt> which means not to sync based on the number of writes.
+     */
+    public void setAppendSyncCount(int appendSyncCount) {
+        this.appendSyncCount = appendSyncCount;
+    }
+
+    public long getAppendSyncInterval() {
+        return appendSyncInterval;
+    }
+
+    /**
+     * Sets the interval in millis at which the files kept open by <tt>appendKeepOpen</tt> are synced to disk.
+     * Is default <tt>0</tt> which means not to sync based on time.
+     * <p/>
+     * If neither <tt>appendSyncCount</tt> nor <tt>appendSyncInterval</tt> is set then the files is only
+     * synced to disk when they are closed.
+     */
+    public void setAppendSyncInterval(long appendSyncInterval) {
+        this.appendSyncInterval = appendSyncInterval;
+    }
+
+    public boolean isAppendSyncWait() {
+        return appendSyncWait;
+    }
+
+    /**
+     * Sets whether the exchange should first be completed when its data has been synced to disk,
+     * when using <tt>appendKeepOpen</tt>. If no <tt>appendSyncInterval</tt> is set, then the data
+     * is synced right away.
+     */
+    public void setAppendSyncWait(boolean appendSyncWait) {
+        this.appendSyncWait = appendSyncWait;
+    }
 }
@@ -314,7 +314,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             log.trace("Retrieving file: {} from: {}", name, endpoint);
 
             // retrieve the file and check it was a success
-            boolean retrieved = operations.retrieveFile(name, exchange);
+            boolean retrieved = retrieveFile(name, exchange);
             if (!retrieved) {
                 // throw exception to handle the problem with retrieving the file
                 // then if the method return false or throws an exception is handled the same in here
@@ -354,6 +354,21 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         }
     }
 
+    /**
+     * Retrieves the file content into the exchange.
+     * <p/>
+     * Can be overridden if the file content is retrieved in another way, for example if the file
+     * has already been retrieved in advance.
+     *
+     * @param name     the absolute name of the file
+     * @param exchange the exchange
+     * @return <tt>true</tt> if the file was retrieved, <tt>false</tt> otherwise
+     * @throws Exception is thrown if error retrieving the file
+     */
+    protected boolean retrieveFile(String name, Exchange exchange) throws Exception {
+        return operations.retrieveFile(name, exchange);
+    }
+
     /**
      * Processes the exchange using a custom processor.
      *
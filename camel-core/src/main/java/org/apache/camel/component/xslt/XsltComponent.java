@@ -17,6 +17,7 @@
 package org.apache.camel.component.xslt;
 
 import java.util.Map;
+import javax.xml.transform.Templates;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.URIResolver;
 
@@ -26,6 +27,7 @@ import org.apache.camel.builder.xml.XsltBuilder;
 import org.apache.camel.builder.xml.XsltUriResolver;
 import org.apache.camel.converter.jaxp.XmlConverter;
 import org.apache.camel.impl.DefaultComponent;
+import org.apache.camel.util.LRUCache;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.ResourceHelper;
 import org.slf4j.Logger;
@@ -34,12 +36,21 @@ import org.slf4j.LoggerFactory;
 /**
  * An <a href="http://camel.apache.org/xslt.html">XSLT Component</a>
  * for performing XSLT transforms of messages
+ * <p/>
+ * The compiled stylesheets are cached in the component, and shared among all the endpoints
+ * which uses the same stylesheet resource, so each stylesheet is only compiled once per
+ * {@link org.apache.camel.CamelContext} until the resource is modified. At most 1000 stylesheets
+ * are cached, where the least recently used is evicted.
  */
 public class XsltComponent extends DefaultComponent {
     private static final transient Logger LOG = LoggerFactory.getLogger(XsltComponent.class);
+    // the options which affects how the stylesheet is compiled, so the stylesheet cannot be shared with other endpoints
+    private static final String[] TEMPLATES_OPTIONS = {"errorListener", "uriResolver", "template", "transformerSource",
+        "transformerFile", "transformerURL", "transformerInputStream"};
     private XmlConverter xmlConverter;
     private URIResolver uriResolver;
     private boolean contentCache = true;
+    private final Map<String, CachedTemplates> templatesCache = new LRUCache<String, CachedTemplates>(1000);
 
     public XmlConverter getXmlConverter() {
         return xmlConverter;
@@ -91,7 +102,9 @@ public class XsltComponent extends DefaultComponent {
             }
         }
 
+        boolean customFactory = false;
         if (parameters.get("transformerFactory") != null) {
+            customFactory = true;
             factory = resolveAndRemoveReferenceParameter(parameters, "transformerFactory", TransformerFactory.class);
         }
 
@@ -117,6 +130,12 @@ public class XsltComponent extends DefaultComponent {
         // default to use the cache option from the component if the endpoint did not have the contentCache parameter
         boolean cache = getAndRemoveParameter(parameters, "contentCache", Boolean.class, contentCache);
 
+        boolean configured = false;
+        for (String option : TEMPLATES_OPTIONS) {
+            if (parameters.containsKey(option)) {
+                configured = true;
+            }
+        }
         configureXslt(xslt, uri, remaining, parameters);
 
         // if its a http uri, then append additional parameters as they are part of the uri
@@ -126,6 +145,9 @@ public class XsltComponent extends DefaultComponent {
 
         // lookup custom resolver to use
         URIResolver resolver = resolveAndRemoveReferenceParameter(parameters, "uriResolver", URIResolver.class);
+        // the compiled stylesheet can only be shared with other endpoints if its not using
+        // a custom converter, factory, resolver or other options which is specific for this endpoint
+        boolean shared = converter == getXmlConverter() && !customFactory && !configured && resolver == null;
         if (resolver == null) {
             // not in endpoint then use component specific resolver
             resolver = getUriResolver();
@@ -137,13 +159,43 @@ public class XsltComponent extends DefaultComponent {
         // set resolver before input stream as resolver is used when loading the input stream
         xslt.setUriResolver(resolver);
 
-        return new XsltEndpoint(uri, this, xslt, resourceUri, cache);
+        String templatesKey = null;
+        if (shared) {
+            templatesKey = xslt.getConverter().getTransformerFactory().getClass().getName() + ":" + resourceUri;
+        }
+
+        return new XsltEndpoint(uri, this, xslt, resourceUri, cache, templatesKey);
     }
 
     protected void configureXslt(XsltBuilder xslt, String uri, String remaining, Map<String, Object> parameters) throws Exception {
         setProperties(xslt, parameters);
     }
 
+    /**
+     * Gets the compiled stylesheet from the cache
+     *
+     * @param key     the key of the stylesheet
+     * @param version the version of the stylesheet resource
+     * @return the compiled stylesheet, or <tt>null</tt> if not cached or the cached stylesheet is another version
+     */
+    Templates getCachedTemplates(String key, String version) {
+        CachedTemplates cached = templatesCache.get(key);
+        if (cached != null && cached.version.equals(version)) {
+            return cached.templates;
+        }
+        return null;
+    }
+
+    void putCachedTemplates(String key, String version, Templates templates) {
+        templatesCache.put(key, new CachedTemplates(version, templates));
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        templatesCache.clear();
+        super.doStop();
+    }
+
     protected void configureOutput(XsltBuilder xslt, String output) throws Exception {
         if (ObjectHelper.isEmpty(output)) {
             return;
@@ -153,6 +205,8 @@ public class XsltComponent extends DefaultComponent {
             xslt.outputString();
         } else if ("bytes".equalsIgnoreCase(output)) {
             xslt.outputBytes();
+        } else if ("streamCache".equalsIgnoreCase(output)) {
+            xslt.outputStreamCache();
         } else if ("DOM".equalsIgnoreCase(output)) {
             xslt.outputDOM();
         } else if ("file".equalsIgnoreCase(output)) {
@@ -162,4 +216,14 @@ public class XsltComponent extends DefaultComponent {
         }
     }
 
+    private static final class CachedTemplates {
+        private final String version;
+        private final Templates templates;
+
+        private CachedTemplates(String version, Templates templates) {
+            this.version = version;
+            this.templates = templates;
+        }
+    }
+
 }
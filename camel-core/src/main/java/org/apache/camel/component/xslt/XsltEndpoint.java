@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.xslt;
 
+import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
 
+import javax.xml.transform.Templates;
 import javax.xml.transform.TransformerConfigurationException;
 
 import org.apache.camel.Component;
@@ -40,14 +43,27 @@ public class XsltEndpoint extends ProcessorEndpoint {
     private XsltBuilder xslt;
     private String resourceUri;
     private boolean cacheStylesheet;
+    private String templatesKey;
     private volatile boolean cacheCleared;
 
     public XsltEndpoint(String endpointUri, Component component, XsltBuilder xslt, String resourceUri,
             boolean cacheStylesheet) throws Exception {
+        this(endpointUri, component, xslt, resourceUri, cacheStylesheet, null);
+    }
+
+    /**
+     * Creates the endpoint
+     *
+     * @param templatesKey key of the compiled stylesheet in the {@link XsltComponent} cache, or <tt>null</tt>
+     *                     to not share the compiled stylesheet with other endpoints
+     */
+    public XsltEndpoint(String endpointUri, Component component, XsltBuilder xslt, String resourceUri,
+            boolean cacheStylesheet, String templatesKey) throws Exception {
         super(endpointUri, component, xslt);
         this.xslt = xslt;
         this.resourceUri = resourceUri;
         this.cacheStylesheet = cacheStylesheet;
+        this.templatesKey = templatesKey;
         loadResource(xslt, resourceUri);
     }
 
@@ -65,11 +81,51 @@ public class XsltEndpoint extends ProcessorEndpoint {
         LOG.trace("{} loading schema resource: {}", this, resourceUri);
         // prefer to use URL over InputStream as it loads better with http
         URL url = ResourceHelper.resolveMandatoryResourceAsUrl(getCamelContext().getClassResolver(), resourceUri);
-        xslt.setTransformerURL(url);
+
+        XsltComponent component = templatesKey != null ? (XsltComponent) getComponent() : null;
+        String version = getResourceVersion(url);
+        Templates templates = null;
+        // if we cannot tell whether the resource has been modified, then only use the cached stylesheet
+        // if the stylesheet is not to be reloaded
+        if (component != null && !cacheCleared && (version != null || cacheStylesheet)) {
+            templates = component.getCachedTemplates(templatesKey, version != null ? version : "");
+        }
+
+        if (templates == null) {
+            LOG.debug("{} compiling stylesheet: {}", this, url);
+            xslt.setTransformerURL(url);
+            if (component != null) {
+                component.putCachedTemplates(templatesKey, version != null ? version : "", xslt.getTemplate());
+            }
+        } else if (templates != xslt.getTemplate()) {
+            // only set the template if changed, so the cached transformers are kept
+            xslt.setTemplate(templates);
+        }
         // now loaded so clear flag
         cacheCleared = false;
     }
 
+    /**
+     * Gets the version of the stylesheet resource, which is based on its last modified timestamp and size.
+     *
+     * @return the version, or <tt>null</tt> if not possible to tell when the resource has been modified
+     */
+    private static String getResourceVersion(URL url) {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                File file = new File(url.toURI());
+                if (file.exists()) {
+                    return file.lastModified() + ":" + file.length();
+                }
+            } catch (URISyntaxException e) {
+                // ignore
+            } catch (IllegalArgumentException e) {
+                // ignore
+            }
+        }
+        return null;
+    }
+
     public XsltEndpoint findOrCreateEndpoint(String uri, String newResourceUri) {
         String newUri = uri.replace(resourceUri, newResourceUri);
         LOG.trace("Getting endpoint with URI: {}", newUri);
@@ -113,7 +113,8 @@ public class ActiveMQUuidGenerator implements UuidGenerator {
      * @return a unique id
      */
     public String generateSanitizedId() {
-        return generateSanitizedId(generateUuid());
+        // the seed is already sanitized and the sequence is only digits
+        return generateUuid();
     }
 
     /**
@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.spi.UuidGenerator;
+
+/**
+ * {@link org.apache.camel.spi.UuidGenerator} which keeps its state as two longs, a random seed
+ * which is unique per generator, and a sequence which is incremented for each id.
+ * <p/>
+ * The id string is rendered from the two longs as fixed length hex, which is friendly for a URL
+ * or file system, so there is no need to sanitize the ids afterwards. The ids can be reserved using
+ * {@link #generateCompactUuid()}, which keeps the id as the two longs and first renders the string when used. This implementation does not
+ * use any API which may not be accessible in the cloud (such as Google App Engine).
+ */
+public class CompactUuidGenerator implements UuidGenerator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int LENGTH = 3 + 16 + 1 + 16;
+
+    private final long seed;
+    private final AtomicLong sequence = new AtomicLong(1);
+
+    public CompactUuidGenerator() {
+        this(UUID.randomUUID().getMostSignificantBits());
+    }
+
+    public CompactUuidGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String generateUuid() {
+        return toString(seed, sequence.getAndIncrement());
+    }
+
+    /**
+     * Generates the next id, which is first rendered as a String when {@link CompactUuid#toString()} is invoked.
+     */
+    public CompactUuid generateCompactUuid() {
+        return new CompactUuid(seed, sequence.getAndIncrement());
+    }
+
+    /**
+     * Renders the id from the two longs
+     *
+     * @param seed     the seed
+     * @param sequence the sequence
+     * @return the id as string
+     */
+    public static String toString(long seed, long sequence) {
+        char[] chars = new char[LENGTH];
+        chars[0] = 'I';
+        chars[1] = 'D';
+        chars[2] = '-';
+        appendHex(chars, 3, seed);
+        chars[19] = '-';
+        appendHex(chars, 20, sequence);
+        return new String(chars);
+    }
+
+    private static void appendHex(char[] chars, int offset, long value) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * An id which is kept as the two longs, and rendered as a String on demand.
+     */
+    public static final class CompactUuid {
+        private final long seed;
+        private final long sequence;
+
+        private CompactUuid(long seed, long sequence) {
+            this.seed = seed;
+            this.sequence = sequence;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CompactUuid)) {
+                return false;
+            }
+            CompactUuid that = (CompactUuid) o;
+            return seed == that.seed && sequence == that.sequence;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (seed ^ (seed >>> 32) ^ sequence ^ (sequence >>> 32));
+        }
+
+        @Override
+        public String toString() {
+            return CompactUuidGenerator.toString(seed, sequence);
+        }
+    }
+}
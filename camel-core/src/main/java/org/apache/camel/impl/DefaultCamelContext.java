@@ -36,7 +36,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.naming.Context;
-import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 
 import org.apache.camel.CamelContext;
@@ -75,11 +75,12 @@ import org.apache.camel.impl.converter.LazyLoadingTypeConverter;
 import org.apache.camel.management.DefaultManagementMBeanAssembler;
 import org.apache.camel.management.JmxSystemPropertyKeys;
 import org.apache.camel.management.ManagementStrategyFactory;
-import org.apache.camel.model.Constants;
 import org.apache.camel.model.DataFormatDefinition;
 import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.ModelHelper;
 import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.processor.interceptor.BacklogTracer;
 import org.apache.camel.processor.interceptor.Debug;
 import org.apache.camel.processor.interceptor.Delayer;
 import org.apache.camel.processor.interceptor.HandleFault;
@@ -120,11 +121,13 @@ import org.apache.camel.util.CamelContextHelper;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.EndpointHelper;
 import org.apache.camel.util.EventHelper;
+import org.apache.camel.util.LRUCache;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.ServiceHelper;
 import org.apache.camel.util.StopWatch;
 import org.apache.camel.util.TimeUtils;
 import org.apache.camel.util.URISupport;
+import org.apache.camel.util.concurrent.TimingWheelScheduledExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -136,7 +139,8 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings("deprecation")
 public class DefaultCamelContext extends ServiceSupport implements ModelCamelContext, SuspendableService {
     private final transient Logger log = LoggerFactory.getLogger(getClass());
-    private JAXBContext jaxbContext;
+    // the same uris are often used by many routes so cache the normalized uris
+    private final Map<String, String> normalizedUris = new LRUCache<String, String>(1000);
     private CamelContextNameStrategy nameStrategy = new DefaultCamelContextNameStrategy();
     private ManagementNameStrategy managementNameStrategy = new DefaultManagementNameStrategy(this);
     private String managementName;
@@ -161,6 +165,8 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     private ManagementMBeanAssembler managementMBeanAssembler;
     private AtomicBoolean managementStrategyInitialized = new AtomicBoolean(false);
     private final List<RouteDefinition> routeDefinitions = new ArrayList<RouteDefinition>();
+    // the routes added by updateRouteDefinitions as xml, so they can be compared with the updated routes
+    private final Map<RouteDefinition, String> routeDefinitionsXml = new HashMap<RouteDefinition, String>();
     private List<InterceptStrategy> interceptStrategies = new ArrayList<InterceptStrategy>();
 
     // special flags to control the first startup which can are special
@@ -171,6 +177,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     private Boolean trace = Boolean.FALSE;
     private Boolean streamCache = Boolean.FALSE;
     private Boolean handleFault = Boolean.FALSE;
+    private Boolean lightweightUnitOfWork = Boolean.FALSE;
     private Boolean disableJMX = Boolean.FALSE;
     private Boolean lazyLoadTypeConverters = Boolean.FALSE;
     private Boolean useMDCLogging = Boolean.FALSE;
@@ -205,6 +212,9 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     private Debugger debugger;
     private UuidGenerator uuidGenerator = createDefaultUuidGenerator();
     private final StopWatch stopWatch = new StopWatch(false);
+    private volatile long startupServicesDuration;
+    private volatile long startupCreateRoutesDuration;
+    private volatile long startupStartRoutesDuration;
     private Date startDate;
 
     public DefaultCamelContext() {
@@ -429,7 +439,12 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         }
 
         // normalize uri so we can do endpoint hits with minor mistakes and parameters is not in the same order
-        uri = normalizeEndpointUri(uri);
+        String normalized = normalizedUris.get(uri);
+        if (normalized == null) {
+            normalized = normalizeEndpointUri(uri);
+            normalizedUris.put(uri, normalized);
+        }
+        uri = normalized;
 
         log.trace("Getting endpoint with normalized uri: {}", uri);
 
@@ -620,12 +635,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
 
     public synchronized RoutesDefinition loadRoutesDefinition(InputStream is) throws Exception {
         // load routes using JAXB
-        if (jaxbContext == null) {
-            // must use classloader from CamelContext to have JAXB working
-            jaxbContext = JAXBContext.newInstance(Constants.JAXB_CONTEXT_PACKAGES, CamelContext.class.getClassLoader());
-        }
-
-        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        Unmarshaller unmarshaller = ModelHelper.getJAXBContext().createUnmarshaller();
         Object result = unmarshaller.unmarshal(is);
 
         if (result == null) {
@@ -673,6 +683,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
             RouteDefinition route = iter.next();
             if (route.idOrCreate(nodeIdFactory).equals(key)) {
                 iter.remove();
+                routeDefinitionsXml.remove(route);
                 answer = true;
             }
         }
@@ -681,6 +692,7 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
 
     public synchronized void removeRouteDefinitions(Collection<RouteDefinition> routeDefinitions) throws Exception {
         this.routeDefinitions.removeAll(routeDefinitions);
+        this.routeDefinitionsXml.keySet().removeAll(routeDefinitions);
         for (RouteDefinition routeDefinition : routeDefinitions) {
             removeRouteDefinition(routeDefinition);
         }
@@ -692,6 +704,74 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         removeRoute(id);
     }
 
+    public synchronized int updateRouteDefinitions(Collection<RouteDefinition> routeDefinitions) throws Exception {
+        int count = 0;
+        for (RouteDefinition routeDefinition : routeDefinitions) {
+            String id = routeDefinition.idOrCreate(nodeIdFactory);
+            routeDefinition.prepare(this);
+            String xml = dumpRouteDefinition(routeDefinition);
+
+            RouteDefinition existing = getRouteDefinition(id);
+            if (existing != null && xml != null && xml.equals(routeDefinitionsXml.get(existing))) {
+                log.debug("Route: {} is unchanged and will not be updated", id);
+                continue;
+            }
+
+            updateRouteDefinition(id, routeDefinition);
+            if (xml != null) {
+                // remember the route as xml so we can detect if the route is changed on the next update
+                routeDefinitionsXml.put(routeDefinition, xml);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the route with the given id with the new route definition.
+     * <p/>
+     * The new route is created before the existing route is stopped, so the existing route is only stopped
+     * for as short time as possible, and its endpoints are kept warm for the new route.
+     */
+    protected synchronized void updateRouteDefinition(String id, RouteDefinition routeDefinition) throws Exception {
+        RouteService existing = routeServices.get(id);
+        if (existing == null || !shouldStartRoutes()) {
+            addRouteDefinition(routeDefinition);
+            return;
+        }
+
+        RouteService routeService;
+        isStartingRoutes.set(true);
+        try {
+            List<Route> routes = new ArrayList<Route>();
+            List<RouteContext> routeContexts = routeDefinition.addRoutes(this, routes);
+            routeService = new RouteService(this, routeDefinition, routeContexts, routes);
+        } finally {
+            isStartingRoutes.remove();
+        }
+
+        existing.setShutdownEndpoints(false);
+        stopRoute(id);
+        removeRoute(id);
+
+        routeDefinitions.add(routeDefinition);
+        startRouteService(routeService, true);
+    }
+
+    /**
+     * Dumps the route definition as XML, before the route is created (as creating the route assigns ids to the nodes).
+     *
+     * @return the xml, or <tt>null</tt> if the route cannot be dumped as XML
+     */
+    private String dumpRouteDefinition(RouteDefinition routeDefinition) {
+        try {
+            return ModelHelper.dumpModelAsXml(routeDefinition);
+        } catch (JAXBException e) {
+            log.debug("Cannot dump route: " + routeDefinition.getId() + " as XML, the route will always be updated. Caused by: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
     public ServiceStatus getRouteStatus(String key) {
         RouteService routeService = routeServices.get(key);
         if (routeService != null) {
@@ -718,6 +798,28 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         }
     }
 
+    /**
+     * Gets the time in millis it took to start the services when this context was last started.
+     */
+    public long getStartupServicesDuration() {
+        return startupServicesDuration;
+    }
+
+    /**
+     * Gets the time in millis it took to create the routes from the route definitions
+     * (which resolves endpoints and languages) when this context was last started.
+     */
+    public long getStartupCreateRoutesDuration() {
+        return startupCreateRoutesDuration;
+    }
+
+    /**
+     * Gets the time in millis it took to start the routes when this context was last started.
+     */
+    public long getStartupStartRoutesDuration() {
+        return startupStartRoutesDuration;
+    }
+
     public boolean isStartingRoutes() {
         Boolean answer = isStartingRoutes.get();
         return answer != null && answer;
@@ -1220,6 +1322,14 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         this.handleFault = handleFault;
     }
 
+    public Boolean isLightweightUnitOfWork() {
+        return lightweightUnitOfWork != null && lightweightUnitOfWork;
+    }
+
+    public void setLightweightUnitOfWork(Boolean lightweightUnitOfWork) {
+        this.lightweightUnitOfWork = lightweightUnitOfWork;
+    }
+
     public Long getDelayer() {
         return delay;
     }
@@ -1434,6 +1544,8 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
     }
 
     private void doStartCamel() throws Exception {
+        StopWatch watch = new StopWatch();
+
         if (isStreamCaching()) {
             // only add a new stream cache if not already configured
             if (StreamCaching.getStreamCaching(this) == null) {
@@ -1531,16 +1643,30 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         addService(shutdownStrategy);
         addService(packageScanClassResolver);
 
+        // the backlog tracer keeps traced messages which we want to manage
+        BacklogTracer backlogTracer = BacklogTracer.getBacklogTracer(this);
+        if (backlogTracer != null && !hasService(backlogTracer)) {
+            addService(backlogTracer);
+        }
+
         startServices(components.values());
 
         // setup default thread pool for error handler
         if (errorHandlerExecutorService == null || errorHandlerExecutorService.isShutdown()) {
-            errorHandlerExecutorService = getExecutorServiceManager().newDefaultScheduledThreadPool(this, "ErrorHandlerRedeliveryTask");
+            // the delayed redeliveries are kept in a timing wheel which scales to a large number of pending redeliveries
+            ScheduledExecutorService pool = getExecutorServiceManager().newDefaultScheduledThreadPool(this, "ErrorHandlerRedeliveryTask");
+            errorHandlerExecutorService = new TimingWheelScheduledExecutorService(pool);
         }
 
+        startupServicesDuration = watch.stop();
+        watch.restart();
+
         // start the route definitions before the routes is started
         startRouteDefinitions(routeDefinitions);
 
+        startupCreateRoutesDuration = watch.stop();
+        watch.restart();
+
         // start routes
         if (doNotStartRoutesOnFirstStart) {
             log.debug("Skip starting of routes as CamelContext has been configured with autoStartup=false");
@@ -1549,6 +1675,10 @@ public class DefaultCamelContext extends ServiceSupport implements ModelCamelCon
         // invoke this logic to warmup the routes and if possible also start the routes
         doStartOrResumeRoutes(routeServices, true, !doNotStartRoutesOnFirstStart, false, true);
 
+        startupStartRoutesDuration = watch.stop();
+        log.debug("Started services in {} millis, created routes in {} millis, and started routes in {} millis",
+                new Object[]{startupServicesDuration, startupCreateRoutesDuration, startupStartRoutesDuration});
+
         // starting will continue in the start method
     }
 
@@ -16,6 +16,11 @@
  */
 package org.apache.camel.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -23,27 +28,46 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.spi.RouteContext;
+import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.ServiceSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Default implement which just uses a counter
+ * Default implementation which uses counters, and keeps track of when each of the inflight exchanges was started,
+ * so the exchanges which has been inflight for the longest time can be found.
+ * <p/>
+ * The inflight exchanges are kept in a {@link ConcurrentHashMap} which uses lock striping, and only the start time
+ * is stored per exchange. At most <tt>maxTrackedExchanges</tt> exchanges are tracked, when there is more
+ * inflight exchanges then they are only counted.
  *
  * @version 
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository  {
 
+    /**
+     * The upper bounds in millis of the buckets in the age histogram, the last bucket has no upper bound
+     */
+    public static final long[] AGE_HISTOGRAM_BOUNDS = {1000, 10000, 60000, 600000};
+
     private static final transient Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
     private final AtomicInteger totalCount = new AtomicInteger();
     private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<String, AtomicInteger>();
+    // the exchange is the key so exchange copies using the same exchange id are tracked independently
+    private final ConcurrentMap<Exchange, Long> inflight = new ConcurrentHashMap<Exchange, Long>();
+    private int maxTrackedExchanges = 10000;
 
     public void add(Exchange exchange) {
-        totalCount.incrementAndGet();
+        int count = totalCount.incrementAndGet();
+        if (count <= maxTrackedExchanges) {
+            inflight.put(exchange, System.currentTimeMillis());
+        }
     }
 
     public void remove(Exchange exchange) {
         totalCount.decrementAndGet();
+        inflight.remove(exchange);
     }
 
     public void add(Exchange exchange, String routeId) {
@@ -80,6 +104,77 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         return existing != null ? existing.get() : 0; 
     }
 
+    public int getMaxTrackedExchanges() {
+        return maxTrackedExchanges;
+    }
+
+    /**
+     * Sets the maximum number of inflight exchanges to keep track of, is default 10000.
+     * <p/>
+     * When there is more inflight exchanges then they are only counted.
+     */
+    public void setMaxTrackedExchanges(int maxTrackedExchanges) {
+        this.maxTrackedExchanges = maxTrackedExchanges;
+    }
+
+    /**
+     * Gets the inflight exchanges which has been inflight for the longest time, the oldest first.
+     *
+     * @param limit maximum number of exchanges to return, use a negative value to return all
+     * @return the oldest inflight exchanges
+     */
+    public List<InflightExchange> getOldestInflightExchanges(int limit) {
+        List<InflightExchange> answer = new ArrayList<InflightExchange>(inflight.size());
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Exchange, Long> entry : inflight.entrySet()) {
+            answer.add(new InflightExchange(entry.getKey(), entry.getValue(), now));
+        }
+        Collections.sort(answer, new Comparator<InflightExchange>() {
+            public int compare(InflightExchange o1, InflightExchange o2) {
+                return o1.getStartTime() < o2.getStartTime() ? -1 : (o1.getStartTime() == o2.getStartTime() ? 0 : 1);
+            }
+        });
+        if (limit >= 0 && answer.size() > limit) {
+            answer = new ArrayList<InflightExchange>(answer.subList(0, limit));
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the duration in millis of the exchange which has been inflight for the longest time.
+     *
+     * @return the duration, or <tt>0</tt> if there are no inflight exchanges
+     */
+    public long getOldestInflightDuration() {
+        long oldest = 0;
+        for (Long start : inflight.values()) {
+            if (oldest == 0 || start < oldest) {
+                oldest = start;
+            }
+        }
+        return oldest > 0 ? System.currentTimeMillis() - oldest : 0;
+    }
+
+    /**
+     * Gets the number of inflight exchanges by how long they have been inflight, using the
+     * {@link #AGE_HISTOGRAM_BOUNDS} buckets.
+     *
+     * @return the count per bucket, the last bucket contains the exchanges older than the last bound
+     */
+    public long[] getAgeHistogram() {
+        long[] answer = new long[AGE_HISTOGRAM_BOUNDS.length + 1];
+        long now = System.currentTimeMillis();
+        for (Long start : inflight.values()) {
+            long age = now - start;
+            int i = 0;
+            while (i < AGE_HISTOGRAM_BOUNDS.length && age >= AGE_HISTOGRAM_BOUNDS[i]) {
+                i++;
+            }
+            answer[i]++;
+        }
+        return answer;
+    }
+
     @Override
     protected void doStart() throws Exception {
     }
@@ -93,5 +188,68 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             LOG.debug("Shutting down with no inflight exchanges.");
         }
         routeCount.clear();
+        inflight.clear();
+    }
+
+    /**
+     * Information about an inflight exchange.
+     */
+    public static final class InflightExchange {
+        private final Exchange exchange;
+        private final long startTime;
+        private final long duration;
+
+        private InflightExchange(Exchange exchange, long startTime, long now) {
+            this.exchange = exchange;
+            this.startTime = startTime;
+            this.duration = now - startTime;
+        }
+
+        public Exchange getExchange() {
+            return exchange;
+        }
+
+        public String getExchangeId() {
+            return exchange.getExchangeId();
+        }
+
+        /**
+         * The time when the exchange was started
+         */
+        public long getStartTime() {
+            return startTime;
+        }
+
+        /**
+         * The duration in millis the exchange had been inflight, when this information was gathered
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * The id of the route the exchange is currently being routed in, or the route which created the exchange
+         * if not known
+         */
+        public String getRouteId() {
+            UnitOfWork uow = exchange.getUnitOfWork();
+            RouteContext routeContext = uow != null ? uow.getRouteContext() : null;
+            if (routeContext != null && routeContext.getRoute() != null) {
+                return routeContext.getRoute().getId();
+            }
+            return exchange.getFromRouteId();
+        }
+
+        /**
+         * The uri of the last endpoint the exchange was sent to
+         */
+        public String getLastEndpointUri() {
+            return exchange.getProperty(Exchange.TO_ENDPOINT, String.class);
+        }
+
+        @Override
+        public String toString() {
+            return "InflightExchange[" + getExchangeId() + " in route: " + getRouteId() + " for: " + duration + " millis]";
+        }
     }
 }
@@ -62,6 +62,7 @@ public class DefaultRouteContext implements RouteContext {
     private Boolean trace;
     private Boolean streamCache;
     private Boolean handleFault;
+    private Boolean lightweightUnitOfWork;
     private Long delay;
     private Boolean autoStartup = Boolean.TRUE;
     private List<RoutePolicy> routePolicyList = new ArrayList<RoutePolicy>();
@@ -277,6 +278,19 @@ public class DefaultRouteContext implements RouteContext {
         }
     }
 
+    public void setLightweightUnitOfWork(Boolean lightweightUnitOfWork) {
+        this.lightweightUnitOfWork = lightweightUnitOfWork;
+    }
+
+    public Boolean isLightweightUnitOfWork() {
+        if (lightweightUnitOfWork != null) {
+            return lightweightUnitOfWork;
+        } else {
+            // fallback to the option from camel context
+            return getCamelContext().isLightweightUnitOfWork();
+        }
+    }
+
     public void setDelayer(Long delay) {
         this.delay = delay;
     }
@@ -61,9 +61,9 @@ public class DefaultUnitOfWork implements UnitOfWork, Service {
     private CamelContext context;
     private List<Synchronization> synchronizations;
     private Message originalInMessage;
-    private final TracedRouteNodes tracedRouteNodes;
+    private TracedRouteNodes tracedRouteNodes;
     private Set<Object> transactedBy;
-    private final Stack<RouteContext> routeContextStack = new Stack<RouteContext>();
+    private final Stack<RouteContext> routeContextStack;
     private Stack<DefaultSubUnitOfWork> subUnitOfWorks;
     private final transient Logger log;
     
@@ -72,30 +72,47 @@ public class DefaultUnitOfWork implements UnitOfWork, Service {
     }
 
     protected DefaultUnitOfWork(Exchange exchange, Logger logger) {
+        this(exchange, logger, false);
+    }
+
+    /**
+     * Creates the unit of work.
+     *
+     * @param exchange    the exchange
+     * @param logger      the logger
+     * @param lightweight whether to skip copying the original message and marking the creation time, and to
+     *                    leave it to the {@link LightweightUnitOfWork} to track the route contexts
+     */
+    DefaultUnitOfWork(Exchange exchange, Logger logger, boolean lightweight) {
         log = logger;
         if (log.isTraceEnabled()) {
             log.trace("UnitOfWork created for ExchangeId: {} with {}", exchange.getExchangeId(), exchange);
         }
-        tracedRouteNodes = new DefaultTracedRouteNodes();
         context = exchange.getContext();
 
-        // TODO: Camel 3.0: the copy on facade strategy will help us here in the future
-        // TODO: optimize to only copy original message if enabled to do so in the route
-        // special for JmsMessage as it can cause it to loose headers later.
-        // This will be resolved when we get the message facade with copy on write implemented
-        if (exchange.getIn().getClass().getSimpleName().equals("JmsMessage")) {
-            this.originalInMessage = new DefaultMessage();
-            this.originalInMessage.setBody(exchange.getIn().getBody());
-            this.originalInMessage.setHeaders(exchange.getIn().getHeaders());
+        if (lightweight) {
+            // the traced route nodes is created on demand
+            routeContextStack = null;
         } else {
-            this.originalInMessage = exchange.getIn().copy();
-        }
-
-        // TODO: Optimize to only copy if useOriginalMessage has been enabled
+            tracedRouteNodes = new DefaultTracedRouteNodes();
+            routeContextStack = new Stack<RouteContext>();
+
+            // TODO: Camel 3.0: the copy on facade strategy will help us here in the future
+            // TODO: optimize to only copy original message if enabled to do so in the route
+            // special for JmsMessage as it can cause it to loose headers later.
+            // This will be resolved when we get the message facade with copy on write implemented
+            if (exchange.getIn().getClass().getSimpleName().equals("JmsMessage")) {
+                this.originalInMessage = new DefaultMessage();
+                this.originalInMessage.setBody(exchange.getIn().getBody());
+                this.originalInMessage.setHeaders(exchange.getIn().getHeaders());
+            } else {
+                this.originalInMessage = exchange.getIn().copy();
+            }
 
-        // mark the creation time when this Exchange was created
-        if (exchange.getProperty(Exchange.CREATED_TIMESTAMP) == null) {
-            exchange.setProperty(Exchange.CREATED_TIMESTAMP, new Date());
+            // mark the creation time when this Exchange was created
+            if (exchange.getProperty(Exchange.CREATED_TIMESTAMP) == null) {
+                exchange.setProperty(Exchange.CREATED_TIMESTAMP, new Date());
+            }
         }
 
         // inject breadcrumb header if enabled
@@ -160,9 +177,11 @@ public class DefaultUnitOfWork implements UnitOfWork, Service {
         if (transactedBy != null) {
             transactedBy.clear();
         }
-        synchronized (routeContextStack) {
-            if (!routeContextStack.isEmpty()) {
-                routeContextStack.clear();
+        if (routeContextStack != null) {
+            synchronized (routeContextStack) {
+                if (!routeContextStack.isEmpty()) {
+                    routeContextStack.clear();
+                }
             }
         }
         if (subUnitOfWorks != null) {
@@ -266,6 +285,9 @@ public class DefaultUnitOfWork implements UnitOfWork, Service {
     }
 
     public TracedRouteNodes getTracedRouteNodes() {
+        if (tracedRouteNodes == null) {
+            tracedRouteNodes = new DefaultTracedRouteNodes();
+        }
         return tracedRouteNodes;
     }
 
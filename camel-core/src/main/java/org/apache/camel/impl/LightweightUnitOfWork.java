@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.RouteContext;
+import org.apache.camel.spi.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lightweight {@link org.apache.camel.spi.UnitOfWork} for high rate routes.
+ * <p/>
+ * Unlike the {@link DefaultUnitOfWork} this implementation does not keep a copy of the original message,
+ * and does not set the {@link Exchange#CREATED_TIMESTAMP} property. The traced route nodes and the stack of
+ * route contexts are first created when needed, and the route contexts are tracked without locking, as an
+ * exchange is only routed by one thread at a time.
+ * <p/>
+ * As the original message is not kept, then <tt>useOriginalMessage</tt> and <tt>useOriginalBody</tt> is not
+ * supported, and {@link #getOriginalInMessage()} returns <tt>null</tt>.
+ *
+ * @see org.apache.camel.RuntimeConfiguration#setLightweightUnitOfWork(Boolean)
+ */
+public class LightweightUnitOfWork extends DefaultUnitOfWork {
+    private static final Logger LOG = LoggerFactory.getLogger(LightweightUnitOfWork.class);
+
+    // most exchanges are only routed by a single route, so keep that route context in a field
+    private RouteContext routeContext;
+    private List<RouteContext> routeContexts;
+
+    public LightweightUnitOfWork(Exchange exchange) {
+        super(exchange, LOG, true);
+    }
+
+    @Override
+    UnitOfWork newInstance(Exchange exchange) {
+        return new LightweightUnitOfWork(exchange);
+    }
+
+    @Override
+    public void stop() throws Exception {
+        super.stop();
+        routeContext = null;
+        routeContexts = null;
+    }
+
+    @Override
+    public RouteContext getRouteContext() {
+        return routeContext;
+    }
+
+    @Override
+    public void pushRouteContext(RouteContext routeContext) {
+        if (this.routeContext != null) {
+            if (routeContexts == null) {
+                routeContexts = new ArrayList<RouteContext>();
+            }
+            routeContexts.add(this.routeContext);
+        }
+        this.routeContext = routeContext;
+    }
+
+    @Override
+    public RouteContext popRouteContext() {
+        RouteContext answer = routeContext;
+        if (routeContexts != null && !routeContexts.isEmpty()) {
+            routeContext = routeContexts.remove(routeContexts.size() - 1);
+        } else {
+            routeContext = null;
+        }
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return "LightweightUnitOfWork";
+    }
+}
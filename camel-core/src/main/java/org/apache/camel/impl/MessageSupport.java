@@ -20,6 +20,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.UuidGenerator;
 
 /**
  * A base class for implementation inheritance providing the core
@@ -35,6 +36,9 @@ public abstract class MessageSupport implements Message {
     private Exchange exchange;
     private Object body;
     private String messageId;
+    // the message id which is shared with the copies of this message, when the copies was taken before the
+    // message id was created, so the id is only created if its actually used
+    private MessageIdHolder messageIdHolder;
 
     public Object getBody() {
         if (body == null) {
@@ -131,7 +135,7 @@ public abstract class MessageSupport implements Message {
             return;
         }
 
-        setMessageId(that.getMessageId());
+        copyMessageId(that);
         setBody(that.getBody());
         setFault(that.isFault());
 
@@ -150,6 +154,22 @@ public abstract class MessageSupport implements Message {
         }
     }
 
+    private void copyMessageId(Message that) {
+        if (that instanceof MessageSupport) {
+            MessageSupport other = (MessageSupport) that;
+            if (other.messageId == null && other.isMessageIdGenerated()) {
+                // defer creating the message id until its used, and share the same id with the other message
+                if (other.messageIdHolder == null) {
+                    other.messageIdHolder = new MessageIdHolder(other.getUuidGenerator());
+                }
+                this.messageId = null;
+                this.messageIdHolder = other.messageIdHolder;
+                return;
+            }
+        }
+        setMessageId(that.getMessageId());
+    }
+
     public Exchange getExchange() {
         return exchange;
     }
@@ -176,22 +196,48 @@ public abstract class MessageSupport implements Message {
 
     public String getMessageId() {
         if (messageId == null) {
-            messageId = createMessageId();
+            if (messageIdHolder != null) {
+                // use the same message id as the message we were copied from
+                messageId = messageIdHolder.getMessageId();
+                messageIdHolder = null;
+            } else {
+                messageId = createMessageId();
+            }
         }
         return this.messageId;
     }
 
     public void setMessageId(String messageId) {
         this.messageId = messageId;
+        this.messageIdHolder = null;
     }
 
     /**
      * Allow implementations to auto-create a messageId
      */
     protected String createMessageId() {
+        return generateMessageId(getUuidGenerator());
+    }
+
+    /**
+     * Whether the message id is created using the {@link UuidGenerator}, which allows the copies of this message
+     * to defer creating the message id until its used.
+     * <p/>
+     * Implementations which override {@link #createMessageId()} to use another message id should return
+     * <tt>false</tt>, so the copies of the message uses that message id.
+     */
+    protected boolean isMessageIdGenerated() {
+        return true;
+    }
+
+    private UuidGenerator getUuidGenerator() {
+        return exchange != null ? exchange.getContext().getUuidGenerator() : null;
+    }
+
+    private static String generateMessageId(UuidGenerator generator) {
         String uuid = null;
-        if (exchange != null) {
-            uuid = exchange.getContext().getUuidGenerator().generateUuid();
+        if (generator != null) {
+            uuid = generator.generateUuid();
         }
         // fall back to the simple UUID generator
         if (uuid == null) {
@@ -199,4 +245,33 @@ public abstract class MessageSupport implements Message {
         }
         return uuid;
     }
+
+    /**
+     * Holds the message id which is shared by a message and its copies, and which is created when first used.
+     * <p/>
+     * When using the {@link CompactUuidGenerator} the id is reserved when the copy is taken, but first
+     * rendered as a String when used.
+     */
+    private static final class MessageIdHolder {
+        private final UuidGenerator generator;
+        private final CompactUuidGenerator.CompactUuid reserved;
+        private String messageId;
+
+        private MessageIdHolder(UuidGenerator generator) {
+            if (generator instanceof CompactUuidGenerator) {
+                this.generator = null;
+                this.reserved = ((CompactUuidGenerator) generator).generateCompactUuid();
+            } else {
+                this.generator = generator;
+                this.reserved = null;
+            }
+        }
+
+        private synchronized String getMessageId() {
+            if (messageId == null) {
+                messageId = reserved != null ? reserved.toString() : generateMessageId(generator);
+            }
+            return messageId;
+        }
+    }
 }
@@ -61,6 +61,7 @@ public class RouteService extends ChildServiceSupport {
     private final List<Route> routes;
     private final String id;
     private boolean removingRoutes;
+    private boolean shutdownEndpoints = true;
     private final Map<Route, Consumer> inputs = new HashMap<Route, Consumer>();
     private final AtomicBoolean warmUpDone = new AtomicBoolean(false);
     private final AtomicBoolean endpointDone = new AtomicBoolean(false);
@@ -102,6 +103,20 @@ public class RouteService extends ChildServiceSupport {
         return inputs;
     }
 
+    public boolean isShutdownEndpoints() {
+        return shutdownEndpoints;
+    }
+
+    /**
+     * Whether to stop and shutdown the route endpoints when the route is shutdown, is default <tt>true</tt>.
+     * <p/>
+     * This is disabled when a route is being replaced by an updated route, so the endpoints are kept warm
+     * for the new route.
+     */
+    public void setShutdownEndpoints(boolean shutdownEndpoints) {
+        this.shutdownEndpoints = shutdownEndpoints;
+    }
+
     public boolean isRemovingRoutes() {
         return removingRoutes;
     }
@@ -259,7 +274,9 @@ public class RouteService extends ChildServiceSupport {
 
             // endpoints should only be stopped when Camel is shutting down
             // see more details in the warmUp method
-            ServiceHelper.stopAndShutdownServices(route.getEndpoint());
+            if (shutdownEndpoints) {
+                ServiceHelper.stopAndShutdownServices(route.getEndpoint());
+            }
             // invoke callbacks on route policy
             if (route.getRouteContext().getRoutePolicyList() != null) {
                 for (RoutePolicy routePolicy : route.getRouteContext().getRoutePolicyList()) {
@@ -16,11 +16,15 @@
  */
 package org.apache.camel.language.simple;
 
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.apache.camel.Expression;
 import org.apache.camel.IsSingleton;
 import org.apache.camel.Predicate;
 import org.apache.camel.builder.ExpressionBuilder;
 import org.apache.camel.spi.Language;
+import org.apache.camel.util.LRUCache;
 import org.apache.camel.util.ObjectHelper;
 
 /**
@@ -90,9 +94,18 @@ import org.apache.camel.util.ObjectHelper;
  */
 public class SimpleLanguage implements Language, IsSingleton {
 
+    // incremented when the function tokens are changed, so the cached expressions are parsed again
+    private static final AtomicInteger TOKENS_VERSION = new AtomicInteger();
+
     // singleton for expressions without a result type
     private static final SimpleLanguage SIMPLE = new SimpleLanguage();
 
+    // the parsed expressions and predicates are stateless, so they are cached as the same
+    // expressions are often used by many routes
+    private final Map<String, Expression> cacheExpression = new LRUCache<String, Expression>(1000);
+    private final Map<String, Predicate> cachePredicate = new LRUCache<String, Predicate>(1000);
+    private volatile int cacheTokensVersion = TOKENS_VERSION.get();
+
     protected Class<?> resultType;
     protected boolean allowEscape = true;
 
@@ -127,6 +140,18 @@ public class SimpleLanguage implements Language, IsSingleton {
     public Predicate createPredicate(String expression) {
         ObjectHelper.notNull(expression, "expression");
 
+        clearCacheIfTokensChanged();
+        Predicate answer = allowEscape ? cachePredicate.get(expression) : null;
+        if (answer == null) {
+            answer = doCreatePredicate(expression);
+            if (allowEscape) {
+                cachePredicate.put(expression, answer);
+            }
+        }
+        return answer;
+    }
+
+    private Predicate doCreatePredicate(String expression) {
         // support old simple language syntax
         @SuppressWarnings("deprecation")
         Predicate answer = SimpleBackwardsCompatibleParser.parsePredicate(expression, allowEscape);
@@ -141,6 +166,21 @@ public class SimpleLanguage implements Language, IsSingleton {
     public Expression createExpression(String expression) {
         ObjectHelper.notNull(expression, "expression");
 
+        clearCacheIfTokensChanged();
+        Expression answer = allowEscape ? cacheExpression.get(expression) : null;
+        if (answer == null) {
+            answer = doCreateExpression(expression);
+            if (allowEscape) {
+                cacheExpression.put(expression, answer);
+            }
+        }
+        if (resultType != null) {
+            answer = ExpressionBuilder.convertToExpression(answer, resultType);
+        }
+        return answer;
+    }
+
+    private Expression doCreateExpression(String expression) {
         // support old simple language syntax
         @SuppressWarnings("deprecation")
         Expression answer = SimpleBackwardsCompatibleParser.parseExpression(expression, allowEscape);
@@ -149,12 +189,18 @@ public class SimpleLanguage implements Language, IsSingleton {
             SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape);
             answer = parser.parseExpression();
         }
-        if (resultType != null) {
-            answer = ExpressionBuilder.convertToExpression(answer, resultType);
-        }
         return answer;
     }
 
+    private void clearCacheIfTokensChanged() {
+        int version = TOKENS_VERSION.get();
+        if (cacheTokensVersion != version) {
+            cacheExpression.clear();
+            cachePredicate.clear();
+            cacheTokensVersion = version;
+        }
+    }
+
     public static Expression simple(String expression) {
         return SIMPLE.createExpression(expression);
     }
@@ -177,6 +223,8 @@ public class SimpleLanguage implements Language, IsSingleton {
      */
     public static void changeFunctionStartToken(String... startToken) {
         SimpleTokenizer.changeFunctionStartToken(startToken);
+        // the cached expressions was parsed using the old tokens
+        TOKENS_VERSION.incrementAndGet();
     }
     
     /**
@@ -191,6 +239,8 @@ public class SimpleLanguage implements Language, IsSingleton {
      */
     public static void changeFunctionEndToken(String... endToken) {
         SimpleTokenizer.changeFunctionEndToken(endToken);
+        // the cached expressions was parsed using the old tokens
+        TOKENS_VERSION.incrementAndGet();
     }
 
     /**
@@ -32,6 +32,7 @@ import org.apache.camel.Route;
 import org.apache.camel.Service;
 import org.apache.camel.builder.ErrorHandlerBuilderRef;
 import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.interceptor.BacklogTracer;
 import org.apache.camel.spi.EventNotifier;
 import org.apache.camel.spi.InterceptStrategy;
 import org.apache.camel.spi.ManagementNamingStrategy;
@@ -203,7 +204,7 @@ public class DefaultManagementNamingStrategy implements ManagementNamingStrategy
         buffer.append(KEY_CONTEXT + "=").append(getContextId(context)).append(",");
         buffer.append(KEY_TYPE + "=" + TYPE_TRACER + ",");
         buffer.append(KEY_NAME + "=")
-            .append("Tracer")
+            .append(tracer instanceof BacklogTracer ? "BacklogTracer" : "Tracer")
             .append("(").append(ObjectHelper.getIdentityHashCode(tracer)).append(")");
         return createObjectName(buffer);
     }
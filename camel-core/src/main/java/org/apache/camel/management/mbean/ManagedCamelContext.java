@@ -17,7 +17,10 @@
 package org.apache.camel.management.mbean;
 
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,10 +40,12 @@ import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedCamelContextMBean;
 import org.apache.camel.api.management.mbean.ManagedProcessorMBean;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelHelper;
 import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.util.StopWatch;
 
 /**
  * @version 
@@ -49,6 +54,11 @@ import org.apache.camel.model.RoutesDefinition;
 public class ManagedCamelContext extends ManagedPerformanceCounter implements TimerListener, ManagedCamelContextMBean {
     private final ModelCamelContext context;   
     private final LoadTriplet load = new LoadTriplet();
+    private volatile long lastRoutesUpdateDuration;
+    private volatile int lastRoutesUpdateCount;
+    // the hash of the xml of the last update of routes, and the routes it created
+    private volatile String lastRoutesXmlHash;
+    private volatile List<RouteDefinition> lastRoutesXmlRoutes;
 
     public ManagedCamelContext(ModelCamelContext context) {
         this.context = context;
@@ -135,6 +145,35 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         return String.format("%.2f", load.getLoad15());
     }
 
+    public Long getLastRoutesUpdateDuration() {
+        return lastRoutesUpdateDuration;
+    }
+
+    public Integer getLastRoutesUpdateCount() {
+        return lastRoutesUpdateCount;
+    }
+
+    public Long getStartupServicesDuration() {
+        if (context instanceof DefaultCamelContext) {
+            return ((DefaultCamelContext) context).getStartupServicesDuration();
+        }
+        return null;
+    }
+
+    public Long getStartupCreateRoutesDuration() {
+        if (context instanceof DefaultCamelContext) {
+            return ((DefaultCamelContext) context).getStartupCreateRoutesDuration();
+        }
+        return null;
+    }
+
+    public Long getStartupStartRoutesDuration() {
+        if (context instanceof DefaultCamelContext) {
+            return ((DefaultCamelContext) context).getStartupStartRoutesDuration();
+        }
+        return null;
+    }
+
     @Override
     public void onTimer() {
         load.update(getInflightExchanges());
@@ -236,6 +275,53 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         context.addRouteDefinitions(def.getRoutes());
     }
 
+    public int updateRoutesFromXml(String xml) throws Exception {
+        StopWatch watch = new StopWatch();
+
+        // if its the same xml as last time, and its routes are still in use, then there is nothing to update
+        // and we can skip the unmarshalling of the xml
+        String hash = hashXml(xml);
+        List<RouteDefinition> routes = lastRoutesXmlRoutes;
+        if (hash.equals(lastRoutesXmlHash) && routes != null
+                && new HashSet<RouteDefinition>(context.getRouteDefinitions()).containsAll(routes)) {
+            lastRoutesUpdateCount = 0;
+            lastRoutesUpdateDuration = watch.stop();
+            return 0;
+        }
+
+        // convert to model from xml
+        InputStream is = context.getTypeConverter().mandatoryConvertTo(InputStream.class, xml);
+        RoutesDefinition def = context.loadRoutesDefinition(is);
+        if (def == null) {
+            return 0;
+        }
+
+        // only the changed routes are updated
+        int count = context.updateRouteDefinitions(def.getRoutes());
+
+        // remember the routes which are in use for the xml (the unchanged routes are the existing routes)
+        routes = new ArrayList<RouteDefinition>(def.getRoutes().size());
+        for (RouteDefinition route : def.getRoutes()) {
+            routes.add(context.getRouteDefinition(route.getId()));
+        }
+        lastRoutesXmlRoutes = routes;
+        lastRoutesXmlHash = hash;
+
+        lastRoutesUpdateCount = count;
+        lastRoutesUpdateDuration = watch.stop();
+        return count;
+    }
+
+    private static String hashXml(String xml) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-1");
+        byte[] hash = digest.digest(xml.getBytes("UTF-8"));
+        StringBuilder sb = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            sb.append(Integer.toHexString((b & 0xFF) | 0x100).substring(1));
+        }
+        return sb.toString();
+    }
+
     @Override
     public String dumpRoutesStatsAsXml(boolean fullStats, boolean includeProcessors) throws Exception {
         StringBuilder sb = new StringBuilder();
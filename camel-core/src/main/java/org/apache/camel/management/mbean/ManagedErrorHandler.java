@@ -101,6 +101,24 @@ public class ManagedErrorHandler implements ManagedErrorHandlerMBean {
         return redelivery.getDeadLetterUri();
     }
 
+    public Integer getPendingRedeliveries() {
+        if (!isSupportRedelivery()) {
+            return null;
+        }
+
+        RedeliveryErrorHandler redelivery = (RedeliveryErrorHandler) errorHandler;
+        return redelivery.getPendingRedeliveries();
+    }
+
+    public Long getPendingRedeliveriesMeanAge() {
+        if (!isSupportRedelivery()) {
+            return null;
+        }
+
+        RedeliveryErrorHandler redelivery = (RedeliveryErrorHandler) errorHandler;
+        return redelivery.getPendingRedeliveriesMeanAge();
+    }
+
     public Integer getMaximumRedeliveries() {
         if (!isSupportRedelivery()) {
             return null;
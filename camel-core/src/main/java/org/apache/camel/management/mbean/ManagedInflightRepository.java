@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedInflightRepositoryMBean;
+import org.apache.camel.impl.DefaultInflightRepository;
+
+/**
+ * @version 
+ */
+@ManagedResource(description = "Managed InflightRepository")
+public class ManagedInflightRepository extends ManagedService implements ManagedInflightRepositoryMBean {
+    private final DefaultInflightRepository inflightRepository;
+
+    public ManagedInflightRepository(CamelContext context, DefaultInflightRepository inflightRepository) {
+        super(context, inflightRepository);
+        this.inflightRepository = inflightRepository;
+    }
+
+    public DefaultInflightRepository getInflightRepository() {
+        return inflightRepository;
+    }
+
+    public Integer getSize() {
+        return inflightRepository.size();
+    }
+
+    public Integer getMaxTrackedExchanges() {
+        return inflightRepository.getMaxTrackedExchanges();
+    }
+
+    public Long getOldestInflightDuration() {
+        return inflightRepository.getOldestInflightDuration();
+    }
+
+    public Integer size(String routeId) {
+        return inflightRepository.size(routeId);
+    }
+
+    public String dumpOldestInflightExchanges(int limit) {
+        StringBuilder sb = new StringBuilder();
+        for (DefaultInflightRepository.InflightExchange inflight : inflightRepository.getOldestInflightExchanges(limit)) {
+            sb.append(inflight.getExchangeId())
+                .append(" route: ").append(inflight.getRouteId())
+                .append(" endpoint: ").append(inflight.getLastEndpointUri())
+                .append(" duration: ").append(inflight.getDuration()).append(" millis\n");
+        }
+        return sb.toString();
+    }
+
+    public String dumpInflightAgeHistogram() {
+        long[] bounds = DefaultInflightRepository.AGE_HISTOGRAM_BOUNDS;
+        long[] histogram = inflightRepository.getAgeHistogram();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < histogram.length; i++) {
+            if (i < bounds.length) {
+                sb.append("< ").append(bounds[i]).append(" millis: ");
+            } else {
+                sb.append(">= ").append(bounds[i - 1]).append(" millis: ");
+            }
+            sb.append(histogram[i]).append("\n");
+        }
+        return sb.toString();
+    }
+
+}
@@ -76,6 +76,20 @@ public interface ModelCamelContext extends CamelContext {
      */
     void addRouteDefinition(RouteDefinition routeDefinition) throws Exception;
 
+    /**
+     * Updates the context with the given route definitions, by only rebuilding the routes which has changed.
+     * <p/>
+     * Routes which are not already in the context are added, and existing routes with the same route id
+     * are only replaced if their definition has changed. Unchanged routes keep running without any pause,
+     * and routes in the context which are not part of the given route definitions are left as is.
+     * Therefore the route definitions should have an explicit route id assigned.
+     *
+     * @param routeDefinitions the route(s) definition to update
+     * @return the number of routes which was added or replaced
+     * @throws Exception if the route definitions could not be updated for whatever reason
+     */
+    int updateRouteDefinitions(Collection<RouteDefinition> routeDefinitions) throws Exception;
+
     /**
      * Removes a collection of route definitions from the context - stopping any previously running
      * routes if any of them are actively running
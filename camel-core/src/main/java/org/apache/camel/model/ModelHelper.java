@@ -31,10 +31,31 @@ import org.apache.camel.NamedNode;
  */
 public final class ModelHelper {
 
+    private static volatile JAXBContext jaxbContext;
+
     private ModelHelper() {
         // utility class
     }
 
+    /**
+     * Gets the JAXB context for the Camel model.
+     * <p/>
+     * Creating the JAXB context is expensive, so the context is created once and shared,
+     * as a JAXB context is thread safe.
+     *
+     * @return the JAXB context
+     * @throws JAXBException is thrown if error creating the JAXB context
+     */
+    public static JAXBContext getJAXBContext() throws JAXBException {
+        JAXBContext answer = jaxbContext;
+        if (answer == null) {
+            // must use classloader from CamelContext to have JAXB working
+            answer = JAXBContext.newInstance(Constants.JAXB_CONTEXT_PACKAGES, CamelContext.class.getClassLoader());
+            jaxbContext = answer;
+        }
+        return answer;
+    }
+
     /**
      * Dumps the definition as XML
      *
@@ -43,11 +64,7 @@ public final class ModelHelper {
      * @throws JAXBException is throw if error marshalling to XML
      */
     public static String dumpModelAsXml(NamedNode definition) throws JAXBException {
-        // create a new jaxb context
-        // must use classloader from CamelContext to have JAXB working
-        JAXBContext jaxbContext = JAXBContext.newInstance(Constants.JAXB_CONTEXT_PACKAGES, CamelContext.class.getClassLoader());
-
-        Marshaller marshaller = jaxbContext.createMarshaller();
+        Marshaller marshaller = getJAXBContext().createMarshaller();
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
         StringWriter buffer = new StringWriter();
         marshaller.marshal(definition, buffer);
@@ -64,12 +81,8 @@ public final class ModelHelper {
      * @throws javax.xml.bind.JAXBException is thrown if error unmarshalling from xml to model
      */
     public static <T extends NamedNode> T createModelFromXml(String xml, Class<T> type) throws JAXBException {
-        // create a new jaxb context
-        // must use classloader from CamelContext to have JAXB working
-        JAXBContext jaxbContext = JAXBContext.newInstance(Constants.JAXB_CONTEXT_PACKAGES, CamelContext.class.getClassLoader());
-
         StringReader reader = new StringReader(xml);
-        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        Unmarshaller unmarshaller = getJAXBContext().createUnmarshaller();
         Object result = unmarshaller.unmarshal(reader);
         reader.close();
 
@@ -135,6 +135,11 @@ public class OnCompletionDefinition extends ProcessorDefinition<OnCompletionDefi
 
         // should be false by default
         boolean original = getUseOriginalMessagePolicy() != null ? getUseOriginalMessagePolicy() : false;
+        if (original && Boolean.TRUE.equals(routeContext.isLightweightUnitOfWork())) {
+            // the lightweight unit of work does not keep the original message
+            throw new IllegalArgumentException("The useOriginalBody option is not supported with the lightweight UnitOfWork on route: "
+                    + routeContext.getRoute().getId());
+        }
         OnCompletionProcessor answer = new OnCompletionProcessor(routeContext.getCamelContext(), childProcessor,
                 threadPool, shutdownThreadPool, isOnCompleteOnly(), isOnFailureOnly(), when, original);
         return answer;
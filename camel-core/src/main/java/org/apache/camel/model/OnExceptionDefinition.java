@@ -452,6 +452,17 @@ public class OnExceptionDefinition extends ProcessorDefinition<OnExceptionDefini
         return this;
     }
 
+    /**
+     * Use synchronous delayed redelivery, which blocks the current thread while waiting.
+     *
+     * @see org.apache.camel.processor.RedeliveryPolicy#setAsyncDelayedRedelivery(boolean)
+     * @return the builder
+     */
+    public OnExceptionDefinition syncDelayedRedelivery() {
+        getOrCreateRedeliveryPolicy().syncDelayedRedelivery();
+        return this;
+    }
+
     /**
      * Sets the logging level to use when retries has exhausted
      *
@@ -91,9 +91,7 @@ public class RedeliveryPolicyDefinition {
                 answer.setRedeliveryDelay(CamelContextHelper.parseLong(context, redeliveryDelay));
             }
             if (asyncDelayedRedelivery != null) {
-                if (CamelContextHelper.parseBoolean(context, asyncDelayedRedelivery)) {
-                    answer.asyncDelayedRedelivery();
-                }
+                answer.setAsyncDelayedRedelivery(CamelContextHelper.parseBoolean(context, asyncDelayedRedelivery));
             }
             if (retriesExhaustedLogLevel != null) {
                 answer.setRetriesExhaustedLogLevel(retriesExhaustedLogLevel);
@@ -165,6 +163,14 @@ public class RedeliveryPolicyDefinition {
         return this;
     }
 
+    /**
+     * Use synchronous delayed redelivery, which blocks the current thread while waiting.
+     */
+    public RedeliveryPolicyDefinition syncDelayedRedelivery() {
+        setAsyncDelayedRedelivery("false");
+        return this;
+    }
+
     /**
      * Sets the back off multiplier
      *
@@ -507,7 +513,7 @@ public class RedeliveryPolicyDefinition {
 
     public boolean isAsyncDelayedRedelivery(CamelContext context) {
         if (getAsyncDelayedRedelivery() == null) {
-            return false;
+            return true;
         }
 
         try {
@@ -68,6 +68,7 @@ public class RouteDefinition extends ProcessorDefinition<RouteDefinition> {
     private String streamCache;
     private String trace;
     private String handleFault;
+    private String lightweightUnitOfWork;
     private String delayer;
     private String autoStartup;
     private Integer startupOrder;
@@ -411,6 +412,17 @@ public class RouteDefinition extends ProcessorDefinition<RouteDefinition> {
         return this;
     }
 
+    /**
+     * Use a lightweight unit of work for this route, which does not keep a copy of the original message
+     * and therefore does not support <tt>useOriginalMessage</tt>.
+     *
+     * @return the builder
+     */
+    public RouteDefinition lightweightUnitOfWork() {
+        setLightweightUnitOfWork("true");
+        return this;
+    }
+
     /**
      * Disable delayer for this route.
      *
@@ -614,6 +626,15 @@ public class RouteDefinition extends ProcessorDefinition<RouteDefinition> {
         this.handleFault = handleFault;
     }
 
+    public String getLightweightUnitOfWork() {
+        return lightweightUnitOfWork;
+    }
+
+    @XmlAttribute
+    public void setLightweightUnitOfWork(String lightweightUnitOfWork) {
+        this.lightweightUnitOfWork = lightweightUnitOfWork;
+    }
+
     public String getDelayer() {
         return delayer;
     }
@@ -797,6 +818,15 @@ public class RouteDefinition extends ProcessorDefinition<RouteDefinition> {
             }
         }
 
+        // configure lightweight unit of work
+        if (lightweightUnitOfWork != null) {
+            Boolean isLightweightUnitOfWork = CamelContextHelper.parseBoolean(camelContext, getLightweightUnitOfWork());
+            if (isLightweightUnitOfWork != null) {
+                routeContext.setLightweightUnitOfWork(isLightweightUnitOfWork);
+                log.debug("Lightweight UnitOfWork is {} on route: {}", isLightweightUnitOfWork ? "enabled" : "disabled", getId());
+            }
+        }
+
         // configure delayer
         if (delayer != null) {
             Long delayer = CamelContextHelper.parseLong(camelContext, getDelayer());
@@ -43,6 +43,8 @@ public class BindyDataFormat extends DataFormatDefinition {
     private String classType;
     @XmlAttribute
     private String locale;
+    @XmlAttribute
+    private Boolean lazyLoad;
     @XmlTransient
     private Class<?> clazz;
 
@@ -85,6 +87,14 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.locale = locale;
     }
 
+    public Boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    public void setLazyLoad(Boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     protected DataFormat createDataFormat(RouteContext routeContext) {
         if (packages == null && (classType == null && clazz == null)) {
             throw new IllegalArgumentException("Either packages or classType must be specified");
@@ -116,6 +126,9 @@ public class BindyDataFormat extends DataFormatDefinition {
         setProperty(dataFormat, "packages", packages);
         setProperty(dataFormat, "locale", locale);
         setProperty(dataFormat, "classType", clazz);
+        if (lazyLoad != null) {
+            setProperty(dataFormat, "lazyLoad", lazyLoad);
+        }
     }
 
 }
\ No newline at end of file
@@ -45,6 +45,8 @@ public class CsvDataFormat extends DataFormatDefinition {
     private String strategyRef;
     @XmlAttribute
     private Boolean skipFirstLine;
+    @XmlAttribute
+    private Boolean lazyLoad;
 
     public CsvDataFormat() {
         super("csv");
@@ -95,6 +97,14 @@ public class CsvDataFormat extends DataFormatDefinition {
         this.skipFirstLine = skipFirstLine;
     }
 
+    public Boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    public void setLazyLoad(Boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     @Override
     protected DataFormat createDataFormat(RouteContext routeContext) {
         DataFormat csvFormat = super.createDataFormat(routeContext);
@@ -130,5 +140,9 @@ public class CsvDataFormat extends DataFormatDefinition {
         if (skipFirstLine != null) {
             setProperty(dataFormat, "skipFirstLine", skipFirstLine);
         }
+
+        if (lazyLoad != null) {
+            setProperty(dataFormat, "lazyLoad", lazyLoad);
+        }
     }
 }
\ No newline at end of file
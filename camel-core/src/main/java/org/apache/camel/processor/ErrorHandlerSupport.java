@@ -16,6 +16,9 @@
  */
 package org.apache.camel.processor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +33,8 @@ import org.apache.camel.processor.exceptionpolicy.ExceptionPolicyKey;
 import org.apache.camel.processor.exceptionpolicy.ExceptionPolicyStrategy;
 import org.apache.camel.spi.RouteContext;
 import org.apache.camel.support.ChildServiceSupport;
+import org.apache.camel.util.LRUCache;
+import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +45,17 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class ErrorHandlerSupport extends ChildServiceSupport implements ErrorHandler {
 
+    // markers used in the exception policy cache
+    private static final Object NO_EXCEPTION_POLICY = new Object();
+    private static final Object NOT_CACHEABLE = new Object();
+
     protected final transient Logger log = LoggerFactory.getLogger(getClass());
 
     protected final Map<ExceptionPolicyKey, OnExceptionDefinition> exceptionPolicies = new LinkedHashMap<ExceptionPolicyKey, OnExceptionDefinition>();
     protected ExceptionPolicyStrategy exceptionPolicy = createDefaultExceptionPolicyStrategy();
+    // the resolved exception policies by the current route and the classes of the thrown exception and its causes,
+    // there is an error handler per processor in the routes, so start with a small cache which grows when needed
+    private final Map<ExceptionPolicyCacheKey, Object> exceptionPolicyCache = new LRUCache<ExceptionPolicyCacheKey, Object>(16, 1000);
 
     public void addExceptionPolicy(RouteContext routeContext, OnExceptionDefinition exceptionType) {
         if (routeContext != null) {
@@ -67,6 +79,9 @@ public abstract class ErrorHandlerSupport extends ChildServiceSupport implements
             ExceptionPolicyKey key = new ExceptionPolicyKey(routeId, clazz, exceptionType.getOnWhen());
             exceptionPolicies.put(key, exceptionType);
         }
+
+        // the policies has changed so the cached policies is no longer valid
+        exceptionPolicyCache.clear();
     }
 
     /**
@@ -81,7 +96,60 @@ public abstract class ErrorHandlerSupport extends ChildServiceSupport implements
             throw new IllegalStateException("The exception policy has not been set");
         }
 
-        return exceptionPolicy.getExceptionPolicy(exceptionPolicies, exchange, exception);
+        if (exception == null || exceptionPolicy.getClass() != DefaultExceptionPolicyStrategy.class) {
+            // custom strategies may select the policy using the exchange or the exception details so we cannot cache
+            return exceptionPolicy.getExceptionPolicy(exceptionPolicies, exchange, exception);
+        }
+
+        // the default strategy only depends on the current route and the classes of the exception and its causes,
+        // unless there is onWhen predicates, so we can cache the resolved policy which is much faster when a lot
+        // of exchanges fails with the same exception, for example when a remote system is down
+        List<Throwable> causes = new ArrayList<Throwable>(4);
+        Iterator<Throwable> it = ObjectHelper.createExceptionIterator(exception);
+        while (it.hasNext()) {
+            causes.add(it.next());
+        }
+        RouteDefinition route = null;
+        if (exchange != null && exchange.getUnitOfWork() != null && exchange.getUnitOfWork().getRouteContext() != null) {
+            route = exchange.getUnitOfWork().getRouteContext().getRoute();
+        }
+        ExceptionPolicyCacheKey key = new ExceptionPolicyCacheKey(route, causes);
+
+        Object cached = exceptionPolicyCache.get(key);
+        if (cached == NO_EXCEPTION_POLICY) {
+            return null;
+        } else if (cached instanceof OnExceptionDefinition) {
+            return (OnExceptionDefinition) cached;
+        } else if (cached == NOT_CACHEABLE) {
+            return exceptionPolicy.getExceptionPolicy(exceptionPolicies, exchange, exception);
+        }
+
+        if (hasOnWhenCandidate(causes)) {
+            // the policy depends on the exchange so it must be resolved every time
+            exceptionPolicyCache.put(key, NOT_CACHEABLE);
+            return exceptionPolicy.getExceptionPolicy(exceptionPolicies, exchange, exception);
+        }
+
+        OnExceptionDefinition answer = exceptionPolicy.getExceptionPolicy(exceptionPolicies, exchange, exception);
+        exceptionPolicyCache.put(key, answer != null ? answer : NO_EXCEPTION_POLICY);
+        return answer;
+    }
+
+    /**
+     * Whether any of the exception policies with an onWhen predicate could handle the thrown exception or one of its causes
+     */
+    private boolean hasOnWhenCandidate(List<Throwable> causes) {
+        for (ExceptionPolicyKey key : exceptionPolicies.keySet()) {
+            if (key.getWhen() == null) {
+                continue;
+            }
+            for (Throwable cause : causes) {
+                if (key.getExceptionClass().isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -91,6 +159,7 @@ public abstract class ErrorHandlerSupport extends ChildServiceSupport implements
     public void setExceptionPolicy(ExceptionPolicyStrategy exceptionPolicy) {
         if (exceptionPolicy != null) {
             this.exceptionPolicy = exceptionPolicy;
+            exceptionPolicyCache.clear();
         }
     }
 
@@ -111,4 +180,40 @@ public abstract class ErrorHandlerSupport extends ChildServiceSupport implements
      */
     public abstract Processor getOutput();
 
+    /**
+     * Key for the cached exception policies, which is the current route and the classes of the thrown exception
+     * and its causes.
+     */
+    private static final class ExceptionPolicyCacheKey {
+        private final RouteDefinition route;
+        private final Class<?>[] classes;
+        private final int hash;
+
+        private ExceptionPolicyCacheKey(RouteDefinition route, List<Throwable> causes) {
+            this.route = route;
+            this.classes = new Class<?>[causes.size()];
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] = causes.get(i).getClass();
+            }
+            this.hash = 31 * System.identityHashCode(route) + Arrays.hashCode(classes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ExceptionPolicyCacheKey)) {
+                return false;
+            }
+            ExceptionPolicyCacheKey that = (ExceptionPolicyCacheKey) o;
+            return route == that.route && Arrays.equals(classes, that.classes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
@@ -133,10 +133,13 @@ public class OnCompletionProcessor extends ServiceSupport implements Processor,
         answer.setPattern(ExchangePattern.InOnly);
 
         if (useOriginalBody) {
-            LOG.trace("Using the original IN message instead of current");
-
             Message original = exchange.getUnitOfWork().getOriginalInMessage();
-            answer.setIn(original);
+            if (original != null) {
+                LOG.trace("Using the original IN message instead of current");
+                answer.setIn(original);
+            } else {
+                LOG.debug("The original IN message is not kept by the UnitOfWork, using the current message instead");
+            }
         }
 
         // add a header flag to indicate its a on completion exchange
@@ -17,7 +17,6 @@
 package org.apache.camel.processor;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.camel.AsyncCallback;
@@ -43,8 +42,17 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
 public class Pipeline extends MulticastProcessor implements AsyncProcessor, Traceable {
     private static final transient Logger LOG = LoggerFactory.getLogger(Pipeline.class);
 
+    // the processors converted to async processors once, so we can dispatch using a plain array
+    // instead of using an iterator and converting each processor for every exchange
+    private final AsyncProcessor[] asyncProcessors;
+
     public Pipeline(CamelContext camelContext, Collection<Processor> processors) {
         super(camelContext, processors);
+        this.asyncProcessors = new AsyncProcessor[processors.size()];
+        int i = 0;
+        for (Processor processor : processors) {
+            asyncProcessors[i++] = AsyncProcessorConverterHelper.convert(processor);
+        }
     }
 
     public static Processor newInstance(CamelContext camelContext, List<Processor> processors) {
@@ -61,23 +69,18 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
     }
 
     public boolean process(Exchange exchange, AsyncCallback callback) {
-        Iterator<Processor> processors = getProcessors().iterator();
         Exchange nextExchange = exchange;
-        boolean first = true;
+        int index = 0;
 
-        while (continueRouting(processors, nextExchange)) {
-            if (first) {
-                first = false;
-            } else {
+        while (continueRouting(index, nextExchange)) {
+            if (index > 0) {
                 // prepare for next run
                 nextExchange = createNextExchange(nextExchange);
             }
 
             // get the next processor
-            Processor processor = processors.next();
-
-            AsyncProcessor async = AsyncProcessorConverterHelper.convert(processor);
-            boolean sync = process(exchange, nextExchange, callback, processors, async);
+            AsyncProcessor async = asyncProcessors[index++];
+            boolean sync = process(exchange, nextExchange, callback, index, async);
 
             // continue as long its being processed synchronously
             if (!sync) {
@@ -108,7 +111,7 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
     }
 
     private boolean process(final Exchange original, final Exchange exchange, final AsyncCallback callback,
-                            final Iterator<Processor> processors, final AsyncProcessor asyncProcessor) {
+                            final int nextIndex, final AsyncProcessor asyncProcessor) {
         // this does the actual processing so log at trace level
         LOG.trace("Processing exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
 
@@ -123,8 +126,9 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
 
                 // continue processing the pipeline asynchronously
                 Exchange nextExchange = exchange;
-                while (continueRouting(processors, nextExchange)) {
-                    AsyncProcessor processor = AsyncProcessorConverterHelper.convert(processors.next());
+                int index = nextIndex;
+                while (continueRouting(index, nextExchange)) {
+                    AsyncProcessor processor = asyncProcessors[index++];
 
                     // check for error if so we should break out
                     if (!continueProcessing(nextExchange, "so breaking out of pipeline", LOG)) {
@@ -132,7 +136,7 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
                     }
 
                     nextExchange = createNextExchange(nextExchange);
-                    doneSync = process(original, nextExchange, callback, processors, processor);
+                    doneSync = process(original, nextExchange, callback, index, processor);
                     if (!doneSync) {
                         LOG.trace("Processing exchangeId: {} is continued being processed asynchronously", exchange.getExchangeId());
                         return;
@@ -168,7 +172,7 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
         return answer;
     }
 
-    protected boolean continueRouting(Iterator<Processor> it, Exchange exchange) {
+    protected boolean continueRouting(int index, Exchange exchange) {
         boolean answer = true;
 
         Object stop = exchange.getProperty(Exchange.ROUTE_STOP);
@@ -180,7 +184,7 @@ public class Pipeline extends MulticastProcessor implements AsyncProcessor, Trac
             }
         } else {
             // continue if there are more processors to route
-            answer = it.hasNext();
+            answer = index < asyncProcessors.length;
         }
 
         LOG.trace("ExchangeId: {} should continue routing: {}", exchange.getExchangeId(), answer);
@@ -16,7 +16,12 @@
  */
 package org.apache.camel.processor;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -65,6 +70,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
     protected final CamelLogger logger;
     protected final boolean useOriginalMessagePolicy;
     protected boolean redeliveryEnabled;
+    // the scheduled redeliveries, which are only iterated when the pending redeliveries statistics are read
+    private final Set<AsyncRedeliveryTask> pendingRedeliveries =
+            Collections.newSetFromMap(new ConcurrentHashMap<AsyncRedeliveryTask, Boolean>());
 
     /**
      * Contains the current redelivery data
@@ -98,6 +106,8 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
         private final Exchange exchange;
         private final AsyncCallback callback;
         private final RedeliveryData data;
+        private long scheduledTime;
+        private volatile Future<?> future;
 
         public AsyncRedeliveryTask(Exchange exchange, AsyncCallback callback, RedeliveryData data) {
             this.exchange = exchange;
@@ -106,6 +116,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
         }
 
         public Boolean call() throws Exception {
+            // no longer pending
+            pendingRedeliveries.remove(this);
+
             // prepare for redelivery
             prepareExchangeForRedelivery(exchange, data);
 
@@ -296,7 +309,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
                         if (log.isTraceEnabled()) {
                             log.trace("Scheduling redelivery task to run in {} millis for exchangeId: {}", data.redeliveryDelay, exchange.getExchangeId());
                         }
-                        executorService.schedule(task, data.redeliveryDelay, TimeUnit.MILLISECONDS);
+                        scheduleRedeliveryTask(task, data.redeliveryDelay);
 
                         return false;
                     } else {
@@ -450,16 +463,26 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
 
             // calculate the redelivery delay
             data.redeliveryDelay = data.currentRedeliveryPolicy.calculateRedeliveryDelay(data.redeliveryDelay, data.redeliveryCounter);
-            if (data.redeliveryDelay > 0) {
-                // schedule the redelivery task
-                if (log.isTraceEnabled()) {
-                    log.trace("Scheduling redelivery task to run in {} millis for exchangeId: {}", data.redeliveryDelay, exchange.getExchangeId());
-                }
-                executorService.schedule(task, data.redeliveryDelay, TimeUnit.MILLISECONDS);
+            if (log.isTraceEnabled()) {
+                log.trace("Scheduling redelivery task to run in {} millis for exchangeId: {}", data.redeliveryDelay, exchange.getExchangeId());
+            }
+            // schedule the redelivery task, which is executed immediately if there is no delay
+            scheduleRedeliveryTask(task, data.redeliveryDelay);
+        }
+    }
+
+    private void scheduleRedeliveryTask(AsyncRedeliveryTask task, long delay) {
+        task.scheduledTime = System.currentTimeMillis();
+        pendingRedeliveries.add(task);
+        try {
+            if (delay > 0) {
+                task.future = executorService.schedule(task, delay, TimeUnit.MILLISECONDS);
             } else {
-                // execute the task immediately
-                executorService.submit(task);
+                task.future = executorService.submit(task);
             }
+        } catch (RejectedExecutionException e) {
+            pendingRedeliveries.remove(task);
+            throw e;
         }
     }
 
@@ -550,6 +573,44 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
         return redeliveryPolicy;
     }
 
+    /**
+     * Gets the number of exchanges which are waiting for an asynchronous redelivery attempt.
+     */
+    public int getPendingRedeliveries() {
+        removeCancelledRedeliveries();
+        return pendingRedeliveries.size();
+    }
+
+    /**
+     * Gets the mean time in millis the exchanges which are waiting for an asynchronous redelivery attempt
+     * have been waiting.
+     */
+    public long getPendingRedeliveriesMeanAge() {
+        removeCancelledRedeliveries();
+        long now = System.currentTimeMillis();
+        long totalAge = 0;
+        int count = 0;
+        for (AsyncRedeliveryTask task : pendingRedeliveries) {
+            totalAge += now - task.scheduledTime;
+            count++;
+        }
+        return count > 0 ? totalAge / count : 0;
+    }
+
+    /**
+     * Removes the redeliveries which will never run, as they were cancelled, or the executor service was
+     * shutdown before they could run.
+     */
+    private void removeCancelledRedeliveries() {
+        boolean terminated = executorService != null && executorService.isTerminated();
+        for (Iterator<AsyncRedeliveryTask> it = pendingRedeliveries.iterator(); it.hasNext();) {
+            Future<?> future = it.next().future;
+            if (terminated || (future != null && future.isCancelled())) {
+                it.remove();
+            }
+        }
+    }
+
     public CamelLogger getLogger() {
         return logger;
     }
@@ -737,12 +798,16 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
 
             // prepare original IN body if it should be moved instead of current body
             if (data.useOriginalInMessage) {
-                log.trace("Using the original IN message instead of current");
                 Message original = exchange.getUnitOfWork().getOriginalInMessage();
-                exchange.setIn(original);
-                if (exchange.hasOut()) {
-                    log.trace("Removing the out message to avoid some uncertain behavior");
-                    exchange.setOut(null);
+                if (original != null) {
+                    log.trace("Using the original IN message instead of current");
+                    exchange.setIn(original);
+                    if (exchange.hasOut()) {
+                        log.trace("Removing the out message to avoid some uncertain behavior");
+                        exchange.setOut(null);
+                    }
+                } else {
+                    log.debug("The original IN message is not kept by the UnitOfWork, using the current message instead");
                 }
             }
 
@@ -1070,5 +1135,7 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport impleme
     @Override
     protected void doShutdown() throws Exception {
         ServiceHelper.stopAndShutdownServices(deadLetter, output, outputAsync);
+        // the pending redeliveries will not be run
+        pendingRedeliveries.clear();
     }
 }
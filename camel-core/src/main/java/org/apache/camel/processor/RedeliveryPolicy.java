@@ -37,7 +37,7 @@ import org.slf4j.LoggerFactory;
  *   <li>maximumRedeliveries = 0</li>
  *   <li>redeliveryDelay = 1000L (the initial delay)</li>
  *   <li>maximumRedeliveryDelay = 60 * 1000L</li>
- *   <li>asyncDelayedRedelivery = false</li>
+ *   <li>asyncDelayedRedelivery = true</li>
  *   <li>backOffMultiplier = 2</li>
  *   <li>useExponentialBackOff = false</li>
  *   <li>collisionAvoidanceFactor = 0.15d</li>
@@ -95,7 +95,7 @@ public class RedeliveryPolicy implements Cloneable, Serializable {
     protected boolean logExhausted = true;
     protected boolean logRetryAttempted = true;
     protected String delayPattern;
-    protected boolean asyncDelayedRedelivery;
+    protected boolean asyncDelayedRedelivery = true;
 
     public RedeliveryPolicy() {
     }
@@ -403,6 +403,16 @@ public class RedeliveryPolicy implements Cloneable, Serializable {
         return this;
     }
 
+    /**
+     * Use synchronous delayed redelivery, which blocks the current thread while waiting.
+     *
+     * @see #setAsyncDelayedRedelivery(boolean)
+     */
+    public RedeliveryPolicy syncDelayedRedelivery() {
+        setAsyncDelayedRedelivery(false);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -634,10 +644,11 @@ public class RedeliveryPolicy implements Cloneable, Serializable {
     /**
      * Sets whether asynchronous delayed redelivery is allowed.
      * <p/>
-     * This is disabled by default.
+     * This is enabled by default.
      * <p/>
      * When enabled it allows Camel to schedule a future task for delayed
      * redelivery which prevents current thread from blocking while waiting.
+     * When disabled the current thread sleeps until the redelivery is attempted.
      * <p/>
      * Exchange which is transacted will however always use synchronous delayed redelivery
      * because the transaction must execute in the same thread context.
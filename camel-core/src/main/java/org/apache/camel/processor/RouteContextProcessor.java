@@ -37,11 +37,20 @@ public class RouteContextProcessor extends DelegateAsyncProcessor {
 
     @Override
     protected boolean processNext(final Exchange exchange, final AsyncCallback callback) {
-        // push the current route context
-        if (exchange.getUnitOfWork() != null) {
-            exchange.getUnitOfWork().pushRouteContext(routeContext);
+        UnitOfWork current = exchange.getUnitOfWork();
+        if (current == null) {
+            return processor.process(exchange, callback);
+        }
+        if (current.getRouteContext() == routeContext && !exchange.getContext().isUseMDCLogging()) {
+            // already routing in this route context (eg the previous node in the same route pushed it)
+            // so there is no need to push and pop it again for every node in the route
+            // (MDC logging must push for every node as it sets the route id on the current thread)
+            return processor.process(exchange, callback);
         }
 
+        // push the current route context
+        current.pushRouteContext(routeContext);
+
         boolean sync = processor.process(exchange, new AsyncCallback() {
             public void done(boolean doneSync) {
                 try {
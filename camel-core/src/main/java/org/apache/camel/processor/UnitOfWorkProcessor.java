@@ -21,6 +21,7 @@ import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.impl.DefaultUnitOfWork;
+import org.apache.camel.impl.LightweightUnitOfWork;
 import org.apache.camel.impl.MDCUnitOfWork;
 import org.apache.camel.spi.RouteContext;
 import org.apache.camel.spi.UnitOfWork;
@@ -186,6 +187,8 @@ public class UnitOfWorkProcessor extends DelegateAsyncProcessor {
         UnitOfWork answer;
         if (exchange.getContext().isUseMDCLogging()) {
             answer = new MDCUnitOfWork(exchange);
+        } else if (routeContext != null ? routeContext.isLightweightUnitOfWork() : exchange.getContext().isLightweightUnitOfWork()) {
+            answer = new LightweightUnitOfWork(exchange);
         } else {
             answer = new DefaultUnitOfWork(exchange);
         }
@@ -0,0 +1,376 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.interceptor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.Predicate;
+import org.apache.camel.Processor;
+import org.apache.camel.Service;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinitionHelper;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.util.MessageHelper;
+
+/**
+ * A low overhead tracer which keeps the traced messages in memory, in a fixed size backlog per route,
+ * so the tracer can be left enabled in production.
+ * <p/>
+ * Message bodies and header values which are immutable, such as strings, numbers and booleans, are kept by
+ * reference, and first formatted when the traced messages are read, for example using JMX. Dates are copied.
+ * Other message bodies and header values are mutable, so they are converted to a string, limited to
+ * <tt>bodyMaxChars</tt> characters, when the message is traced. Stream and file message bodies are not read,
+ * so they are traced as their type only. When the backlog is full the oldest traced message is overwritten.
+ * To reduce the overhead further only a sample of the exchanges can be traced using the <tt>samplingRate</tt>
+ * option, and a {@link Predicate} can be used as filter.
+ *
+ * @version 
+ */
+public class BacklogTracer implements InterceptStrategy, Service {
+
+    private static final Comparator<BacklogTracerEventMessage> UID_COMPARATOR = new Comparator<BacklogTracerEventMessage>() {
+        public int compare(BacklogTracerEventMessage o1, BacklogTracerEventMessage o2) {
+            return o1.getUid() < o2.getUid() ? -1 : (o1.getUid() == o2.getUid() ? 0 : 1);
+        }
+    };
+
+    private final CamelContext camelContext;
+    private final ConcurrentMap<String, Backlog> backlogs = new ConcurrentHashMap<String, Backlog>();
+    private final AtomicLong traceCounter = new AtomicLong();
+    private volatile boolean enabled = true;
+    private volatile int backlogSize = 100;
+    private volatile int samplingRate = 1;
+    private volatile int bodyMaxChars = 10000;
+    private volatile boolean traceHeaders = true;
+    private Predicate traceFilter;
+
+    public BacklogTracer(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    /**
+     * A helper method to return the BacklogTracer instance if one is enabled
+     *
+     * @return the backlog tracer or null if none can be found
+     */
+    public static BacklogTracer getBacklogTracer(CamelContext context) {
+        List<InterceptStrategy> list = context.getInterceptStrategies();
+        for (InterceptStrategy interceptStrategy : list) {
+            if (interceptStrategy instanceof BacklogTracer) {
+                return (BacklogTracer) interceptStrategy;
+            }
+        }
+        return null;
+    }
+
+    public Processor wrapProcessorInInterceptors(CamelContext context, ProcessorDefinition<?> definition,
+                                                 Processor target, Processor nextTarget) throws Exception {
+        // Force the creation of an id, otherwise the id is not available when the traced messages is rendered
+        RouteDefinitionHelper.forceAssignIds(context, definition);
+        return new BacklogTracerInterceptor(this, definition, target);
+    }
+
+    /**
+     * Whether or not the given exchange should be traced.
+     * <p/>
+     * The sampling is based on the exchange id, so an exchange is either traced at all the nodes
+     * in the routes, or not at all.
+     */
+    public boolean shouldTrace(Exchange exchange) {
+        if (!enabled) {
+            return false;
+        }
+        int rate = samplingRate;
+        if (rate > 1 && (exchange.getExchangeId().hashCode() & Integer.MAX_VALUE) % rate != 0) {
+            return false;
+        }
+        return traceFilter == null || traceFilter.matches(exchange);
+    }
+
+    /**
+     * Traces the exchange at the given node, by adding the message to the backlog of the route.
+     */
+    public void traceEvent(String routeId, String toNode, Exchange exchange) {
+        Message in = exchange.getIn();
+        Map<String, Object> headers = null;
+        if (traceHeaders && in.hasHeaders()) {
+            headers = new HashMap<String, Object>(in.getHeaders().size());
+            for (Map.Entry<String, Object> entry : in.getHeaders().entrySet()) {
+                Object value = snapshot(entry.getValue());
+                headers.put(entry.getKey(), value != null ? value : String.valueOf(entry.getValue()));
+            }
+        }
+        Object body = in.getBody();
+        if (body != null) {
+            Object value = snapshot(body);
+            // do not read streams or files, as the body would then not be readable by the route afterwards
+            body = value != null ? value : MessageHelper.extractBodyForLogging(in, "", false, false, bodyMaxChars);
+        }
+        BacklogTracerEventMessage event = new BacklogTracerEventMessage(traceCounter.incrementAndGet(), System.currentTimeMillis(),
+                routeId, toNode, exchange.getExchangeId(), body, headers, bodyMaxChars);
+
+        Backlog backlog = backlogs.get(routeId);
+        if (backlog == null) {
+            backlog = new Backlog(backlogSize);
+            Backlog existing = backlogs.putIfAbsent(routeId, backlog);
+            if (existing != null) {
+                backlog = existing;
+            }
+        }
+        backlog.add(event);
+    }
+
+    /**
+     * Gets the value to keep in the traced message without formatting it
+     *
+     * @return the value, or <tt>null</tt> if the value is mutable and must be converted to a string
+     */
+    private static Object snapshot(Object value) {
+        if (value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Boolean
+                || value instanceof Double || value instanceof Float || value instanceof Short || value instanceof Byte
+                || value instanceof Character || value instanceof BigDecimal || value instanceof BigInteger
+                || value instanceof Enum) {
+            return value;
+        } else if (value instanceof Date) {
+            return new Date(((Date) value).getTime());
+        }
+        return null;
+    }
+
+    /**
+     * Gets the traced messages of the given route, ordered from the oldest to the newest.
+     *
+     * @param routeId the route id
+     * @return the traced messages, is empty if no messages has been traced
+     */
+    public List<BacklogTracerEventMessage> getTracedMessages(String routeId) {
+        Backlog backlog = backlogs.get(routeId);
+        if (backlog == null) {
+            return Collections.emptyList();
+        }
+        return backlog.snapshot();
+    }
+
+    /**
+     * Gets the traced messages of all the routes, ordered from the oldest to the newest.
+     */
+    public List<BacklogTracerEventMessage> getAllTracedMessages() {
+        List<BacklogTracerEventMessage> answer = new ArrayList<BacklogTracerEventMessage>();
+        for (Backlog backlog : backlogs.values()) {
+            answer.addAll(backlog.snapshot());
+        }
+        Collections.sort(answer, UID_COMPARATOR);
+        return answer;
+    }
+
+    /**
+     * Renders the traced messages of the given route, one line per traced message.
+     */
+    public String dumpTracedMessages(String routeId) {
+        return render(getTracedMessages(routeId));
+    }
+
+    /**
+     * Renders the traced messages of all the routes, one line per traced message.
+     */
+    public String dumpAllTracedMessages() {
+        return render(getAllTracedMessages());
+    }
+
+    /**
+     * Renders the traced message.
+     */
+    public String render(BacklogTracerEventMessage event) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(event.getUid()).append(" ");
+        sb.append(new Date(event.getTimestamp())).append(" ");
+        sb.append(event.getRouteId()).append(" --> ").append(event.getToNode());
+        sb.append(" [").append(event.getExchangeId()).append("]");
+        if (event.getHeaders() != null) {
+            sb.append(" Headers: ").append(event.getHeaders());
+        }
+        sb.append(" Body: ").append(event.getBody());
+        return sb.toString();
+    }
+
+    private String render(List<BacklogTracerEventMessage> events) {
+        StringBuilder sb = new StringBuilder();
+        for (BacklogTracerEventMessage event : events) {
+            sb.append(render(event)).append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Removes all the traced messages.
+     */
+    public void clear() {
+        backlogs.clear();
+    }
+
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBacklogSize() {
+        return backlogSize;
+    }
+
+    /**
+     * Number of traced messages to keep in the backlog per route. When the backlog is full the oldest
+     * traced message is overwritten.
+     * <p/>
+     * Changing the size clears the traced messages. The default size is 100.
+     */
+    public void setBacklogSize(int backlogSize) {
+        if (backlogSize <= 0) {
+            throw new IllegalArgumentException("The backlog size must be a positive number, was: " + backlogSize);
+        }
+        this.backlogSize = backlogSize;
+        clear();
+    }
+
+    public int getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * To only trace a sample of the exchanges, for example a rate of <tt>10</tt> traces every 10th exchange.
+     * <p/>
+     * The default is <tt>1</tt> which traces all the exchanges.
+     */
+    public void setSamplingRate(int samplingRate) {
+        if (samplingRate <= 0) {
+            throw new IllegalArgumentException("The sampling rate must be a positive number, was: " + samplingRate);
+        }
+        this.samplingRate = samplingRate;
+    }
+
+    public int getBodyMaxChars() {
+        return bodyMaxChars;
+    }
+
+    /**
+     * Maximum number of characters of the message body to show in the traced messages. Use 0 or negative value
+     * to not limit at all. Is default <tt>10000</tt>.
+     * <p/>
+     * Message bodies which are kept by reference are limited when the traced messages are read, and other
+     * message bodies are limited when they are converted to a string as the message is traced.
+     */
+    public void setBodyMaxChars(int bodyMaxChars) {
+        this.bodyMaxChars = bodyMaxChars;
+    }
+
+    public boolean isTraceHeaders() {
+        return traceHeaders;
+    }
+
+    /**
+     * Whether to keep a copy of the message headers in the traced messages. Is default <tt>true</tt>.
+     */
+    public void setTraceHeaders(boolean traceHeaders) {
+        this.traceHeaders = traceHeaders;
+    }
+
+    public Predicate getTraceFilter() {
+        return traceFilter;
+    }
+
+    /**
+     * A predicate to filter which sampled exchanges to trace.
+     */
+    public void setTraceFilter(Predicate traceFilter) {
+        this.traceFilter = traceFilter;
+    }
+
+    /**
+     * Gets the total number of traced messages, including the messages which has been overwritten in the backlog.
+     */
+    public long getTraceCounter() {
+        return traceCounter.get();
+    }
+
+    public void resetTraceCounter() {
+        traceCounter.set(0);
+    }
+
+    public void start() throws Exception {
+        // noop
+    }
+
+    public void stop() throws Exception {
+        backlogs.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "BacklogTracer";
+    }
+
+    /**
+     * A fixed size ring buffer of traced messages, which can be added to concurrently without locking.
+     */
+    private static final class Backlog {
+        private final AtomicReferenceArray<BacklogTracerEventMessage> events;
+        private final AtomicLong sequence = new AtomicLong();
+
+        private Backlog(int size) {
+            this.events = new AtomicReferenceArray<BacklogTracerEventMessage>(size);
+        }
+
+        private void add(BacklogTracerEventMessage event) {
+            long index = sequence.getAndIncrement();
+            events.set((int) (index % events.length()), event);
+        }
+
+        private List<BacklogTracerEventMessage> snapshot() {
+            List<BacklogTracerEventMessage> answer = new ArrayList<BacklogTracerEventMessage>(events.length());
+            for (int i = 0; i < events.length(); i++) {
+                BacklogTracerEventMessage event = events.get(i);
+                if (event != null) {
+                    answer.add(event);
+                }
+            }
+            // the backlog wraps around so sort the messages
+            Collections.sort(answer, UID_COMPARATOR);
+            return answer;
+        }
+    }
+}
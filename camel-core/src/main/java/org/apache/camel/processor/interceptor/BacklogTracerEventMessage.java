@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.interceptor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A traced message kept in the backlog of the {@link BacklogTracer}.
+ * <p/>
+ * The message body and header values are either immutable values, or strings captured when the message
+ * was traced, so the traced message does not change afterwards. The message body and header values are
+ * formatted as strings when they are read.
+ *
+ * @version 
+ */
+public final class BacklogTracerEventMessage {
+
+    private final long uid;
+    private final long timestamp;
+    private final String routeId;
+    private final String toNode;
+    private final String exchangeId;
+    private final Object body;
+    private final Map<String, Object> headers;
+    private final int bodyMaxChars;
+
+    public BacklogTracerEventMessage(long uid, long timestamp, String routeId, String toNode, String exchangeId,
+                                     Object body, Map<String, Object> headers, int bodyMaxChars) {
+        this.uid = uid;
+        this.timestamp = timestamp;
+        this.routeId = routeId;
+        this.toNode = toNode;
+        this.exchangeId = exchangeId;
+        this.body = body;
+        this.headers = headers;
+        this.bodyMaxChars = bodyMaxChars;
+    }
+
+    public long getUid() {
+        return uid;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getRouteId() {
+        return routeId;
+    }
+
+    public String getToNode() {
+        return toNode;
+    }
+
+    public String getExchangeId() {
+        return exchangeId;
+    }
+
+    /**
+     * Gets the message body formatted as a string, limited to the <tt>bodyMaxChars</tt> of the tracer
+     */
+    public String getBody() {
+        if (body == null) {
+            return "[Body is null]";
+        }
+        String answer = body.toString();
+        if (bodyMaxChars > 0 && answer.length() > bodyMaxChars) {
+            answer = answer.substring(0, bodyMaxChars) + "... [Body clipped after " + bodyMaxChars
+                    + " chars, total length is " + answer.length() + "]";
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the message headers formatted as strings, or <tt>null</tt> if the headers was not traced
+     */
+    public Map<String, String> getHeaders() {
+        if (headers == null) {
+            return null;
+        }
+        Map<String, String> answer = new HashMap<String, String>(headers.size());
+        for (Map.Entry<String, Object> entry : headers.entrySet()) {
+            answer.put(entry.getKey(), String.valueOf(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(answer);
+    }
+
+    @Override
+    public String toString() {
+        return "BacklogTracerEventMessage[" + exchangeId + " at " + toNode + "]";
+    }
+}
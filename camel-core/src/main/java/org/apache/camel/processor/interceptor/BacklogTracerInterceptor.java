@@ -0,0 +1,72 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.interceptor;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.ProcessorDefinitionHelper;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.processor.DelegateAsyncProcessor;
+
+/**
+ * An interceptor which adds the exchange to the backlog of the {@link BacklogTracer}.
+ *
+ * @version 
+ */
+public class BacklogTracerInterceptor extends DelegateAsyncProcessor {
+
+    private final BacklogTracer backlogTracer;
+    private final ProcessorDefinition<?> definition;
+    private String routeId;
+
+    public BacklogTracerInterceptor(BacklogTracer backlogTracer, ProcessorDefinition<?> definition, Processor target) {
+        super(target);
+        this.backlogTracer = backlogTracer;
+        this.definition = definition;
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        if (backlogTracer.shouldTrace(exchange)) {
+            backlogTracer.traceEvent(getRouteId(exchange), definition.getId(), exchange);
+        }
+        return super.process(exchange, callback);
+    }
+
+    private String getRouteId(Exchange exchange) {
+        if (routeId == null) {
+            // the route id may first be assigned when the route is started, so resolve it lazily
+            RouteDefinition route = ProcessorDefinitionHelper.getRoute(definition);
+            if (route == null || route.getId() == null) {
+                return exchange.getFromRouteId();
+            }
+            routeId = route.getId();
+        }
+        return routeId;
+    }
+
+    public BacklogTracer getBacklogTracer() {
+        return backlogTracer;
+    }
+
+    @Override
+    public String toString() {
+        return "BacklogTracer[" + definition + "]";
+    }
+}
@@ -0,0 +1,375 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.converter.jaxp.StaxConverter;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * {@link org.apache.camel.Expression} to walk a {@link org.apache.camel.Message} XML body
+ * using an {@link java.util.Iterator}, which grabs each XML element with the given tag name.
+ * <p/>
+ * Unlike {@link TokenXMLPairExpressionIterator} this implementation uses a StAX {@link XMLStreamReader}
+ * to parse the XML, so CDATA sections, comments, and nested elements with the same tag name are
+ * handled correctly, and the input is read only once without buffering the text between the tokens.
+ * Each element is written as a standalone XML fragment, and therefore the element is a well-formed
+ * equivalent of the original text, but not necessary identical, for example the quotes around
+ * attribute values may differ.
+ * <p/>
+ * The tag name can be a local name such as <tt>order</tt> which matches elements without a prefix,
+ * a prefixed name such as <tt>ns:order</tt>, or a qualified name such as <tt>{http://acme.com}order</tt>
+ * which matches the elements in the given namespace regardless of the prefix used.
+ * <p/>
+ * The message body must be able to convert to {@link java.io.InputStream} type which is used as stream
+ * to access the message body.
+ * <p/>
+ * This implementation supports inheriting namespaces declared on the parent/root tags. The namespaces
+ * used by the element or its children, which are declared outside the element, are always declared
+ * in the fragment so it is well-formed.
+ */
+public class TokenXMLStreamExpressionIterator extends ExpressionAdapter {
+
+    private final String tagName;
+    private final String inheritNamespaceTagName;
+    private final StaxConverter staxConverter = new StaxConverter();
+
+    public TokenXMLStreamExpressionIterator(String tagName, String inheritNamespaceTagName) {
+        ObjectHelper.notEmpty(tagName, "tagName");
+        this.tagName = tagName;
+        this.inheritNamespaceTagName = inheritNamespaceTagName;
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        // as a predicate we must close the stream, as we do not return an iterator that can be used
+        // afterwards to iterate the input stream
+        Object value = doEvaluate(exchange, true);
+        return ObjectHelper.evaluateValuePredicate(value);
+    }
+
+    @Override
+    public Object evaluate(Exchange exchange) {
+        // as we return an iterator to access the input stream, we should not close it
+        return doEvaluate(exchange, false);
+    }
+
+    /**
+     * Strategy to evaluate the exchange
+     *
+     * @param exchange   the exchange
+     * @param closeStream whether to close the stream before returning from this method.
+     * @return the evaluated value
+     */
+    protected Object doEvaluate(Exchange exchange, boolean closeStream) {
+        InputStream in = null;
+        try {
+            in = exchange.getIn().getMandatoryBody(InputStream.class);
+            // we may read from a file, and want to support custom charset defined on the exchange,
+            // otherwise let the StAX parser detect the encoding from the XML declaration
+            String charset = IOHelper.getCharsetName(exchange, false);
+            return createIterator(in, charset);
+        } catch (InvalidPayloadException e) {
+            exchange.setException(e);
+            // must close input stream
+            IOHelper.close(in);
+            return null;
+        } finally {
+            if (closeStream) {
+                IOHelper.close(in);
+            }
+        }
+    }
+
+    /**
+     * Strategy to create the iterator
+     *
+     * @param in input stream to iterate
+     * @param charset charset, or <tt>null</tt> to detect the encoding from the XML
+     * @return the iterator
+     */
+    protected Iterator<?> createIterator(InputStream in, String charset) {
+        try {
+            XMLStreamReader reader;
+            if (charset != null) {
+                reader = staxConverter.getInputFactory().createXMLStreamReader(in, charset);
+            } else {
+                reader = staxConverter.getInputFactory().createXMLStreamReader(in);
+            }
+            return new XMLStreamTokenIterator(reader, in);
+        } catch (XMLStreamException e) {
+            IOHelper.close(in);
+            throw ObjectHelper.wrapRuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "tokenizeXMLStream[body() using tag: " + tagName + "]";
+    }
+
+    /**
+     * Whether the element matches the tag name, which can be a local name without a prefix,
+     * a prefixed name, or a qualified name with the namespace in curly braces
+     */
+    static boolean isTag(String name, XMLStreamReader reader) {
+        String prefix = reader.getPrefix() != null ? reader.getPrefix() : "";
+        if (name.startsWith("{")) {
+            int idx = name.indexOf('}');
+            String uri = reader.getNamespaceURI() != null ? reader.getNamespaceURI() : "";
+            return name.substring(idx + 1).equals(reader.getLocalName()) && name.substring(1, idx).equals(uri);
+        }
+        int idx = name.indexOf(':');
+        if (idx == -1) {
+            return name.equals(reader.getLocalName()) && prefix.length() == 0;
+        }
+        return name.substring(idx + 1).equals(reader.getLocalName()) && name.substring(0, idx).equals(prefix);
+    }
+
+    /**
+     * Iterator to walk the XML stream
+     */
+    final class XMLStreamTokenIterator implements Iterator<Object>, Closeable {
+
+        private final XMLStreamReader reader;
+        private final InputStream in;
+        // the namespaces declared on the ancestors of the current element, which may be inherited
+        private final List<Map<String, String>> namespaces = new ArrayList<Map<String, String>>();
+        // the depth of the element to inherit namespaces from, or -1 if not inside such an element
+        private int inheritDepth = -1;
+        private String image;
+        private boolean closed;
+
+        XMLStreamTokenIterator(XMLStreamReader reader, InputStream in) {
+            this.reader = reader;
+            this.in = in;
+        }
+
+        public boolean hasNext() {
+            if (image == null && !closed) {
+                try {
+                    image = readNext();
+                } catch (XMLStreamException e) {
+                    close();
+                    throw new RuntimeCamelException("Error parsing XML stream", e);
+                }
+                if (image == null) {
+                    close();
+                }
+            }
+            return image != null;
+        }
+
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String answer = image;
+            image = null;
+            return answer;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException("Remove is not supported by this iterator");
+        }
+
+        public void close() {
+            if (!closed) {
+                closed = true;
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+                IOHelper.close(in);
+            }
+        }
+
+        private String readNext() throws XMLStreamException {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (isTag(tagName, reader)) {
+                        return writeElement();
+                    }
+                    if (inheritDepth == -1 && inheritNamespaceTagName != null && isTag(inheritNamespaceTagName, reader)) {
+                        inheritDepth = namespaces.size();
+                    }
+                    namespaces.add(getNamespaces());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (!namespaces.isEmpty()) {
+                        namespaces.remove(namespaces.size() - 1);
+                    }
+                    if (inheritDepth == namespaces.size()) {
+                        inheritDepth = -1;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private Map<String, String> getNamespaces() {
+            Map<String, String> answer = new LinkedHashMap<String, String>();
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                String prefix = reader.getNamespacePrefix(i);
+                answer.put(prefix != null ? prefix : "", reader.getNamespaceURI(i));
+            }
+            return answer;
+        }
+
+        /**
+         * Writes the current element including all its children, the reader is positioned at the start element
+         */
+        private String writeElement() throws XMLStreamException {
+            StringWriter buffer = new StringWriter();
+            XMLStreamWriter writer = staxConverter.createXMLStreamWriter(buffer);
+
+            // the in scope namespaces to inherit, where the closest declaration wins
+            Map<String, String> inherited = new LinkedHashMap<String, String>();
+            if (inheritDepth != -1) {
+                for (Map<String, String> map : namespaces) {
+                    inherited.putAll(map);
+                }
+            }
+
+            // the namespaces declared in the fragment written so far
+            List<Map<String, String>> scopes = new ArrayList<Map<String, String>>();
+            int depth = 0;
+            do {
+                switch (reader.getEventType()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    writeStartElement(writer, depth == 0 ? inherited : null, scopes);
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    writer.writeEndElement();
+                    scopes.remove(scopes.size() - 1);
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+                case XMLStreamConstants.CDATA:
+                    writer.writeCData(reader.getText());
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    writer.writeComment(reader.getText());
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+                    break;
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    writer.writeEntityRef(reader.getLocalName());
+                    break;
+                default:
+                    break;
+                }
+                if (depth > 0) {
+                    reader.next();
+                }
+            } while (depth > 0);
+
+            writer.flush();
+            writer.close();
+            return buffer.toString();
+        }
+
+        private void writeStartElement(XMLStreamWriter writer, Map<String, String> inherited,
+                                       List<Map<String, String>> scopes) throws XMLStreamException {
+            String prefix = reader.getPrefix() != null ? reader.getPrefix() : "";
+            String uri = reader.getNamespaceURI() != null ? reader.getNamespaceURI() : "";
+            writer.writeStartElement(prefix, reader.getLocalName(), uri);
+
+            Map<String, String> scope = new LinkedHashMap<String, String>();
+            scopes.add(scope);
+
+            Map<String, String> declared = getNamespaces();
+            if (inherited != null) {
+                for (Map.Entry<String, String> entry : inherited.entrySet()) {
+                    // the namespaces declared on the element itself takes precedence
+                    if (!declared.containsKey(entry.getKey())) {
+                        writeNamespace(writer, scope, entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            for (Map.Entry<String, String> entry : declared.entrySet()) {
+                writeNamespace(writer, scope, entry.getKey(), entry.getValue());
+            }
+
+            // the namespace of the element may be declared outside the fragment
+            declareIfMissing(writer, scopes, prefix, uri);
+
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String attributePrefix = reader.getAttributePrefix(i);
+                if (ObjectHelper.isEmpty(attributePrefix)) {
+                    writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                } else {
+                    String attributeUri = reader.getAttributeNamespace(i);
+                    declareIfMissing(writer, scopes, attributePrefix, attributeUri);
+                    writer.writeAttribute(attributePrefix, attributeUri, reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                }
+            }
+        }
+
+        private void declareIfMissing(XMLStreamWriter writer, List<Map<String, String>> scopes,
+                                      String prefix, String uri) throws XMLStreamException {
+            if ("xml".equals(prefix)) {
+                // the xml prefix is bound by definition
+                return;
+            }
+            String bound = "";
+            for (int i = scopes.size() - 1; i >= 0; i--) {
+                String value = scopes.get(i).get(prefix);
+                if (value != null) {
+                    bound = value;
+                    break;
+                }
+            }
+            if (!bound.equals(uri)) {
+                writeNamespace(writer, scopes.get(scopes.size() - 1), prefix, uri);
+            }
+        }
+
+        private void writeNamespace(XMLStreamWriter writer, Map<String, String> scope, String prefix, String uri) throws XMLStreamException {
+            if (prefix.length() == 0) {
+                writer.writeDefaultNamespace(uri);
+            } else {
+                writer.writeNamespace(prefix, uri);
+            }
+            scope.put(prefix, uri);
+        }
+    }
+
+}
@@ -0,0 +1,326 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ScheduledExecutorService} which keeps the delayed tasks in a hashed timing wheel.
+ * <p/>
+ * The {@link java.util.concurrent.ScheduledThreadPoolExecutor} keeps the delayed tasks in a binary heap which
+ * is guarded by a single lock, which degrades when a very large number of tasks is pending. This implementation
+ * adds new tasks to a lock free queue, and a background task advances the timing wheel every <tt>tickDuration</tt>
+ * millis, which only visits the tasks which are due in the current tick. The due tasks are then executed using
+ * the wrapped {@link ScheduledExecutorService}.
+ * <p/>
+ * The tasks are executed at the first tick at or after their delay, and therefore the precision of the delay
+ * is the tick duration. The background task is only scheduled while there are delayed tasks. Periodic tasks are not kept in the timing wheel, but scheduled by the wrapped
+ * {@link ScheduledExecutorService}.
+ */
+public class TimingWheelScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+    public static final long DEFAULT_TICK_DURATION = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheelScheduledExecutorService.class);
+    private final ScheduledExecutorService delegate;
+    private final long tickDuration;
+    private final int wheelSize;
+    private final List<List<WheelTask<?>>> wheel;
+    private final Queue<WheelTask<?>> pending = new ConcurrentLinkedQueue<WheelTask<?>>();
+    private final AtomicInteger size = new AtomicInteger();
+    private long startTime;
+    private long tick;
+    private volatile ScheduledFuture<?> ticker;
+
+    /**
+     * Creates a new timing wheel based {@link ScheduledExecutorService} using the default tick duration and wheel size.
+     *
+     * @param delegate the delegate which executes the tasks and advances the timing wheel
+     */
+    public TimingWheelScheduledExecutorService(ScheduledExecutorService delegate) {
+        this(delegate, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a new timing wheel based {@link ScheduledExecutorService}.
+     *
+     * @param delegate     the delegate which executes the tasks and advances the timing wheel
+     * @param tickDuration the duration of a tick in millis
+     * @param wheelSize    the number of buckets in the timing wheel
+     */
+    public TimingWheelScheduledExecutorService(ScheduledExecutorService delegate, long tickDuration, int wheelSize) {
+        ObjectHelper.notNull(delegate, "delegate");
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("TickDuration must be a positive number, was: " + tickDuration);
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("WheelSize must be a positive number, was: " + wheelSize);
+        }
+        this.delegate = delegate;
+        this.tickDuration = tickDuration;
+        this.wheelSize = wheelSize;
+        this.wheel = new ArrayList<List<WheelTask<?>>>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new LinkedList<WheelTask<?>>());
+        }
+    }
+
+    /**
+     * Gets the wrapped {@link ScheduledExecutorService}
+     */
+    public ScheduledExecutorService getDelegate() {
+        return delegate;
+    }
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    /**
+     * Gets the number of delayed tasks which are waiting for their delay to elapse
+     */
+    public int getPendingTasks() {
+        return size.get();
+    }
+
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit timeUnit) {
+        return schedule(new WheelTask<Object>(task, null, currentTime() + timeUnit.toMillis(delay)));
+    }
+
+    public <V> ScheduledFuture<V> schedule(Callable<V> task, long delay, TimeUnit timeUnit) {
+        return schedule(new WheelTask<V>(task, currentTime() + timeUnit.toMillis(delay)));
+    }
+
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit timeUnit) {
+        return delegate.scheduleAtFixedRate(task, initialDelay, period, timeUnit);
+    }
+
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit timeUnit) {
+        return delegate.scheduleWithFixedDelay(task, initialDelay, delay, timeUnit);
+    }
+
+    public void execute(Runnable task) {
+        delegate.execute(task);
+    }
+
+    public void shutdown() {
+        stopTicker();
+        for (WheelTask<?> task : drain()) {
+            task.cancel(false);
+        }
+        delegate.shutdown();
+    }
+
+    public List<Runnable> shutdownNow() {
+        ScheduledFuture<?> cancelled = ticker;
+        stopTicker();
+        List<Runnable> answer = new ArrayList<Runnable>(drain());
+        answer.addAll(delegate.shutdownNow());
+        // the cancelled ticker is not a pending task
+        answer.remove(cancelled);
+        return answer;
+    }
+
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, timeUnit);
+    }
+
+    private <V> ScheduledFuture<V> schedule(WheelTask<V> task) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("Task rejected as the executor is shutdown");
+        }
+
+        if (task.deadline <= currentTime()) {
+            // no delay so execute the task right away
+            delegate.execute(task);
+        } else {
+            // the ticker will schedule the task on the wheel
+            size.incrementAndGet();
+            pending.add(task);
+            if (ticker == null) {
+                startTicker();
+            }
+        }
+        return task;
+    }
+
+    /**
+     * Advances the timing wheel up till now, and executes the tasks which are due.
+     */
+    protected synchronized void tick() {
+        long now = currentTime();
+
+        // schedule the new tasks on the wheel
+        WheelTask<?> task;
+        while ((task = pending.poll()) != null) {
+            // the first tick at or after the deadline, and never a tick which has already passed
+            long due = Math.max((task.deadline - startTime + tickDuration - 1) / tickDuration, tick);
+            task.rounds = (due - tick) / wheelSize;
+            wheel.get((int) (due % wheelSize)).add(task);
+        }
+
+        // advance the wheel up till now
+        long until = (now - startTime) / tickDuration;
+        while (tick <= until) {
+            expireBucket(wheel.get((int) (tick % wheelSize)), now);
+            tick++;
+        }
+
+        if (size.get() == 0) {
+            // park the ticker while there is no delayed tasks
+            stopTicker();
+            // a task may have been added after the size was checked, without starting the ticker
+            // as it was still running, and if so we must start the ticker again
+            if (size.get() > 0) {
+                startTicker();
+            }
+        }
+    }
+
+    private void expireBucket(List<WheelTask<?>> bucket, long now) {
+        Iterator<WheelTask<?>> it = bucket.iterator();
+        while (it.hasNext()) {
+            WheelTask<?> task = it.next();
+            if (task.isCancelled()) {
+                it.remove();
+                size.decrementAndGet();
+            } else if (task.rounds > 0) {
+                task.rounds--;
+            } else if (task.deadline <= now) {
+                it.remove();
+                size.decrementAndGet();
+                try {
+                    delegate.execute(task);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Delayed task rejected by executor: {}", delegate);
+                    task.cancel(false);
+                }
+            }
+        }
+    }
+
+    private synchronized void startTicker() {
+        if (ticker != null) {
+            return;
+        }
+        startTime = currentTime();
+        tick = 0;
+        ticker = delegate.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                try {
+                    tick();
+                } catch (Throwable e) {
+                    // must catch and log exception otherwise the executor will not schedule next run
+                    LOG.warn("Error advancing timing wheel. This exception will be ignored.", e);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "TimingWheelTicker";
+            }
+        }, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void stopTicker() {
+        if (ticker != null) {
+            ticker.cancel(false);
+            ticker = null;
+        }
+    }
+
+    private synchronized List<WheelTask<?>> drain() {
+        List<WheelTask<?>> answer = new ArrayList<WheelTask<?>>();
+        WheelTask<?> task;
+        while ((task = pending.poll()) != null) {
+            answer.add(task);
+        }
+        for (List<WheelTask<?>> bucket : wheel) {
+            answer.addAll(bucket);
+            bucket.clear();
+        }
+        size.set(0);
+        return answer;
+    }
+
+    protected long currentTime() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    @Override
+    public String toString() {
+        return "TimingWheelScheduledExecutorService[" + delegate + "]";
+    }
+
+    /**
+     * A delayed task in the timing wheel
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        private final long deadline;
+        private long rounds;
+
+        private WheelTask(Callable<V> callable, long deadline) {
+            super(callable);
+            this.deadline = deadline;
+        }
+
+        private WheelTask(Runnable runnable, V result, long deadline) {
+            super(runnable, result);
+            this.deadline = deadline;
+        }
+
+        public long getDelay(TimeUnit timeUnit) {
+            return timeUnit.convert(deadline - currentTime(), TimeUnit.MILLISECONDS);
+        }
+
+        public int compareTo(Delayed other) {
+            long diff = getDelay(TimeUnit.MILLISECONDS) - other.getDelay(TimeUnit.MILLISECONDS);
+            return diff < 0 ? -1 : diff > 0 ? 1 : 0;
+        }
+    }
+}
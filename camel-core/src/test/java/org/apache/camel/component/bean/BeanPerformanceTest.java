@@ -48,6 +48,19 @@ public class BeanPerformanceTest extends ContextTestSupport {
         assertEquals(times, INVOKED.get());
     }
 
+    public void testBeanPerformanceChosenMethod() throws Exception {
+        StopWatch watch = new StopWatch();
+
+        log.info("Invoking a bean with overloaded methods in a route {} times", times);
+        for (int i = 0; i < times; i++) {
+            template.sendBody("direct:overloaded", i % 2 == 0 ? "Hello World" : Integer.valueOf(i));
+        }
+        log.info("Took {} to invoke the bean {} times", TimeUtils.printDuration(watch.stop()), times);
+
+        assertEquals(times / 2, OverloadedBean.STRINGS.get());
+        assertEquals(times / 2, OverloadedBean.INTEGERS.get());
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
@@ -55,7 +68,23 @@ public class BeanPerformanceTest extends ContextTestSupport {
             public void configure() throws Exception {
                 from("direct:start")
                     .bean(BeanPerformanceTest.class, "doSomething");
+
+                from("direct:overloaded")
+                    .bean(OverloadedBean.class);
             }
         };
     }
+
+    public static class OverloadedBean {
+        private static final AtomicLong STRINGS = new AtomicLong();
+        private static final AtomicLong INTEGERS = new AtomicLong();
+
+        public void handle(String payload) {
+            STRINGS.incrementAndGet();
+        }
+
+        public void handle(Integer payload) {
+            INTEGERS.incrementAndGet();
+        }
+    }
 }
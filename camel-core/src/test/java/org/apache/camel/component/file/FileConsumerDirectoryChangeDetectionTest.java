@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.impl.ScheduledPollConsumer;
+
+/**
+ * Unit test for the file consumer only listing directories which has changed.
+ */
+public class FileConsumerDirectoryChangeDetectionTest extends ContextTestSupport {
+
+    // the polls are triggered by the test, so the scheduler is not started
+    private String fileUrl = "file://target/changedetection?noop=true&recursive=true&startScheduler=false"
+            + "&directoryChangeDetection=true&fullRescanInterval=600000&filter=#countingFilter";
+    private final CountingFileFilter filter = new CountingFileFilter();
+
+    @Override
+    protected void setUp() throws Exception {
+        deleteDirectory("target/changedetection");
+        super.setUp();
+    }
+
+    public void testDirectoryChangeDetection() throws Exception {
+        template.sendBodyAndHeader("file://target/changedetection", "Hello", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader("file://target/changedetection", "World", Exchange.FILE_NAME, "sub/world.txt");
+        // make the directories older than the granularity of the timestamps, so they can be regarded as unchanged
+        makeOld("target/changedetection");
+        makeOld("target/changedetection/sub");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello", "World");
+        poll();
+        assertMockEndpointsSatisfied();
+        // the marker files of the read lock changed the directories
+        makeOld("target/changedetection");
+        makeOld("target/changedetection/sub");
+
+        // the directories are listed again as files was picked up, and then remembered as unchanged
+        poll();
+        int listed = filter.getFiles();
+        assertEquals(4, listed);
+
+        // the unchanged directories should not be listed again
+        poll();
+        assertEquals("The unchanged directories should not be listed", listed, filter.getFiles());
+
+        // a new file in the sub directory of an unchanged directory should be picked up, which only lists the sub directory
+        resetMocks();
+        mock.expectedBodiesReceived("Bye");
+        template.sendBodyAndHeader("file://target/changedetection", "Bye", Exchange.FILE_NAME, "sub/bye.txt");
+        poll();
+        assertMockEndpointsSatisfied();
+        assertEquals(listed + 2, filter.getFiles());
+
+        // as well as a new file in the starting directory
+        resetMocks();
+        mock.expectedBodiesReceived("Camel");
+        template.sendBodyAndHeader("file://target/changedetection", "Camel", Exchange.FILE_NAME, "camel.txt");
+        poll();
+        assertMockEndpointsSatisfied();
+
+        // and the consumed files should not be picked up again
+        resetMocks();
+        mock.expectedMessageCount(0);
+        poll();
+        assertMockEndpointsSatisfied();
+    }
+
+    private void poll() {
+        ScheduledPollConsumer consumer = (ScheduledPollConsumer) context.getRoute("changes").getConsumer();
+        consumer.run();
+    }
+
+    private static void makeOld(String directory) {
+        new File(directory).setLastModified(System.currentTimeMillis() - 10000);
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry jndi = super.createRegistry();
+        jndi.bind("countingFilter", filter);
+        return jndi;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUrl).routeId("changes").convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+
+    /**
+     * Counts the files which is listed by the consumer
+     */
+    private static final class CountingFileFilter implements GenericFileFilter<File> {
+        private final AtomicInteger files = new AtomicInteger();
+
+        public boolean accept(GenericFile<File> file) {
+            if (!file.isDirectory()) {
+                files.incrementAndGet();
+            }
+            return true;
+        }
+
+        int getFiles() {
+            return files.get();
+        }
+    }
+}
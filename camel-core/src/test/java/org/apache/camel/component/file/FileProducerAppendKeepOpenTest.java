@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+
+/**
+ * @version 
+ */
+public class FileProducerAppendKeepOpenTest extends ContextTestSupport {
+
+    private final int size = 1000;
+
+    @Override
+    protected void setUp() throws Exception {
+        deleteDirectory("target/appendopen");
+        super.setUp();
+    }
+
+    public void testAppendKeepOpenSyncWait() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.append("Line " + i + LS);
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(size);
+        mock.setResultWaitTime(30000);
+
+        template.sendBody("direct:wait", sb.toString());
+
+        assertMockEndpointsSatisfied();
+
+        // the exchanges is completed when the data has been synced so the file is complete
+        String txt = context.getTypeConverter().convertTo(String.class, new File("target/appendopen/wait.txt"));
+        assertNotNull(txt);
+
+        String[] lines = txt.split(LS);
+        assertEquals("Should be " + size + " lines", size, lines.length);
+
+        Set<String> rows = new LinkedHashSet<String>(Arrays.asList(lines));
+        assertEquals("Should be " + size + " unique lines", size, rows.size());
+    }
+
+    public void testAppendKeepOpenClosedOnStop() throws Exception {
+        template.sendBodyAndHeader("file:target/appendopen", "Hello" + LS, Exchange.FILE_NAME, "lazy.txt");
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:lazy", "Line " + i + LS);
+        }
+
+        // stopping flushes the buffered data and closes the file
+        context.stop();
+
+        String txt = context.getTypeConverter().convertTo(String.class, new File("target/appendopen/lazy.txt"));
+        String[] lines = txt.split(LS);
+        assertEquals(11, lines.length);
+        assertEquals("Hello", lines[0]);
+        assertEquals("Line 9", lines[10]);
+    }
+
+    public void testAppendKeepOpenEvicted() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:evicted");
+        mock.expectedMessageCount(size);
+        mock.setResultWaitTime(30000);
+
+        // only one file is kept open, so the files are closed while the other writers are syncing
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.append("Line " + i + LS);
+        }
+        template.sendBody("direct:evicted", sb.toString());
+
+        assertMockEndpointsSatisfied();
+
+        int total = 0;
+        Set<String> rows = new LinkedHashSet<String>();
+        for (int i = 0; i < 3; i++) {
+            String txt = context.getTypeConverter().convertTo(String.class, new File("target/appendopen/evicted" + i + ".txt"));
+            String[] lines = txt.split(LS);
+            total += lines.length;
+            rows.addAll(Arrays.asList(lines));
+        }
+        assertEquals("Should be " + size + " lines", size, total);
+        assertEquals("Should be " + size + " unique lines", size, rows.size());
+    }
+
+    public void testAppendKeepOpenNotAllowedWithDoneFile() throws Exception {
+        try {
+            context.getEndpoint("file:target/appendopen?fileExist=Append&appendKeepOpen=true&doneFileName=done").createProducer();
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:wait")
+                    .split(body().tokenize(LS)).parallelProcessing().streaming()
+                        .setBody(body().append(LS))
+                        .to("file:target/appendopen?fileExist=Append&fileName=wait.txt&appendKeepOpen=true"
+                            + "&appendSyncCount=50&appendSyncInterval=100&appendSyncWait=true")
+                        .to("mock:result")
+                    .end();
+
+                from("direct:evicted")
+                    .split(body().tokenize(LS)).parallelProcessing().streaming()
+                        .process(new Processor() {
+                            public void process(Exchange exchange) throws Exception {
+                                int index = exchange.getProperty(Exchange.SPLIT_INDEX, Integer.class);
+                                exchange.getIn().setHeader(Exchange.FILE_NAME, "evicted" + (index % 3) + ".txt");
+                            }
+                        })
+                        .setBody(body().append(LS))
+                        .to("file:target/appendopen?fileExist=Append&appendKeepOpen=true&appendMaxOpenFiles=1"
+                            + "&appendSyncInterval=10&appendSyncWait=true")
+                        .to("mock:evicted")
+                    .end();
+
+                from("direct:lazy")
+                    .to("file:target/appendopen?fileExist=Append&fileName=lazy.txt&appendKeepOpen=true");
+            }
+        };
+    }
+}
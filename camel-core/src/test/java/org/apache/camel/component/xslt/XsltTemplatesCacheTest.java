@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.xml.XsltBuilder;
+import org.apache.camel.builder.xml.XsltUriResolver;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultClassResolver;
+import org.apache.camel.impl.JndiRegistry;
+
+/**
+ *
+ */
+public class XsltTemplatesCacheTest extends ContextTestSupport {
+
+    public void testTemplatesShared() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>");
+
+        template.sendBody("direct:a", "<hello>world!</hello>");
+        template.sendBody("direct:b", "<hello>world!</hello>");
+
+        assertMockEndpointsSatisfied();
+
+        XsltBuilder a = getXsltBuilder("xslt:org/apache/camel/component/xslt/example.xsl?output=string");
+        XsltBuilder b = getXsltBuilder("xslt:org/apache/camel/component/xslt/example.xsl?output=bytes&transformerCacheSize=2");
+        assertSame("The compiled stylesheet should be shared", a.getTemplate(), b.getTemplate());
+    }
+
+    public void testTemplatesSharedWithTransformOptions() throws Exception {
+        XsltBuilder a = getXsltBuilder("xslt:org/apache/camel/component/xslt/example.xsl?output=string");
+        // the options which are used when transforming does not prevent sharing the compiled stylesheet
+        XsltBuilder e = getXsltBuilder("xslt:org/apache/camel/component/xslt/example.xsl?allowStAX=true&deleteOutputFile=true");
+        assertSame("The compiled stylesheet should be shared", a.getTemplate(), e.getTemplate());
+    }
+
+    public void testTemplatesNotSharedWithCustomResolver() throws Exception {
+        XsltBuilder a = getXsltBuilder("xslt:org/apache/camel/component/xslt/example.xsl?output=string");
+        XsltBuilder c = getXsltBuilder("xslt:org/apache/camel/component/xslt/example.xsl?uriResolver=#myResolver");
+        assertNotSame("The compiled stylesheet should not be shared", a.getTemplate(), c.getTemplate());
+    }
+
+    public void testReloadUnmodifiedTemplates() throws Exception {
+        XsltBuilder d = getXsltBuilder("xslt:org/apache/camel/component/xslt/example.xsl?contentCache=false");
+
+        template.sendBody("direct:d", "<hello>world!</hello>");
+        Object templates = d.getTemplate();
+        template.sendBody("direct:d", "<hello>world!</hello>");
+
+        // the stylesheet is not modified so it should not be compiled again
+        assertSame(templates, d.getTemplate());
+    }
+
+    private XsltBuilder getXsltBuilder(String uri) throws Exception {
+        return (XsltBuilder) context.getEndpoint(uri, XsltEndpoint.class).getProcessor();
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("myResolver", new XsltUriResolver(new DefaultClassResolver(), "org/apache/camel/component/xslt/example.xsl"));
+        return registry;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:a")
+                    .to("xslt:org/apache/camel/component/xslt/example.xsl?output=string")
+                    .to("mock:result");
+
+                from("direct:b")
+                    .to("xslt:org/apache/camel/component/xslt/example.xsl?output=bytes&transformerCacheSize=2")
+                    .convertBodyTo(String.class)
+                    .to("mock:result");
+
+                from("direct:d")
+                    .to("xslt:org/apache/camel/component/xslt/example.xsl?contentCache=false");
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+public class CompactUuidGeneratorTest extends TestCase {
+
+    public void testGenerateUUID() {
+        CompactUuidGenerator uuidGenerator = new CompactUuidGenerator(0xCAFEL);
+
+        assertEquals("ID-000000000000cafe-0000000000000001", uuidGenerator.generateUuid());
+        assertEquals("ID-000000000000cafe-0000000000000002", uuidGenerator.generateUuid());
+        assertEquals("ID-ffffffffffffffff-7fffffffffffffff", CompactUuidGenerator.toString(-1, Long.MAX_VALUE));
+    }
+
+    public void testUniquePerGenerator() {
+        assertFalse(new CompactUuidGenerator().generateUuid().equals(new CompactUuidGenerator().generateUuid()));
+    }
+
+    public void testUniqueIds() {
+        CompactUuidGenerator uuidGenerator = new CompactUuidGenerator();
+
+        Set<String> ids = new HashSet<String>();
+        for (int i = 0; i < 100000; i++) {
+            String id = uuidGenerator.generateUuid();
+            assertTrue("Invalid id: " + id, id.matches("ID-[0-9a-f]{16}-[0-9a-f]{16}"));
+            assertTrue("Duplicate id: " + id, ids.add(id));
+        }
+    }
+
+    public void testGenerateCompactUuid() {
+        CompactUuidGenerator uuidGenerator = new CompactUuidGenerator(0xCAFEL);
+
+        CompactUuidGenerator.CompactUuid id = uuidGenerator.generateCompactUuid();
+        assertEquals(0xCAFEL, id.getSeed());
+        assertEquals(1, id.getSequence());
+        assertEquals("ID-000000000000cafe-0000000000000002", uuidGenerator.generateUuid());
+        assertEquals("ID-000000000000cafe-0000000000000001", id.toString());
+    }
+
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.impl;
 
+import java.util.List;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.InflightRepository;
@@ -44,4 +46,62 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    public void testOldestInflightExchanges() throws Exception {
+        DefaultInflightRepository repo = new DefaultInflightRepository();
+        assertEquals(0, repo.getOldestInflightDuration());
+        assertEquals(0, repo.getOldestInflightExchanges(10).size());
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        Thread.sleep(20);
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        Exchange e3 = new DefaultExchange(context);
+        repo.add(e3);
+
+        assertTrue(repo.getOldestInflightDuration() >= 20);
+
+        List<DefaultInflightRepository.InflightExchange> list = repo.getOldestInflightExchanges(2);
+        assertEquals(2, list.size());
+        assertSame(e1, list.get(0).getExchange());
+        assertEquals(e1.getExchangeId(), list.get(0).getExchangeId());
+        assertTrue(list.get(0).getDuration() >= 20);
+        assertEquals(3, repo.getOldestInflightExchanges(-1).size());
+
+        long[] histogram = repo.getAgeHistogram();
+        assertEquals(DefaultInflightRepository.AGE_HISTOGRAM_BOUNDS.length + 1, histogram.length);
+        assertEquals(3, histogram[0]);
+
+        repo.remove(e1);
+        list = repo.getOldestInflightExchanges(-1);
+        assertEquals(2, list.size());
+        assertNotSame(e1, list.get(0).getExchange());
+
+        repo.remove(e2);
+        repo.remove(e3);
+        assertEquals(0, repo.getOldestInflightDuration());
+    }
+
+    public void testMaxTrackedExchanges() throws Exception {
+        DefaultInflightRepository repo = new DefaultInflightRepository();
+        repo.setMaxTrackedExchanges(2);
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        Exchange e3 = new DefaultExchange(context);
+        repo.add(e3);
+
+        // all are counted but only 2 is tracked
+        assertEquals(3, repo.size());
+        assertEquals(2, repo.getOldestInflightExchanges(-1).size());
+
+        repo.remove(e3);
+        repo.remove(e2);
+        repo.remove(e1);
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.getOldestInflightExchanges(-1).size());
+    }
 }
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * @version 
+ */
+public class LightweightUnitOfWorkTest extends ContextTestSupport {
+
+    public void testLightweightUnitOfWork() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye World");
+        getMockEndpoint("mock:done").expectedBodiesReceived("Bye World");
+
+        template.sendBody("seda:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testDefaultUnitOfWork() throws Exception {
+        getMockEndpoint("mock:default").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:default").message(0).property(Exchange.CREATED_TIMESTAMP).isNotNull();
+
+        template.sendBody("seda:default", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testLightweightUnitOfWorkOnCamelContext() throws Exception {
+        context.setLightweightUnitOfWork(true);
+
+        getMockEndpoint("mock:default").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:default").message(0).property(Exchange.CREATED_TIMESTAMP).isNull();
+
+        template.sendBody("seda:default", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testUseOriginalMessageNotSupported() throws Exception {
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:original").routeId("original").lightweightUnitOfWork()
+                        .onException(Exception.class).useOriginalMessage().to("mock:error").end()
+                        .to("mock:result");
+                }
+            });
+            fail("Should have thrown an exception");
+        } catch (Exception e) {
+            assertNotNull(ObjectHelper.getException(IllegalArgumentException.class, e));
+        }
+    }
+
+    public void testUseOriginalBodyNotSupported() throws Exception {
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:original").routeId("original").lightweightUnitOfWork()
+                        .onCompletion().useOriginalBody().to("mock:done").end()
+                        .to("mock:result");
+                }
+            });
+            fail("Should have thrown an exception");
+        } catch (Exception e) {
+            assertNotNull(ObjectHelper.getException(IllegalArgumentException.class, e));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start").routeId("start").lightweightUnitOfWork()
+                    .onCompletion().to("mock:done").end()
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            UnitOfWork uow = exchange.getUnitOfWork();
+                            assertIsInstanceOf(LightweightUnitOfWork.class, uow);
+                            assertNull(uow.getOriginalInMessage());
+                            assertEquals("start", uow.getRouteContext().getRoute().getId());
+                        }
+                    })
+                    .to("direct:foo")
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            // should be back to the first route
+                            assertEquals("start", exchange.getUnitOfWork().getRouteContext().getRoute().getId());
+                        }
+                    })
+                    .to("mock:result");
+
+                from("direct:foo").routeId("foo")
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            assertEquals("foo", exchange.getUnitOfWork().getRouteContext().getRoute().getId());
+                            exchange.getIn().setBody("Bye World");
+                        }
+                    });
+
+                from("seda:default").routeId("default")
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            boolean lightweight = exchange.getContext().isLightweightUnitOfWork();
+                            assertEquals(lightweight, exchange.getUnitOfWork() instanceof LightweightUnitOfWork);
+                            assertEquals(lightweight, exchange.getUnitOfWork().getOriginalInMessage() == null);
+                        }
+                    })
+                    .to("mock:default");
+            }
+        };
+    }
+}
@@ -63,4 +63,63 @@ public class MessageSupportTest extends ContextTestSupport {
         
         assertNotNull(in.getMessageId());
     }
-}
\ No newline at end of file
+
+    public void testCopyMessageIdIsLazy() {
+        context.setUuidGenerator(new SimpleUuidGenerator());
+        Exchange exchange = new DefaultExchange(context);
+        Message in = exchange.getIn();
+
+        // the message id should only be created when its used
+        Message copy = in.copy();
+        Message copyOfCopy = copy.copy();
+        assertEquals("1", copyOfCopy.getMessageId());
+        assertEquals("1", in.getMessageId());
+        assertEquals("1", copy.getMessageId());
+
+        Message other = new DefaultExchange(context).getIn();
+        Message otherCopy = other.copy();
+        otherCopy.setMessageId("foo");
+        assertEquals("foo", otherCopy.getMessageId());
+        assertEquals("2", other.getMessageId());
+    }
+
+    public void testCopyMessageIdBackFromCopy() {
+        context.setUuidGenerator(new SimpleUuidGenerator());
+        Exchange exchange = new DefaultExchange(context);
+        Message in = exchange.getIn();
+
+        // copy back from a copy, such as when restoring the original message before a redelivery
+        Message copy = in.copy();
+        Message copyOfCopy = copy.copy();
+        in.copyFrom(copyOfCopy);
+        copy.copyFrom(in);
+        assertEquals("1", in.getMessageId());
+        assertEquals("1", copy.getMessageId());
+        assertEquals("1", copyOfCopy.getMessageId());
+    }
+
+    public void testCopyMessageIdIsSnapshot() {
+        context.setUuidGenerator(new SimpleUuidGenerator());
+        Exchange exchange = new DefaultExchange(context);
+        Message in = exchange.getIn();
+
+        // changing the id of the message after the copy was taken should not affect the copy
+        Message copy = in.copy();
+        in.setMessageId("foo");
+        assertEquals("foo", in.getMessageId());
+        assertEquals("1", copy.getMessageId());
+        assertEquals("1", copy.copy().getMessageId());
+    }
+
+    public void testCopyMessageIdWithCompactUuidGenerator() {
+        context.setUuidGenerator(new CompactUuidGenerator(0xCAFEL));
+        Exchange exchange = new DefaultExchange(context);
+        Message in = exchange.getIn();
+
+        // the id is reserved when the copy is taken
+        Message copy = in.copy();
+        assertEquals("ID-000000000000cafe-0000000000000002", context.getUuidGenerator().generateUuid());
+        assertEquals("ID-000000000000cafe-0000000000000001", copy.getMessageId());
+        assertEquals("ID-000000000000cafe-0000000000000001", in.getMessageId());
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language;
+
+import java.util.Iterator;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.ExpressionBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+
+/**
+ *
+ */
+public class TokenXMLStreamSplitTest extends ContextTestSupport {
+
+    @Override
+    protected void setUp() throws Exception {
+        deleteDirectory("target/stax");
+        super.setUp();
+    }
+
+    public void testTokenXMLStream() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:split");
+        mock.expectedMessageCount(3);
+        mock.message(0).body().isEqualTo("<order xmlns=\"http:acme.com\" id=\"1\">Camel in Action</order>");
+        mock.message(1).body().isEqualTo("<order xmlns=\"http:acme.com\" id=\"2\">ActiveMQ &lt;/order&gt; in Action</order>");
+        mock.message(2).body().isEqualTo("<order xmlns=\"http:acme.com\" xmlns:x=\"http:x.com\" id=\"3\"><x:order>DSL</x:order> in Action</order>");
+
+        template.sendBodyAndHeader("file:target/stax", createBody(), Exchange.FILE_NAME, "orders.xml");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testTokenXMLStreamNoNamespaces() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:plain");
+        mock.expectedMessageCount(3);
+        // the namespace of the element is not inherited from the root, but still declared as the element uses it
+        mock.message(0).body().isEqualTo("<order xmlns=\"http:acme.com\" id=\"1\">Camel in Action</order>");
+
+        template.sendBody("direct:plain", createBody());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testTokenXMLStreamMany() throws Exception {
+        int size = 1000;
+        MockEndpoint mock = getMockEndpoint("mock:plain");
+        mock.expectedMessageCount(size);
+        mock.message(size - 1).body().isEqualTo("<order id=\"" + (size - 1) + "\">Camel</order>");
+
+        StringBuilder sb = new StringBuilder("<orders>");
+        for (int i = 0; i < size; i++) {
+            sb.append("<order id=\"").append(i).append("\">Camel</order>");
+        }
+        sb.append("</orders>");
+        template.sendBody("direct:plain", sb.toString());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testTokenXMLStreamDeclaresUsedNamespaces() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:plain");
+        mock.expectedMessageCount(1);
+        // the prefixes declared on the root are used in the element, so they must be declared even without inherit
+        mock.message(0).body().isEqualTo("<order xmlns:y=\"http:y.com\" y:id=\"1\"><x:name xmlns:x=\"http:x.com\">Camel</x:name></order>");
+
+        template.sendBody("direct:plain", "<orders xmlns:x=\"http:x.com\" xmlns:y=\"http:y.com\"><order y:id=\"1\"><x:name>Camel</x:name></order></orders>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testTokenXMLStreamMatchesPrefixAndNamespace() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:qualified");
+        mock.expectedBodiesReceived("<b:order xmlns:b=\"http:acme.com\">2</b:order>", "<order xmlns=\"http:acme.com\">3</order>");
+        MockEndpoint plain = getMockEndpoint("mock:plain");
+        // the local name only matches the elements without a prefix
+        plain.expectedBodiesReceived("<order xmlns=\"http:acme.com\">3</order>");
+
+        String body = "<orders xmlns:a=\"http:other.com\" xmlns:b=\"http:acme.com\">"
+                + "<a:order>1</a:order><b:order>2</b:order><order xmlns=\"http:acme.com\">3</order></orders>";
+        template.sendBody("direct:qualified", body);
+        template.sendBody("direct:plain", body);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testTokenXMLStreamRemoveNotSupported() throws Exception {
+        Exchange exchange = createExchangeWithBody("<orders><order>1</order></orders>");
+        Iterator<?> it = (Iterator<?>) ExpressionBuilder.tokenizeXMLStreamExpression("order", null).evaluate(exchange, Object.class);
+        assertEquals("<order>1</order>", it.next());
+        try {
+            it.remove();
+            fail("Should have thrown an exception");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        assertFalse(it.hasNext());
+    }
+
+    protected String createBody() {
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\"?>\n");
+        sb.append("<orders xmlns=\"http:acme.com\">\n");
+        sb.append("  <!-- <order id=\"0\">not an order</order> -->\n");
+        sb.append("  <order id=\"1\">Camel in Action</order>\n");
+        sb.append("  <order id=\"2\"><![CDATA[ActiveMQ </order> in Action]]></order>\n");
+        sb.append("  <order id=\"3\" xmlns:x=\"http:x.com\"><x:order>DSL</x:order> in Action</order>\n");
+        sb.append("</orders>");
+        return sb.toString();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/stax")
+                    // split the order child tags, and inherit namespaces from the orders root tag
+                    .split().tokenizeXMLStream("order", "orders").streaming()
+                        .to("mock:split");
+
+                from("direct:qualified")
+                    .split().tokenizeXMLStream("{http:acme.com}order", null).streaming()
+                        .to("mock:qualified");
+
+                from("direct:plain")
+                    .split().tokenizeXMLStream("order", null).streaming()
+                        .to("mock:plain");
+            }
+        };
+    }
+}
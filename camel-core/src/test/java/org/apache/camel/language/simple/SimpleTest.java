@@ -59,6 +59,18 @@ public class SimpleTest extends LanguageTestSupport {
         assertEquals(null, SimpleLanguage.simple("${header.unknown}", String.class).evaluate(exchange, Object.class));
     }
 
+    public void testExpressionCache() throws Exception {
+        SimpleLanguage simple = new SimpleLanguage();
+        assertSame(simple.createExpression("${header.bar}"), simple.createExpression("${header.bar}"));
+        assertSame(simple.createPredicate("${header.bar} == 123"), simple.createPredicate("${header.bar} == 123"));
+        // the cache is per language instance
+        assertNotSame(simple.createExpression("${header.bar}"), new SimpleLanguage().createExpression("${header.bar}"));
+
+        // the result type should be applied to the cached expression
+        assertEquals(123, simple.createExpression("${header.bar}").evaluate(exchange, Object.class));
+        assertEquals("123", SimpleLanguage.simple("${header.bar}", String.class).evaluate(exchange, Object.class));
+    }
+
     public void testRefExpression() throws Exception {
         assertExpressionResultInstanceOf("ref:myAnimal", Animal.class);
         assertExpressionResultInstanceOf("${ref:myAnimal}", Animal.class);
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.interceptor.BacklogTracer;
+
+/**
+ * @version 
+ */
+public class ManagedBacklogTracerTest extends ManagementTestSupport {
+
+    public void testBacklogTracer() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        // the regular tracer is always registered as well
+        ObjectName on = null;
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=tracer,*"), null);
+        for (ObjectName name : set) {
+            if (name.getKeyProperty("name").contains("BacklogTracer")) {
+                on = name;
+            }
+        }
+        assertNotNull("Should have registered the backlog tracer", on);
+
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        Boolean enabled = (Boolean) mbeanServer.getAttribute(on, "Enabled");
+        assertEquals(Boolean.TRUE, enabled);
+
+        Integer size = (Integer) mbeanServer.getAttribute(on, "BacklogSize");
+        assertEquals(100, size.intValue());
+
+        Long counter = (Long) mbeanServer.getAttribute(on, "TraceCounter");
+        assertEquals(4, counter.longValue());
+
+        String dump = (String) mbeanServer.invoke(on, "dumpTracedMessages", new Object[]{"route-a"}, new String[]{"java.lang.String"});
+        assertTrue(dump, dump.contains("Body: Hello World"));
+        assertTrue(dump, dump.contains("Body: Bye World"));
+
+        // disable tracing
+        mbeanServer.setAttribute(on, new Attribute("Enabled", Boolean.FALSE));
+        mbeanServer.invoke(on, "clear", null, null);
+
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+        template.sendBody("direct:start", "Hi World");
+        assertMockEndpointsSatisfied();
+
+        dump = (String) mbeanServer.invoke(on, "dumpAllTracedMessages", null, null);
+        assertEquals("", dump);
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.addInterceptStrategy(new BacklogTracer(context));
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("route-a")
+                    .to("log:foo")
+                    .to("mock:result");
+            }
+        };
+    }
+}
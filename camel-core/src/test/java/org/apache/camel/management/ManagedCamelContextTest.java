@@ -56,6 +56,13 @@ public class ManagedCamelContextTest extends ManagementTestSupport {
         String status = (String) mbeanServer.getAttribute(on, "State");
         assertEquals("Started", status);
 
+        Long duration = (Long) mbeanServer.getAttribute(on, "StartupServicesDuration");
+        assertTrue(duration >= 0);
+        duration = (Long) mbeanServer.getAttribute(on, "StartupCreateRoutesDuration");
+        assertTrue(duration >= 0);
+        duration = (Long) mbeanServer.getAttribute(on, "StartupStartRoutesDuration");
+        assertTrue(duration >= 0);
+
         // invoke operations
         MockEndpoint mock = getMockEndpoint("mock:result");
         mock.expectedBodiesReceived("Hello World");
@@ -72,6 +72,50 @@ public class ManagedCamelContextUpdateRoutesFromXmlTest extends ManagementTestSu
         assertMockEndpointsSatisfied();
     }
 
+    public void testUpdateRoutesFromXml() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        // update existing route, and add a 2nd
+        String xml =
+                  "<routes id=\"myRoute\" xmlns=\"http://camel.apache.org/schema/spring\">"
+                + "<route id=\"myRoute\">"
+                + "  <from uri=\"direct:start\"/>"
+                + "  <to uri=\"mock:changed\"/>"
+                + "</route>"
+                + "<route id=\"myOtherRoute\">"
+                + "  <from uri=\"seda:bar\"/>"
+                + "  <to uri=\"mock:bar\"/>"
+                + "</route>"
+                + "</routes>";
+
+        ObjectName on = ObjectName.getInstance("org.apache.camel:context=localhost/camel-1,type=context,name=\"camel-1\"");
+        Integer count = (Integer) mbeanServer.invoke(on, "updateRoutesFromXml", new Object[]{xml}, new String[]{"java.lang.String"});
+        assertEquals(2, count.intValue());
+        assertEquals(2, mbeanServer.getAttribute(on, "LastRoutesUpdateCount"));
+        Long duration = (Long) mbeanServer.getAttribute(on, "LastRoutesUpdateDuration");
+        assertTrue(duration >= 0);
+
+        // there should be 2 routes now
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null);
+        assertEquals(2, set.size());
+
+        getMockEndpoint("mock:changed").expectedMessageCount(1);
+        template.sendBody("direct:start", "Bye World");
+        assertMockEndpointsSatisfied();
+
+        // the routes are unchanged so none should be updated
+        count = (Integer) mbeanServer.invoke(on, "updateRoutesFromXml", new Object[]{xml}, new String[]{"java.lang.String"});
+        assertEquals(0, count.intValue());
+        assertEquals(0, mbeanServer.getAttribute(on, "LastRoutesUpdateCount"));
+
+        // the same xml should add the route again if it has been removed in the meantime
+        context.stopRoute("myOtherRoute");
+        context.removeRoute("myOtherRoute");
+        count = (Integer) mbeanServer.invoke(on, "updateRoutesFromXml", new Object[]{xml}, new String[]{"java.lang.String"});
+        assertEquals(1, count.intValue());
+        assertNotNull(context.getRoute("myOtherRoute"));
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+
+/**
+ * @version 
+ */
+public class ManagedErrorHandlerPendingRedeliveriesTest extends ManagementTestSupport {
+
+    public void testManagedErrorHandlerPendingRedeliveries() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=errorhandlers,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        assertEquals(0, ((Integer) mbeanServer.getAttribute(on, "PendingRedeliveries")).intValue());
+        assertEquals(0, ((Long) mbeanServer.getAttribute(on, "PendingRedeliveriesMeanAge")).longValue());
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World", "Bye World");
+
+        // the consumer thread should not be blocked while the redeliveries are pending
+        template.sendBody("seda:start", "Hello World");
+        template.sendBody("seda:start", "Bye World");
+
+        int pending = 0;
+        for (int i = 0; i < 50 && pending < 2; i++) {
+            Thread.sleep(100);
+            pending = (Integer) mbeanServer.getAttribute(on, "PendingRedeliveries");
+        }
+        assertEquals(2, pending);
+        Long age = (Long) mbeanServer.getAttribute(on, "PendingRedeliveriesMeanAge");
+        assertTrue("Should have an age: " + age, age >= 0 && age < 2000);
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(0, ((Integer) mbeanServer.getAttribute(on, "PendingRedeliveries")).intValue());
+        assertEquals(0, ((Long) mbeanServer.getAttribute(on, "PendingRedeliveriesMeanAge")).longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(2).redeliveryDelay(2000));
+
+                from("seda:start").process(new Processor() {
+                    public void process(Exchange exchange) throws Exception {
+                        // fail the first attempt
+                        if (!exchange.getIn().getHeader(Exchange.REDELIVERED, false, Boolean.class)) {
+                            throw new IllegalArgumentException("Forced");
+                        }
+                    }
+                }).to("mock:result");
+            }
+        };
+    }
+}
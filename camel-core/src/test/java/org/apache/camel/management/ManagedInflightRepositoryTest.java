@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * @version 
+ */
+public class ManagedInflightRepositoryTest extends ManagementTestSupport {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    public void testManageInflightRepository() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("seda:start", "Hello World");
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        MBeanServer mbeanServer = getMBeanServer();
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=services,*"), null);
+        ObjectName on = null;
+        for (ObjectName name : set) {
+            if (name.getCanonicalName().contains("DefaultInflightRepository")) {
+                on = name;
+                break;
+            }
+        }
+        assertNotNull("Should have found DefaultInflightRepository", on);
+
+        Integer size = (Integer) mbeanServer.getAttribute(on, "Size");
+        assertEquals(1, size.intValue());
+
+        Integer max = (Integer) mbeanServer.getAttribute(on, "MaxTrackedExchanges");
+        assertEquals(10000, max.intValue());
+
+        Integer routeSize = (Integer) mbeanServer.invoke(on, "size", new Object[]{"foo"}, new String[]{"java.lang.String"});
+        assertEquals(1, routeSize.intValue());
+
+        Long duration = (Long) mbeanServer.getAttribute(on, "OldestInflightDuration");
+        assertTrue(duration >= 0);
+
+        String dump = (String) mbeanServer.invoke(on, "dumpOldestInflightExchanges", new Object[]{10}, new String[]{"int"});
+        assertTrue(dump, dump.contains("route: foo"));
+        assertTrue(dump, dump.contains("endpoint: mock://result"));
+
+        String histogram = (String) mbeanServer.invoke(on, "dumpInflightAgeHistogram", null, null);
+        assertTrue(histogram, histogram.startsWith("< 1000 millis: 1"));
+
+        latch.countDown();
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start").routeId("foo")
+                    .to("mock:result")
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            started.countDown();
+                            latch.await(10, TimeUnit.SECONDS);
+                        }
+                    });
+            }
+        };
+    }
+
+}
@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Route;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.ServiceSupport;
+
+/**
+ * @version 
+ */
+public class UpdateRouteDefinitionsTest extends ContextTestSupport {
+
+    public void testUpdateRouteDefinitions() throws Exception {
+        // routes which are not added from an update are always updated
+        assertEquals(2, context.updateRouteDefinitions(loadRoutes("mock:bar", false)));
+        assertEquals(2, context.getRoutes().size());
+
+        Route foo = context.getRoute("foo");
+        Route bar = context.getRoute("bar");
+        Endpoint seda = context.getEndpoint("seda:bar");
+
+        // only the changed and the new route should be updated
+        assertEquals(2, context.updateRouteDefinitions(loadRoutes("mock:changed", true)));
+        assertEquals(3, context.getRoutes().size());
+        assertEquals(3, context.getRouteDefinitions().size());
+
+        // the unchanged route should not have been touched
+        assertSame(foo, context.getRoute("foo"));
+        assertNotSame(bar, context.getRoute("bar"));
+        assertEquals(ServiceStatus.Started, context.getRouteStatus("bar"));
+
+        // the endpoint should be kept warm for the updated route
+        assertSame(seda, context.getRoute("bar").getEndpoint());
+        assertTrue(((ServiceSupport) seda).isStarted());
+
+        getMockEndpoint("mock:foo").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:bar").expectedMessageCount(0);
+        getMockEndpoint("mock:changed").expectedBodiesReceived("Bye World");
+        getMockEndpoint("mock:baz").expectedBodiesReceived("Hi World");
+
+        template.sendBody("direct:foo", "Hello World");
+        template.sendBody("seda:bar", "Bye World");
+        template.sendBody("direct:baz", "Hi World");
+
+        assertMockEndpointsSatisfied();
+
+        // updating again with the same routes should not update any routes
+        assertEquals(0, context.updateRouteDefinitions(loadRoutes("mock:changed", true)));
+        assertSame(foo, context.getRoute("foo"));
+    }
+
+    private List<RouteDefinition> loadRoutes(String barUri, boolean baz) throws Exception {
+        String xml = "<routes xmlns=\"http://camel.apache.org/schema/spring\">"
+                + "<route id=\"foo\">"
+                + "  <from uri=\"direct:foo\"/>"
+                + "  <to uri=\"mock:foo\"/>"
+                + "</route>"
+                + "<route id=\"bar\">"
+                + "  <from uri=\"seda:bar\"/>"
+                + "  <to uri=\"" + barUri + "\"/>"
+                + "</route>"
+                + (baz ? "<route id=\"baz\"><from uri=\"direct:baz\"/><to uri=\"mock:baz\"/></route>" : "")
+                + "</routes>";
+        return context.loadRoutesDefinition(new ByteArrayInputStream(xml.getBytes())).getRoutes();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:foo").routeId("foo")
+                    .to("mock:foo");
+
+                from("seda:bar").routeId("bar")
+                    .to("mock:bar");
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.util.StopWatch;
+
+/**
+ * A route with many steps for simple performance testing of the pipeline and channels
+ * between the steps in the route.
+ *
+ * @version 
+ */
+public class PipelinePerformanceTest extends ContextTestSupport {
+
+    private static final int STEPS = 20;
+
+    private final CountProcessor counter = new CountProcessor();
+    private final List<String> routeIds = new ArrayList<String>();
+    private int size = 5000;
+
+    public void testPipelinePerformance() throws Exception {
+        StopWatch watch = new StopWatch();
+
+        for (int i = 0; i < size; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+        assertEquals(size * STEPS, counter.getCounter());
+
+        log.info("PipelinePerformanceTest: Sent: " + size + " through " + STEPS + " steps. Took: " + watch.taken() + " ms");
+    }
+
+    public void testRouteContextAfterNestedRoute() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:a", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        // the route context should be restored when returning from the nested route
+        assertEquals("[a, a, b, a]", routeIds.toString());
+    }
+
+    @Override
+    protected boolean canRunOnThisPlatform() {
+        String os = System.getProperty("os.name");
+        // HP-UX is just to slow to run this test
+        return !os.toLowerCase(Locale.ENGLISH).contains("hp-ux");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                RouteDefinition route = from("direct:start");
+                for (int i = 0; i < STEPS; i++) {
+                    route.process(counter);
+                }
+
+                Processor recorder = new Processor() {
+                    public void process(Exchange exchange) throws Exception {
+                        routeIds.add(exchange.getUnitOfWork().getRouteContext().getRoute().getId());
+                    }
+                };
+
+                from("direct:a").routeId("a")
+                    .process(recorder)
+                    .process(recorder)
+                    .to("direct:b")
+                    .process(recorder)
+                    .to("mock:result");
+
+                from("direct:b").routeId("b")
+                    .process(recorder);
+            }
+        };
+    }
+
+    private static class CountProcessor implements Processor {
+        private AtomicInteger counter = new AtomicInteger(0);
+
+        public void process(Exchange exchange) throws Exception {
+            counter.incrementAndGet();
+        }
+
+        public int getCounter() {
+            return counter.intValue();
+        }
+    }
+}
@@ -52,9 +52,9 @@ public class RedeliveryOnExceptionBlockedDelayTest extends ContextTestSupport {
         return new RouteBuilder() {
             @Override
             public void configure() throws Exception {
-                // will by default block
+                // use synchronous delayed redelivery which blocks
                 onException(IllegalArgumentException.class)
-                    .maximumRedeliveries(5).redeliveryDelay(2000);
+                    .maximumRedeliveries(5).redeliveryDelay(2000).syncDelayedRedelivery();
 
                 from("seda:start")
                     .to("log:before")
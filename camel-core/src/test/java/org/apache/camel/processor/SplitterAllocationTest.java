@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.SimpleUuidGenerator;
+
+/**
+ * Regression test for the ids created per exchange when splitting.
+ *
+ * @version 
+ */
+public class SplitterAllocationTest extends ContextTestSupport {
+
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        // the breadcrumb uses the message id
+        context.setUseBreadcrumb(false);
+        context.setUuidGenerator(new SimpleUuidGenerator() {
+            @Override
+            public String generateUuid() {
+                generated.incrementAndGet();
+                return super.generateUuid();
+            }
+        });
+        return context;
+    }
+
+    public void testSplitDoesNotCreateMessageIds() throws Exception {
+        // warm up
+        template.sendBody("direct:start", "A,B,C");
+
+        generated.set(0);
+        template.sendBody("direct:start", "A,B,C,D,E");
+
+        // only the ids of the exchanges (the original and the 5 splits) should be created,
+        // as the message ids are not used by the route
+        assertEquals(6, generated.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .split(body().tokenize(","))
+                        .to("log:foo?level=TRACE");
+            }
+        };
+    }
+}
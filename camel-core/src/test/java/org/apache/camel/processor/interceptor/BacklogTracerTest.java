@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.interceptor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * @version 
+ */
+public class BacklogTracerTest extends ContextTestSupport {
+
+    private BacklogTracer backlogTracer;
+
+    public void testBacklogTracer() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        template.sendBodyAndHeader("direct:start", "Hello World", "foo", 123);
+
+        assertMockEndpointsSatisfied();
+
+        List<BacklogTracerEventMessage> events = backlogTracer.getTracedMessages("route-a");
+        assertEquals(2, events.size());
+        assertEquals("foo", events.get(0).getToNode());
+        assertEquals("result", events.get(1).getToNode());
+        assertEquals("Hello World", events.get(0).getBody());
+        assertEquals("123", events.get(0).getHeaders().get("foo"));
+        assertTrue(events.get(0).getUid() < events.get(1).getUid());
+
+        String dump = backlogTracer.dumpTracedMessages("route-a");
+        assertTrue(dump, dump.contains("route-a --> foo"));
+        assertTrue(dump, dump.contains("Body: Hello World"));
+
+        assertEquals(0, backlogTracer.getTracedMessages("unknown").size());
+    }
+
+    public void testBacklogTracerOverwriteOldest() throws Exception {
+        backlogTracer.setBacklogSize(4);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+
+        // only the newest messages is kept
+        List<BacklogTracerEventMessage> events = backlogTracer.getTracedMessages("route-a");
+        assertEquals(4, events.size());
+        assertEquals("Message 3", events.get(0).getBody());
+        assertEquals("Message 4", events.get(3).getBody());
+        assertEquals(10, backlogTracer.getTraceCounter());
+    }
+
+    public void testBacklogTracerSampling() throws Exception {
+        backlogTracer.setSamplingRate(4);
+
+        for (int i = 0; i < 40; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+
+        // an exchange is either traced at all the nodes or not at all
+        List<BacklogTracerEventMessage> events = backlogTracer.getTracedMessages("route-a");
+        assertTrue("Should only sample some of the exchanges", events.size() < 80);
+        assertEquals(0, events.size() % 2);
+        for (int i = 0; i < events.size(); i += 2) {
+            assertEquals(events.get(i).getExchangeId(), events.get(i + 1).getExchangeId());
+        }
+    }
+
+    public void testBacklogTracerFilter() throws Exception {
+        backlogTracer.setTraceFilter(body().contains("Camel"));
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Hello Camel");
+
+        List<BacklogTracerEventMessage> events = backlogTracer.getAllTracedMessages();
+        assertEquals(2, events.size());
+        assertEquals("Hello Camel", events.get(0).getBody());
+    }
+
+    public void testBacklogTracerKeepsSnapshot() throws Exception {
+        backlogTracer.setBodyMaxChars(5);
+
+        StringBuilder body = new StringBuilder("Hello World");
+        template.sendBody("direct:start", body);
+        // changing the body afterwards should not change the traced messages
+        body.append(" and Camel");
+
+        List<BacklogTracerEventMessage> events = backlogTracer.getTracedMessages("route-a");
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).getBody(), events.get(0).getBody().startsWith("Hello"));
+        assertFalse(events.get(0).getBody(), events.get(0).getBody().contains("World"));
+    }
+
+    public void testBacklogTracerFormatsWhenRead() throws Exception {
+        backlogTracer.setBodyMaxChars(5);
+
+        Date date = new Date(0);
+        template.sendBodyAndHeader("direct:start", "Hello World", "date", date);
+        // changing the date afterwards should not change the traced messages
+        date.setTime(1000);
+
+        // the string body is kept as is and first clipped when read
+        List<BacklogTracerEventMessage> events = backlogTracer.getTracedMessages("route-a");
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).getBody(), events.get(0).getBody().startsWith("Hello... [Body clipped after 5 chars"));
+        assertEquals(new Date(0).toString(), events.get(0).getHeaders().get("date"));
+    }
+
+    public void testBacklogTracerDisabled() throws Exception {
+        backlogTracer.setEnabled(false);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertEquals(0, backlogTracer.getAllTracedMessages().size());
+        assertEquals(0, backlogTracer.getTraceCounter());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        backlogTracer = new BacklogTracer(context);
+        context.addInterceptStrategy(backlogTracer);
+        return context;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("route-a")
+                    .to("mock:foo").id("foo")
+                    .to("mock:result").id("result");
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.onexception;
+
+import java.io.IOException;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * Test that the exception policy is resolved correctly when the same exception is thrown many times,
+ * where the resolved exception policy is cached.
+ *
+ * @version 
+ */
+public class OnExceptionPolicyCacheTest extends ContextTestSupport {
+
+    public void testSameExceptionManyTimes() throws Exception {
+        getMockEndpoint("mock:io").expectedMessageCount(10);
+        getMockEndpoint("mock:iae").expectedMessageCount(0);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "type", "io");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testWrappedException() throws Exception {
+        getMockEndpoint("mock:io").expectedMessageCount(3);
+
+        for (int i = 0; i < 3; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "type", "wrapped");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testOnWhenIsEvaluatedEveryTime() throws Exception {
+        getMockEndpoint("mock:bar").expectedBodiesReceived("A", "C");
+        getMockEndpoint("mock:iae").expectedBodiesReceived("B", "D");
+
+        template.sendBodyAndHeader("direct:start", "A", "type", "bar");
+        template.sendBodyAndHeader("direct:start", "B", "type", "iae");
+        template.sendBodyAndHeader("direct:start", "C", "type", "bar");
+        template.sendBodyAndHeader("direct:start", "D", "type", "iae");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    public void testRouteScoped() throws Exception {
+        getMockEndpoint("mock:io").expectedBodiesReceived("A", "C");
+        getMockEndpoint("mock:other").expectedBodiesReceived("B", "D");
+
+        template.sendBodyAndHeader("direct:start", "A", "type", "io");
+        template.sendBodyAndHeader("direct:other", "B", "type", "io");
+        template.sendBodyAndHeader("direct:start", "C", "type", "io");
+        template.sendBodyAndHeader("direct:other", "D", "type", "io");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                onException(IOException.class).handled(true).to("mock:io");
+                onException(IllegalArgumentException.class).onWhen(header("type").isEqualTo("bar")).handled(true).to("mock:bar");
+                onException(IllegalArgumentException.class).handled(true).to("mock:iae");
+
+                Processor fail = new Processor() {
+                    public void process(Exchange exchange) throws Exception {
+                        String type = exchange.getIn().getHeader("type", String.class);
+                        if ("io".equals(type)) {
+                            throw new IOException("Forced");
+                        } else if ("wrapped".equals(type)) {
+                            throw new RuntimeCamelException(new IOException("Forced"));
+                        }
+                        throw new IllegalArgumentException("Forced");
+                    }
+                };
+
+                from("direct:start").process(fail);
+
+                from("direct:other")
+                    .onException(IOException.class).handled(true).to("mock:other").end()
+                    .process(fail);
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+/**
+ *
+ */
+public class TimingWheelScheduledExecutorServiceTest extends TestCase {
+
+    private ScheduledThreadPoolExecutor delegate;
+    private TimingWheelScheduledExecutorService wheel;
+
+    @Override
+    protected void setUp() throws Exception {
+        delegate = new ScheduledThreadPoolExecutor(2);
+        // use a small wheel so the tasks wraps around the wheel
+        wheel = new TimingWheelScheduledExecutorService(delegate, 10, 8);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        wheel.shutdownNow();
+    }
+
+    public void testScheduleDelayedTasks() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(3);
+        final long start = System.currentTimeMillis();
+        final long[] elapsed = new long[3];
+
+        for (int i = 0; i < 3; i++) {
+            final int index = i;
+            wheel.schedule(new Runnable() {
+                public void run() {
+                    elapsed[index] = System.currentTimeMillis() - start;
+                    latch.countDown();
+                }
+            }, 100 + i * 100, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(3, wheel.getPendingTasks());
+
+        assertTrue("Should run the tasks", latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; i++) {
+            assertTrue("Should not run before its delay: " + elapsed[i], elapsed[i] >= 100 + i * 100);
+        }
+        assertEquals(0, wheel.getPendingTasks());
+    }
+
+    public void testScheduleNoDelay() throws Exception {
+        ScheduledFuture<String> future = wheel.schedule(new Callable<String>() {
+            public String call() throws Exception {
+                return "Bye World";
+            }
+        }, 0, TimeUnit.MILLISECONDS);
+
+        assertEquals("Bye World", future.get(5, TimeUnit.SECONDS));
+        assertEquals(0, wheel.getPendingTasks());
+    }
+
+    public void testCancel() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        ScheduledFuture<?> future = wheel.schedule(new Runnable() {
+            public void run() {
+                counter.incrementAndGet();
+            }
+        }, 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(future.getDelay(TimeUnit.MILLISECONDS) > 0);
+        assertTrue(future.cancel(false));
+
+        Thread.sleep(300);
+        assertEquals(0, counter.get());
+        assertEquals(0, wheel.getPendingTasks());
+    }
+
+    public void testTickerParkedWhenEmpty() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        Runnable task = new Runnable() {
+            public void run() {
+                latch.countDown();
+            }
+        };
+        wheel.schedule(task, 50, TimeUnit.MILLISECONDS);
+        assertEquals("The ticker should be scheduled", 1, delegate.getQueue().size());
+
+        // the ticker is parked after the task has been run
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((latch.getCount() > 1 || !delegate.getQueue().isEmpty()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, latch.getCount());
+        assertEquals("The ticker should be parked", 0, delegate.getQueue().size());
+
+        // and started again when a new task is scheduled
+        wheel.schedule(task, 50, TimeUnit.MILLISECONDS);
+        assertTrue("Should run the task", latch.await(5, TimeUnit.SECONDS));
+    }
+
+    public void testShutdownNow() throws Exception {
+        Runnable task = new Runnable() {
+            public void run() {
+                // noop
+            }
+        };
+        wheel.schedule(task, 5, TimeUnit.SECONDS);
+        wheel.schedule(task, 10, TimeUnit.SECONDS);
+
+        List<Runnable> pending = wheel.shutdownNow();
+        assertEquals(2, pending.size());
+        assertEquals(0, wheel.getPendingTasks());
+        assertTrue(wheel.isShutdown());
+        assertTrue(delegate.isShutdown());
+    }
+}
@@ -20,14 +20,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.PackageScanClassResolver;
+import org.apache.camel.support.SynchronizationAdapter;
 
 public abstract class BindyAbstractDataFormat implements DataFormat {
     private String[] packages;
     private String locale;
     private BindyAbstractFactory modelFactory;
     private Class<?> classType;
+    private boolean lazyLoad;
 
     public BindyAbstractDataFormat() {
     }
@@ -64,6 +67,20 @@ public abstract class BindyAbstractDataFormat implements DataFormat {
         this.locale = locale;
     }
     
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether to unmarshal the records lazily using an {@link java.util.Iterator} which reads the
+     * records on demand, instead of reading all the records into a {@link List}.
+     * <p/>
+     * This allows splitting huge files in streaming mode using constant memory.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     public BindyAbstractFactory getFactory(PackageScanClassResolver resolver) throws Exception {
         if (modelFactory == null) {
             modelFactory = createModelFactory(resolver);
@@ -78,6 +95,46 @@ public abstract class BindyAbstractDataFormat implements DataFormat {
     
     protected abstract BindyAbstractFactory createModelFactory(PackageScanClassResolver resolver) throws Exception;
 
+    /**
+     * Unmarshals the records from the iterator, either by returning the iterator as is
+     * if <tt>lazyLoad</tt> is enabled, or by reading all the records.
+     */
+    protected Object unmarshalRecords(Exchange exchange, final BindyRecordIterator records) throws Exception {
+        if (lazyLoad) {
+            // make sure the input is closed when the exchange is done, in case the iterator was not read to the end
+            exchange.addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    records.close();
+                }
+
+                @Override
+                public String toString() {
+                    return "BindyRecordIteratorCloser";
+                }
+            });
+            return records;
+        }
+
+        try {
+            List<Map<String, Object>> models = new ArrayList<Map<String, Object>>();
+            Map<String, Object> model;
+            while ((model = records.nextModel()) != null) {
+                models.add(model);
+            }
+
+            // Test if models list is empty or not
+            // If this is the case (correspond to an empty stream, ...)
+            if (models.size() == 0) {
+                throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+            } else {
+                return extractUnmarshalResult(models);
+            }
+        } finally {
+            records.close();
+        }
+    }
+
     protected Object extractUnmarshalResult(List<Map<String, Object>> models) {
         if (getClassType() != null) {
             // we expect to find this type in the models, and grab only that type
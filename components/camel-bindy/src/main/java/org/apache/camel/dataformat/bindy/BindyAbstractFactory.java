@@ -23,6 +23,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.dataformat.bindy.util.AnnotationModelLoader;
 import org.apache.camel.spi.PackageScanClassResolver;
@@ -39,6 +40,8 @@ public abstract class BindyAbstractFactory implements BindyFactory {
     protected final Map<String, List<Field>> annotatedLinkFields = new LinkedHashMap<String, List<Field>>();
     protected Set<Class<?>> models;
     protected String crlf;
+    // the formats are stateless so they can be created once per field and reused for all the records
+    private final Map<Field, Format<?>> formats = new ConcurrentHashMap<Field, Format<?>>();
 
     private AnnotationModelLoader modelsLoader;
     private String[] packageNames;
@@ -117,9 +120,6 @@ public abstract class BindyAbstractFactory implements BindyFactory {
             // Iterate through Link fields list
             for (Field field : linkFields) {
 
-                // Change protection for private field
-                field.setAccessible(true);
-
                 // Retrieve linked object
                 String toClassName = field.getType().getName();
                 Object to = model.get(toClassName);
@@ -232,11 +232,30 @@ public abstract class BindyAbstractFactory implements BindyFactory {
         return strValue;
     }
 
+    /**
+     * Gets the format to use for the given field, which is created on first use and then cached
+     *
+     * @param field the annotated field
+     * @param pattern the pattern defined for the field
+     * @param precision the precision defined for the field
+     * @return the format
+     */
+    protected Format<?> getFormat(Field field, String pattern, int precision) throws Exception {
+        Format<?> format = formats.get(field);
+        if (format == null) {
+            format = FormatFactory.getFormat(field.getType(), pattern, getLocale(), precision);
+            formats.put(field, format);
+        }
+        return format;
+    }
+
     public String getLocale() {
         return locale;
     }
 
     public void setLocale(String locale) {
         this.locale = locale;
+        // the formats depends on the locale
+        formats.clear();
     }
 }
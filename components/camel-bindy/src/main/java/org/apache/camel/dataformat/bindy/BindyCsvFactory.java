@@ -123,6 +123,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
                     dataFields.put(dataField.pos(), dataField);
                     annotatedFields.put(dataField.pos(), field);
+                    field.setAccessible(true);
                 }
 
                 Link linkField = field.getAnnotation(Link.class);
@@ -131,6 +132,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Class linked: {}, Field: {}", cl.getName(), field);
                     }
+                    field.setAccessible(true);
                     linkFields.add(field);
                 }
 
@@ -176,9 +178,8 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
                 }
             }
 
-            // Get Field to be setted
+            // Get Field to be setted (made accessible when the model was initialized)
             Field field = annotatedFields.get(pos);
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos: {}, Data: {}, Field type: {}", new Object[]{pos, data, field.getType()});
@@ -190,7 +191,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             String pattern = dataField.pattern();
 
             // Create format object to format the field
-            format = FormatFactory.getFormat(field.getType(), pattern, getLocale(), dataField.precision());
+            format = getFormat(field, pattern, dataField.precision());
 
             // field object to be set
             Object modelField = model.get(field.getDeclaringClass().getName());
@@ -392,12 +393,11 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
                     // Retrieve the format, pattern and precision associated to
                     // the type
-                    Class<?> type = field.getType();
                     String pattern = datafield.pattern();
                     int precision = datafield.precision();
 
                     // Create format
-                    Format<?> format = FormatFactory.getFormat(type, pattern, getLocale(), precision);
+                    Format<?> format = getFormat(field, pattern, precision);
 
                     // Get field value
                     Object value = field.get(obj);
@@ -585,8 +585,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             Object modelField = model.get(field.getDeclaringClass().getName());
             if (field.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
                 String pattern = dataField.pattern();
-                Format<?> format = FormatFactory.getFormat(field.getType(), pattern, getLocale(),
-                                                                 dataField.precision());
+                Format<?> format = getFormat(field, pattern, dataField.precision());
                 Object value = format.parse(dataField.defaultValue());
                 field.set(modelField, value);
             }
@@ -115,6 +115,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
                     dataFields.put(dataField.pos(), dataField);
                     annotatedFields.put(dataField.pos(), field);
+                    field.setAccessible(true);
                 }
 
                 Link linkField = field.getAnnotation(Link.class);
@@ -123,6 +124,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Class linked: {}, Field: {}", cl.getName(), field);
                     }
+                    field.setAccessible(true);
                     linkFields.add(field);
                 }
 
@@ -201,9 +203,8 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                 }
             }
             
-            // Get Field to be setted
+            // Get Field to be setted (made accessible when the model was initialized)
             field = annotatedFields.get(offset);
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", new Object[]{offset, token, field.getType()});
@@ -215,7 +216,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             pattern = dataField.pattern();
 
             // Create format object to format the field
-            format = FormatFactory.getFormat(field.getType(), pattern, getLocale(), dataField.precision());
+            format = getFormat(field, pattern, dataField.precision());
 
             // field object to be set
             Object modelField = model.get(field.getDeclaringClass().getName());
@@ -313,14 +314,13 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
                     // Retrieve the format, pattern and precision associated to
                     // the type
-                    Class<?> type = field.getType();
                     String pattern = datafield.pattern();
                     int precision = datafield.precision();
 
 
 
                     // Create format
-                    Format<?> format = FormatFactory.getFormat(type, pattern, getLocale(), precision);
+                    Format<?> format = getFormat(field, pattern, precision);
 
                     // Get field value
                     Object value = field.get(obj);
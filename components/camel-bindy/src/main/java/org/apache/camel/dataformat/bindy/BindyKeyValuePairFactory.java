@@ -109,6 +109,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Class linked  : {}, Field {}", cl.getName(), field);
                     }
+                    field.setAccessible(true);
                     linkFields.add(field);
                 }
             }
@@ -287,7 +288,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                                 String pattern = keyValuePairField.pattern();
 
                                 // Create format object to format the field
-                                Format<?> format = FormatFactory.getFormat(field.getType(), pattern, getLocale(), keyValuePairField.precision());
+                                Format<?> format = getFormat(field, pattern, keyValuePairField.precision());
 
                                 // format the value of the key received
                                 result = formatField(format, value, key, line);
@@ -327,7 +328,7 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
                                     String pattern = keyValuePairField.pattern();
 
                                     // Create format object to format the field
-                                    Format<?> format = FormatFactory.getFormat(field.getType(), pattern, getLocale(), keyValuePairField.precision());
+                                    Format<?> format = getFormat(field, pattern, keyValuePairField.precision());
 
                                     // format the value of the key received
                                     Object result = formatField(format, value, key, line);
@@ -451,13 +452,12 @@ public class BindyKeyValuePairFactory extends BindyAbstractFactory implements Bi
             }
 
             // Retrieve the format, pattern and precision associated to the type
-            Class<?> type = field.getType();
             String pattern = keyValuePairField.pattern();
             int precision = keyValuePairField.precision();
 
             // Create format
             @SuppressWarnings("unchecked")
-            Format<Object> format = (Format<Object>)FormatFactory.getFormat(type, pattern, getLocale(), precision);
+            Format<Object> format = (Format<Object>)getFormat(field, pattern, precision);
 
             // Get object to be formatted
             Object obj = model.get(field.getDeclaringClass().getName());
@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * An {@link Iterator} which unmarshals the records of the input one line at a time.
+ * <p/>
+ * If a type has been configured then the objects of that type is returned, otherwise
+ * the graph of model objects is returned as a {@link Map}. The underlying input is
+ * closed when all the records has been read, or when the iterator is explicit closed.
+ */
+public abstract class BindyRecordIterator implements Iterator<Object>, Closeable {
+
+    private final Scanner scanner;
+    private final Closeable in;
+    private final Class<?> type;
+    private int count;
+    private Object next;
+    private boolean closed;
+
+    protected BindyRecordIterator(Scanner scanner, Closeable in, Class<?> type) {
+        this.scanner = scanner;
+        this.in = in;
+        this.type = type;
+    }
+
+    /**
+     * Unmarshals the line into a new graph of model objects
+     *
+     * @param line  the line, which is not empty
+     * @param count the record number, used when reporting errors
+     * @return the graph of model objects, or <tt>null</tt> to skip the line
+     */
+    protected abstract Map<String, Object> unmarshalLine(String line, int count) throws Exception;
+
+    /**
+     * Unmarshals the next record
+     *
+     * @return the graph of model objects, or <tt>null</tt> if there are no more records
+     */
+    public Map<String, Object> nextModel() throws Exception {
+        if (closed) {
+            return null;
+        }
+        try {
+            while (scanner.hasNextLine()) {
+                String line = scanner.nextLine();
+                if (ObjectHelper.isEmpty(line)) {
+                    // skip if line is empty
+                    continue;
+                }
+                count++;
+                Map<String, Object> model = unmarshalLine(line, count);
+                if (model != null) {
+                    return model;
+                }
+            }
+        } catch (Exception e) {
+            close();
+            throw e;
+        }
+        close();
+        return null;
+    }
+
+    public boolean hasNext() {
+        while (next == null && !closed) {
+            Map<String, Object> model;
+            try {
+                model = nextModel();
+            } catch (Exception e) {
+                throw ObjectHelper.wrapRuntimeCamelException(e);
+            }
+            if (model != null) {
+                next = type != null ? model.get(type.getName()) : model;
+            }
+        }
+        return next != null;
+    }
+
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = next;
+        next = null;
+        return answer;
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    public void close() {
+        if (!closed) {
+            closed = true;
+            scanner.close();
+            IOHelper.close(in);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
+import org.apache.camel.dataformat.bindy.BindyRecordIterator;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.PackageScanClassResolver;
@@ -105,93 +106,63 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     }
 
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
-        BindyCsvFactory factory = (BindyCsvFactory)getFactory(exchange.getContext().getPackageScanClassResolver());
+        final BindyCsvFactory factory = (BindyCsvFactory)getFactory(exchange.getContext().getPackageScanClassResolver());
         ObjectHelper.notNull(factory, "not instantiated");
 
-        // List of Pojos
-        List<Map<String, Object>> models = new ArrayList<Map<String, Object>>();
-
-        // Pojos of the model
-        Map<String, Object> model;
-
         InputStreamReader in = new InputStreamReader(inputStream, IOHelper.getCharsetName(exchange));
 
         // Scanner is used to read big file
         Scanner scanner = new Scanner(in);
 
         // Retrieve the separator defined to split the record
-        String separator = factory.getSeparator();
+        final String separator = factory.getSeparator();
         ObjectHelper.notNull(separator, "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
 
-        int count = 0;
-        try {
-            // If the first line of the CSV file contains columns name, then we
-            // skip this line
-            if (factory.getSkipFirstLine()) {
-                // Check if scanner is empty
-                if (scanner.hasNextLine()) {
-                    scanner.nextLine();
-                }
+        // If the first line of the CSV file contains columns name, then we
+        // skip this line
+        if (factory.getSkipFirstLine()) {
+            // Check if scanner is empty
+            if (scanner.hasNextLine()) {
+                scanner.nextLine();
             }
+        }
 
-            while (scanner.hasNextLine()) {
-
-                // Read the line
-                String line = scanner.nextLine().trim();
-
-                if (ObjectHelper.isEmpty(line)) {
-                    // skip if line is empty
-                    continue;
-                }
-
-                // Increment counter
-                count++;
-
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
-                
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                String[] tokens = line.split(separator, -1);
-                List<String> result = Arrays.asList(tokens);
-                // must unquote tokens before use
-                result = unquoteTokens(result, separator);
-
-                if (result.size() == 0 || result.isEmpty()) {
-                    throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
-                }
-
-                if (result.size() > 0) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+        BindyRecordIterator records = new BindyRecordIterator(scanner, in, getClassType()) {
+            @Override
+            protected Map<String, Object> unmarshalLine(String line, int count) throws Exception {
+                return unmarshalRecord(factory, separator, line.trim(), count);
+            }
+        };
+        return unmarshalRecords(exchange, records);
+    }
 
-                    // Bind data from CSV record with model classes
-                    factory.bind(result, model, count);
+    private Map<String, Object> unmarshalRecord(BindyCsvFactory factory, String separator, String line, int count) throws Exception {
+        // Create POJO where CSV data will be stored
+        Map<String, Object> model = factory.factory();
 
-                    // Link objects together
-                    factory.link(model);
+        // Split the CSV record according to the separator defined in
+        // annotated class @CSVRecord
+        String[] tokens = line.split(separator, -1);
+        List<String> result = Arrays.asList(tokens);
+        // must unquote tokens before use
+        result = unquoteTokens(result, separator);
 
-                    // Add objects graph to the list
-                    models.add(model);
+        if (result.size() == 0 || result.isEmpty()) {
+            throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+        }
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Size of the record splitted : {}", result.size());
+        }
 
-            // Test if models list is empty or not
-            // If this is the case (correspond to an empty stream, ...)
-            if (models.size() == 0) {
-                throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
-            } else {
-                return extractUnmarshalResult(models);
-            }
+        // Bind data from CSV record with model classes
+        factory.bind(result, model, count);
 
-        } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
-        }
+        // Link objects together
+        factory.link(model);
 
+        LOG.debug("Graph of objects created: {}", model);
+        return model;
     }
 
     /**
@@ -30,6 +30,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyFixedLengthFactory;
+import org.apache.camel.dataformat.bindy.BindyRecordIterator;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.PackageScanClassResolver;
@@ -96,75 +97,45 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
     }
 
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
-        BindyFixedLengthFactory factory = (BindyFixedLengthFactory) getFactory(exchange.getContext().getPackageScanClassResolver());
+        final BindyFixedLengthFactory factory = (BindyFixedLengthFactory) getFactory(exchange.getContext().getPackageScanClassResolver());
         ObjectHelper.notNull(factory, "not instantiated");
 
-        // List of Pojos
-        List<Map<String, Object>> models = new ArrayList<Map<String, Object>>();
-
-        // Pojos of the model
-        Map<String, Object> model;
-
         InputStreamReader in = new InputStreamReader(inputStream, IOHelper.getCharsetName(exchange));
 
         // Scanner is used to read big file
         Scanner scanner = new Scanner(in);
 
-        int count = 0;
-
-        try {
-
-            // TODO Test if we have a Header
-            // TODO Test if we have a Footer (containing by example checksum)
-
-            while (scanner.hasNextLine()) {
-                String line;
-                
-                // Read the line (should not trim as its fixed length)
-                line = scanner.nextLine();
-
-                if (ObjectHelper.isEmpty(line)) {
-                    // skip if line is empty
-                    continue;
-                }
-
-                // Increment counter
-                count++;
-                
-                // Check if the record length corresponds to the parameter
-                // provided in the @FixedLengthRecord
-                if ((line.length() < factory.recordLength()) || (line.length() > factory.recordLength())) {
-                    throw new java.lang.IllegalArgumentException("Size of the record: " + line.length() + " is not equal to the value provided in the model: " + factory.recordLength());
-                }
+        // TODO Test if we have a Header
+        // TODO Test if we have a Footer (containing by example checksum)
 
-                // Create POJO where Fixed data will be stored
-                model = factory.factory();
-                
-                // Bind data from Fixed record with model classes
-                factory.bind(line, model, count);
+        BindyRecordIterator records = new BindyRecordIterator(scanner, in, getClassType()) {
+            @Override
+            protected Map<String, Object> unmarshalLine(String line, int count) throws Exception {
+                // should not trim the line as its fixed length
+                return unmarshalRecord(factory, line, count);
+            }
+        };
+        return unmarshalRecords(exchange, records);
+    }
 
-                // Link objects together
-                factory.link(model);
+    private Map<String, Object> unmarshalRecord(BindyFixedLengthFactory factory, String line, int count) throws Exception {
+        // Check if the record length corresponds to the parameter
+        // provided in the @FixedLengthRecord
+        if ((line.length() < factory.recordLength()) || (line.length() > factory.recordLength())) {
+            throw new java.lang.IllegalArgumentException("Size of the record: " + line.length() + " is not equal to the value provided in the model: " + factory.recordLength());
+        }
 
-                // Add objects graph to the list
-                models.add(model);
+        // Create POJO where Fixed data will be stored
+        Map<String, Object> model = factory.factory();
 
-                LOG.debug("Graph of objects created: {}", model);
-            }
+        // Bind data from Fixed record with model classes
+        factory.bind(line, model, count);
 
-            // Test if models list is empty or not
-            // If this is the case (correspond to an empty stream, ...)
-            if (models.size() == 0) {
-                throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
-            } else {
-                return extractUnmarshalResult(models);
-            }
-
-        } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
-        }
+        // Link objects together
+        factory.link(model);
 
+        LOG.debug("Graph of objects created: {}", model);
+        return model;
     }
 
     @Override
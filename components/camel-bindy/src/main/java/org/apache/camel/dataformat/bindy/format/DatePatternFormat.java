@@ -28,6 +28,8 @@ public class DatePatternFormat implements PatternFormat<Date> {
 
     private String pattern;
     private Locale locale;
+    // the date format is not thread safe, so keep an instance per thread instead of creating it for each value
+    private volatile ThreadLocal<DateFormat> dateFormats = new ThreadLocal<DateFormat>();
 
     public DatePatternFormat() {
     }
@@ -69,11 +71,16 @@ public class DatePatternFormat implements PatternFormat<Date> {
     }
 
     protected java.text.DateFormat getDateFormat() {
-        if (locale != null) {
-            return new SimpleDateFormat(pattern, locale);
-        } else {
-            return new SimpleDateFormat(pattern);
+        DateFormat answer = dateFormats.get();
+        if (answer == null) {
+            if (locale != null) {
+                answer = new SimpleDateFormat(pattern, locale);
+            } else {
+                answer = new SimpleDateFormat(pattern);
+            }
+            dateFormats.set(answer);
         }
+        return answer;
     }
 
     public String getPattern() {
@@ -87,5 +94,7 @@ public class DatePatternFormat implements PatternFormat<Date> {
      */
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        // the cached date formats uses the old pattern
+        this.dateFormats = new ThreadLocal<DateFormat>();
     }
 }
@@ -30,6 +30,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyKeyValuePairFactory;
+import org.apache.camel.dataformat.bindy.BindyRecordIterator;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.PackageScanClassResolver;
@@ -77,16 +78,10 @@ public class BindyKeyValuePairDataFormat extends BindyAbstractDataFormat {
     }
 
     public Object unmarshal(Exchange exchange, InputStream inputStream) throws Exception {
-        BindyKeyValuePairFactory factory = (BindyKeyValuePairFactory)getFactory(exchange.getContext().getPackageScanClassResolver());
+        final BindyKeyValuePairFactory factory = (BindyKeyValuePairFactory)getFactory(exchange.getContext().getPackageScanClassResolver());
 
-        // List of Pojos
-        List<Map<String, Object>> models = new ArrayList<Map<String, Object>>();
-
-        // Pojos of the model
-        Map<String, Object> model;
-        
         // Map to hold the model @OneToMany classes while binding
-        Map<String, List<Object>> lists = new HashMap<String, List<Object>>();
+        final Map<String, List<Object>> lists = new HashMap<String, List<Object>>();
 
         InputStreamReader in = new InputStreamReader(inputStream, IOHelper.getCharsetName(exchange));
 
@@ -95,60 +90,39 @@ public class BindyKeyValuePairDataFormat extends BindyAbstractDataFormat {
 
         // Retrieve the pair separator defined to split the record
         ObjectHelper.notNull(factory.getPairSeparator(), "The pair separator property of the annotation @Message");
-        String separator = factory.getPairSeparator();
-
-        int count = 0;
-        try {
-            while (scanner.hasNextLine()) {
-                // Read the line
-                String line = scanner.nextLine().trim();
-
-                if (ObjectHelper.isEmpty(line)) {
-                    // skip if line is empty
-                    continue;
-                }
-
-                // Increment counter
-                count++;
-
-                // Create POJO
-                model = factory.factory();
-
-                // Split the message according to the pair separator defined in
-                // annotated class @Message
-                List<String> result = Arrays.asList(line.split(separator));
+        final String separator = factory.getPairSeparator();
 
-                if (result.size() == 0 || result.isEmpty()) {
-                    throw new java.lang.IllegalArgumentException("No records have been defined in the KVP");
-                }
+        BindyRecordIterator records = new BindyRecordIterator(scanner, in, getClassType()) {
+            @Override
+            protected Map<String, Object> unmarshalLine(String line, int count) throws Exception {
+                return unmarshalRecord(factory, separator, line.trim(), count, lists);
+            }
+        };
+        return unmarshalRecords(exchange, records);
+    }
 
-                if (result.size() > 0) {
-                    // Bind data from message with model classes
-                    // Counter is used to detect line where error occurs
-                    factory.bind(result, model, count, lists);
+    private Map<String, Object> unmarshalRecord(BindyKeyValuePairFactory factory, String separator, String line, int count,
+                                                Map<String, List<Object>> lists) throws Exception {
+        // Create POJO
+        Map<String, Object> model = factory.factory();
 
-                    // Link objects together
-                    factory.link(model);
+        // Split the message according to the pair separator defined in
+        // annotated class @Message
+        List<String> result = Arrays.asList(line.split(separator));
 
-                    // Add objects graph to the list
-                    models.add(model);
+        if (result.size() == 0 || result.isEmpty()) {
+            throw new java.lang.IllegalArgumentException("No records have been defined in the KVP");
+        }
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            }
+        // Bind data from message with model classes
+        // Counter is used to detect line where error occurs
+        factory.bind(result, model, count, lists);
 
-            // Test if models list is empty or not
-            // If this is the case (correspond to an empty stream, ...)
-            if (models.size() == 0) {
-                throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
-            } else {
-                return extractUnmarshalResult(models);
-            }
+        // Link objects together
+        factory.link(model);
 
-        } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
-        }
+        LOG.debug("Graph of objects created: {}", model);
+        return model;
     }
 
     protected BindyAbstractFactory createModelFactory(PackageScanClassResolver resolver) throws Exception {
@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.math.BigDecimal;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.oneclass.Order;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+/**
+ * Test for unmarshalling using the <tt>lazyLoad</tt> option
+ */
+public class BindyCsvLazyLoadUnmarshallTest extends CamelTestSupport {
+
+    private static final int ROWS = 1000;
+
+    @Test
+    public void testSplitStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedMessageCount(ROWS);
+        mock.allMessages().body().isInstanceOf(Order.class);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= ROWS; i++) {
+            sb.append(i).append(",B2,Keira,Knightley,ISIN,XX23456789,BUY,Share,400.25,EUR,14-01-2009\r\n");
+            if (i % 100 == 0) {
+                // empty lines should be skipped
+                sb.append("\r\n");
+            }
+        }
+        template.sendBody("direct:start", sb.toString());
+
+        assertMockEndpointsSatisfied();
+
+        Order order = mock.getReceivedExchanges().get(ROWS - 1).getIn().getBody(Order.class);
+        assertEquals(ROWS, order.getOrderNr());
+        assertEquals("Keira", order.getFirstName());
+        assertEquals(new BigDecimal("400.25"), order.getAmount());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedMessageCount(0);
+
+        template.sendBody("direct:start", "");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyCsvDataFormat bindy = new BindyCsvDataFormat(Order.class);
+                bindy.setLazyLoad(true);
+
+                from("direct:start")
+                    .unmarshal(bindy)
+                    .split(body()).streaming()
+                        .to("mock:order");
+            }
+        };
+    }
+}
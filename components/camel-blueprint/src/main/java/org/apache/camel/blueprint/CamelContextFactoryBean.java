@@ -86,6 +86,8 @@ public class CamelContextFactoryBean extends AbstractCamelContextFactoryBean<Blu
     @XmlAttribute(required = false)
     private String handleFault;
     @XmlAttribute(required = false)
+    private String lightweightUnitOfWork;
+    @XmlAttribute(required = false)
     private String errorHandlerRef;
     @XmlAttribute(required = false)
     private String autoStartup = "true";
@@ -430,6 +432,14 @@ public class CamelContextFactoryBean extends AbstractCamelContextFactoryBean<Blu
         this.handleFault = handleFault;
     }
 
+    public String getLightweightUnitOfWork() {
+        return lightweightUnitOfWork;
+    }
+
+    public void setLightweightUnitOfWork(String lightweightUnitOfWork) {
+        this.lightweightUnitOfWork = lightweightUnitOfWork;
+    }
+
     public String getErrorHandlerRef() {
         return errorHandlerRef;
     }
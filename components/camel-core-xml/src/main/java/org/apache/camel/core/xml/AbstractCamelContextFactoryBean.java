@@ -463,6 +463,8 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
 
     public abstract String getHandleFault();
 
+    public abstract String getLightweightUnitOfWork();
+
     public abstract String getAutoStartup();
 
     public abstract String getUseMDCLogging();
@@ -521,6 +523,9 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         if (getHandleFault() != null) {
             ctx.setHandleFault(CamelContextHelper.parseBoolean(getContext(), getHandleFault()));
         }
+        if (getLightweightUnitOfWork() != null) {
+            ctx.setLightweightUnitOfWork(CamelContextHelper.parseBoolean(getContext(), getLightweightUnitOfWork()));
+        }
         if (getErrorHandlerRef() != null) {
             ctx.setErrorHandlerBuilder(new ErrorHandlerBuilderRef(getErrorHandlerRef()));
         }
@@ -82,9 +82,7 @@ public abstract class AbstractCamelRedeliveryPolicyFactoryBean extends AbstractC
             answer.setRedeliveryDelay(CamelContextHelper.parseLong(context, redeliveryDelay));
         }
         if (asyncDelayedRedelivery != null) {
-            if (CamelContextHelper.parseBoolean(context, asyncDelayedRedelivery)) {
-                answer.asyncDelayedRedelivery();
-            }
+            answer.setAsyncDelayedRedelivery(CamelContextHelper.parseBoolean(context, asyncDelayedRedelivery));
         }
         if (retriesExhaustedLogLevel != null) {
             answer.setRetriesExhaustedLogLevel(retriesExhaustedLogLevel);
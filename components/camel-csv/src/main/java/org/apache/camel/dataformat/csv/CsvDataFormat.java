@@ -29,6 +29,7 @@ import java.util.Set;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
 import org.apache.commons.csv.CSVParser;
@@ -45,6 +46,10 @@ import org.apache.commons.csv.writer.CSVWriter;
  * the end of the line. Thus, field order is the same from message to message.
  * Autogeneration can be disabled. In this case, only the fields defined in
  * csvConfig are written on the output.
+ * <p/>
+ * When unmarshalling, the lines are by default read into a {@link List}. If <tt>lazyLoad</tt> is
+ * enabled then an {@link java.util.Iterator} is returned instead, which reads the lines one at a
+ * time, which allows splitting huge CSV files in streaming mode using constant memory.
  *
  * @version 
  */
@@ -54,6 +59,7 @@ public class CsvDataFormat implements DataFormat {
     private boolean autogenColumns = true;
     private String delimiter;
     private boolean skipFirstLine;
+    private boolean lazyLoad;
 
     public void marshal(Exchange exchange, Object object, OutputStream outputStream) throws Exception {
         if (delimiter != null) {
@@ -94,20 +100,35 @@ public class CsvDataFormat implements DataFormat {
         if (delimiter != null) {
             strategy.setDelimiter(delimiter.charAt(0));
         }
-        
+
+        boolean error = false;
         try {
             CSVParser parser = new CSVParser(in, strategy);
+            if (skipFirstLine) {
+                // skip considering the first line if we're asked to do so
+                parser.getLine();
+            }
+
+            if (lazyLoad) {
+                final CsvIterator answer = new CsvIterator(parser, in);
+                // make sure the input is closed when the exchange is done, in case the iterator was not read to the end
+                exchange.addOnCompletion(new SynchronizationAdapter() {
+                    @Override
+                    public void onDone(Exchange exchange) {
+                        answer.close();
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "CsvIteratorCloser";
+                    }
+                });
+                return answer;
+            }
+
             List<List<String>> list = new ArrayList<List<String>>();
-            boolean isFirstLine = true;
             while (true) {
                 String[] strings = parser.getLine();
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    if (skipFirstLine) {
-                        // skip considering the first line if we're asked to do so
-                        continue;
-                    }
-                }
                 if (strings == null) {
                     break;
                 }
@@ -115,8 +136,13 @@ public class CsvDataFormat implements DataFormat {
                 list.add(line);
             }
             return list;
+        } catch (Exception e) {
+            error = true;
+            throw e;
         } finally {
-            in.close();
+            if (error || !lazyLoad) {
+                in.close();
+            }
         }
     }
     
@@ -168,6 +194,20 @@ public class CsvDataFormat implements DataFormat {
         this.skipFirstLine = skipFirstLine;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether to unmarshal the lines lazily using an {@link java.util.Iterator} instead of reading all
+     * the lines into a {@link List}.
+     *
+     * @param lazyLoad set to true to return an iterator which reads the lines on demand (default false)
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     private synchronized void updateFieldsInConfig(Set<?> set, Exchange exchange) {
         for (Object value : set) {
             if (value != null) {
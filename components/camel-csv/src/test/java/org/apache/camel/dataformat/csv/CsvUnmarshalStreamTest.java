@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+/**
+ * Test for the <tt>lazyLoad</tt> option of the <code>CsvDataFormat</code>
+ */
+public class CsvUnmarshalStreamTest extends CamelTestSupport {
+
+    private static final int ROWS = 1000;
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint result;
+
+    @EndpointInject(uri = "mock:line")
+    private MockEndpoint line;
+
+    @Test
+    public void testCsvUnMarshalIterator() throws Exception {
+        result.expectedMessageCount(1);
+
+        template.sendBody("direct:start", "123|Camel in Action|1\n124|ActiveMQ in Action|2");
+
+        assertMockEndpointsSatisfied();
+
+        List<?> body = result.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(2, body.size());
+        List<?> row = (List<?>) body.get(0);
+        assertEquals("123", row.get(0));
+        assertEquals("Camel in Action", row.get(1));
+        row = (List<?>) body.get(1);
+        assertEquals("124", row.get(0));
+        assertEquals("2", row.get(2));
+    }
+
+    @Test
+    public void testCsvSplitStreaming() throws Exception {
+        line.expectedMessageCount(ROWS);
+        line.message(0).body().isInstanceOf(List.class);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < ROWS; i++) {
+            sb.append(i).append("|Camel|").append(i * 2).append("\n");
+        }
+        template.sendBody("direct:split", sb.toString());
+
+        assertMockEndpointsSatisfied();
+
+        List<?> last = line.getReceivedExchanges().get(ROWS - 1).getIn().getBody(List.class);
+        assertEquals("" + (ROWS - 1), last.get(0));
+        assertEquals("" + (ROWS - 1) * 2, last.get(2));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                CsvDataFormat csv = new CsvDataFormat();
+                csv.setDelimiter("|");
+                csv.setLazyLoad(true);
+
+                from("direct:start").unmarshal(csv)
+                    .process(new Processor() {
+                        public void process(Exchange exchange) throws Exception {
+                            // the iterator must be read before the exchange is done
+                            Iterator<?> it = exchange.getIn().getBody(Iterator.class);
+                            assertTrue(it instanceof CsvIterator);
+                            List<Object> rows = new ArrayList<Object>();
+                            while (it.hasNext()) {
+                                rows.add(it.next());
+                            }
+                            exchange.getIn().setBody(rows);
+                        }
+                    })
+                    .to("mock:result");
+
+                from("direct:split").unmarshal(csv)
+                    .split(body()).streaming()
+                        .to("mock:line");
+            }
+        };
+    }
+}
@@ -54,6 +54,10 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
 
     @Override
     protected RemoteFileConsumer<FTPFile> buildConsumer(Processor processor) {
+        if (ftpClient != null && getDownloadPoolSize() > 0) {
+            // the download clients cannot share the same custom ftp client
+            throw new IllegalArgumentException("You cannot both set downloadPoolSize and ftpClient options");
+        }
         try {
             return new FtpConsumer(this, processor, createRemoteFileOperations());
         } catch (Exception e) {
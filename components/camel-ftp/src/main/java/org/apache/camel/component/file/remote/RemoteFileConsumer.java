@@ -17,9 +17,20 @@
 package org.apache.camel.component.file.remote;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.apache.camel.component.file.FileComponent;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
@@ -30,6 +41,11 @@ import org.apache.camel.util.FileUtil;
  */
 public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     protected boolean loggedIn;
+    // the files being downloaded in parallel, and the exchanges waiting to be downloaded
+    private final Map<String, Future<Boolean>> downloads = new HashMap<String, Future<Boolean>>();
+    private final Queue<Exchange> pendingDownloads = new LinkedList<Exchange>();
+    private final BlockingQueue<RemoteFileOperations<T>> downloadClients = new LinkedBlockingQueue<RemoteFileOperations<T>>();
+    private ExecutorService downloadExecutor;
 
     public RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations) {
         super(endpoint, processor, operations);
@@ -94,12 +110,137 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         super.processExchange(exchange);
     }
 
+    @Override
+    public int processBatch(Queue<Object> exchanges) {
+        if (downloadExecutor == null || exchanges.size() <= 1) {
+            return super.processBatch(exchanges);
+        }
+
+        // download the files in parallel ahead of processing them one by one in this thread
+        int limit = maxMessagesPerPoll > 0 ? Math.min(maxMessagesPerPoll, exchanges.size()) : exchanges.size();
+        int count = 0;
+        for (Object exchange : exchanges) {
+            if (count++ >= limit) {
+                break;
+            }
+            pendingDownloads.add((Exchange) exchange);
+        }
+        scheduleDownloads();
+
+        try {
+            return super.processBatch(exchanges);
+        } finally {
+            // clear up any files which was downloaded, but not processed, for example when shutting down
+            pendingDownloads.clear();
+            for (Future<Boolean> future : downloads.values()) {
+                future.cancel(false);
+            }
+            downloads.clear();
+        }
+    }
+
+    @Override
+    protected boolean retrieveFile(String name, Exchange exchange) throws Exception {
+        Future<Boolean> future = downloads.remove(exchange.getExchangeId());
+        if (future == null) {
+            return super.retrieveFile(name, exchange);
+        }
+
+        // schedule the next download as this one has been taken
+        scheduleDownloads();
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Schedules the pending downloads, keeping at most twice the download pool size of files downloaded ahead
+     */
+    private void scheduleDownloads() {
+        int window = getEndpoint().getDownloadPoolSize() * 2;
+        while (downloads.size() < window && !pendingDownloads.isEmpty()) {
+            final Exchange exchange = pendingDownloads.poll();
+            Future<Boolean> future = downloadExecutor.submit(new Callable<Boolean>() {
+                public Boolean call() throws Exception {
+                    return download(exchange);
+                }
+            });
+            downloads.put(exchange.getExchangeId(), future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean download(Exchange exchange) throws Exception {
+        GenericFile<T> file = (GenericFile<T>) exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+        String name = file.getAbsoluteFilePath();
+
+        RemoteFileOperations<T> client = downloadClients.poll();
+        if (client == null) {
+            // there is a thread per client so we can create a new client as none is idle
+            log.debug("Connecting new download client to: {}", remoteServer());
+            client = getEndpoint().createRemoteFileOperations();
+            client.connect((RemoteFileConfiguration) endpoint.getConfiguration());
+        }
+
+        boolean success = false;
+        try {
+            log.trace("Downloading file: {} from: {}", name, endpoint);
+            boolean answer = client.retrieveFile(name, exchange);
+            success = true;
+            return answer;
+        } finally {
+            if (success) {
+                downloadClients.add(client);
+                // the consumer may have been stopped while downloading, and then the client must be disconnected,
+                // unless the clients has already been disconnected by doStop
+                if (!isRunAllowed() && downloadClients.remove(client)) {
+                    disconnect(client);
+                }
+            } else {
+                // the client may be in a bad state so do not reuse it
+                disconnect(client);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().getDownloadPoolSize() > 0 && downloadExecutor == null) {
+            downloadExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "RemoteFileDownloader", getEndpoint().getDownloadPoolSize());
+        }
+        super.doStart();
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+        if (downloadExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(downloadExecutor);
+            downloadExecutor = null;
+        }
+        RemoteFileOperations<T> client;
+        while ((client = downloadClients.poll()) != null) {
+            disconnect(client);
+        }
         disconnect();
     }
 
+    private void disconnect(RemoteFileOperations<T> client) {
+        try {
+            if (client.isConnected()) {
+                client.disconnect();
+            }
+        } catch (GenericFileOperationFailedException e) {
+            log.debug("Error occurred while disconnecting download client from " + remoteServer() + ". This exception will be ignored.", e);
+        }
+    }
+
     protected void disconnect() {
         // eager indicate we are no longer logged in
         loggedIn = false;
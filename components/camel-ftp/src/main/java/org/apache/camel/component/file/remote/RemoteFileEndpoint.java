@@ -34,6 +34,7 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
     private long reconnectDelay = 1000;
     private boolean disconnect;
     private boolean fastExistsCheck;
+    private int downloadPoolSize;
 
     public RemoteFileEndpoint() {
         // no args constructor for spring bean endpoint configuration
@@ -90,6 +91,21 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
             idempotentRepository = MemoryIdempotentRepository.memoryIdempotentRepository(DEFAULT_IDEMPOTENT_CACHE_SIZE);
         }
 
+        if (getDownloadPoolSize() > 0) {
+            if (getPreMove() != null) {
+                throw new IllegalArgumentException("You cannot both set downloadPoolSize and preMove options");
+            }
+            // the read lock must be acquired before the file is downloaded, but the files are downloaded ahead
+            // of being processed, which also applies to a custom exclusiveReadLockStrategy
+            boolean readLock = getReadLock() != null && !"none".equals(getReadLock()) && !"false".equals(getReadLock());
+            if (readLock) {
+                throw new IllegalArgumentException("You cannot both set downloadPoolSize and readLock options");
+            }
+            if (getExclusiveReadLockStrategy() != null) {
+                throw new IllegalArgumentException("You cannot both set downloadPoolSize and exclusiveReadLockStrategy options");
+            }
+        }
+
         // set max messages per poll
         consumer.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         consumer.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
@@ -181,4 +197,19 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
         this.fastExistsCheck = fastExistsCheck;
     }
 
+    public int getDownloadPoolSize() {
+        return downloadPoolSize;
+    }
+
+    /**
+     * Sets the number of connections the consumer uses to download files in parallel.
+     * <p/>
+     * The files are listed using the regular connection, and then downloaded in parallel using
+     * a pool of additional connections, while the downloaded files are processed one by one.
+     * Is default <tt>0</tt> which means the files are downloaded using the regular connection.
+     */
+    public void setDownloadPoolSize(int downloadPoolSize) {
+        this.downloadPoolSize = downloadPoolSize;
+    }
+
 }
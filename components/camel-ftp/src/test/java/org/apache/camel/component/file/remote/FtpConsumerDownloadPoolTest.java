@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import java.io.File;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.file.remote.strategy.FtpChangedExclusiveReadLockStrategy;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @version 
+ */
+public class FtpConsumerDownloadPoolTest extends FtpServerTestSupport {
+
+    private static final int FILES = 20;
+
+    private String getFtpUrl() {
+        return "ftp://admin@localhost:" + getPort() + "/pool/?password=admin&delete=true&sortBy=file:name&downloadPoolSize=4";
+    }
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        prepareFtpServer();
+    }
+
+    @Test
+    public void testDownloadPool() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(FILES);
+        mock.expectsNoDuplicates(body());
+        // the files are processed in the sorted order though downloaded in parallel
+        for (int i = 0; i < FILES; i++) {
+            mock.message(i).body().isEqualTo("Hello " + (100 + i));
+        }
+
+        context.startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // the files should be deleted
+        Thread.sleep(500);
+        File dir = new File(FTP_ROOT_DIR + "/pool");
+        assertEquals(0, dir.list().length);
+    }
+
+    @Test
+    public void testDownloadPoolNotAllowedWithReadLock() throws Exception {
+        try {
+            context.getEndpoint(getFtpUrl() + "&readLock=rename").createConsumer(null);
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDownloadPoolNotAllowedWithExclusiveReadLockStrategy() throws Exception {
+        // the files are downloaded before the lock is acquired, so a custom strategy cannot be used either
+        FtpEndpoint<?> endpoint = context.getEndpoint(getFtpUrl(), FtpEndpoint.class);
+        endpoint.setExclusiveReadLockStrategy(new FtpChangedExclusiveReadLockStrategy());
+        try {
+            endpoint.createConsumer(null);
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private void prepareFtpServer() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            int id = 100 + i;
+            sendFile(getFtpUrl(), "Hello " + id, "hello" + id + ".txt");
+        }
+    }
+
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from(getFtpUrl()).noAutoStartup().routeId("foo").convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -51,6 +51,13 @@ public class HdfsConfiguration {
     private int checkIdleInterval = HdfsConstants.DEFAULT_CHECK_IDLE_INTERVAL;
     private List<HdfsProducer.SplitStrategy> splitStrategies;
     private boolean connectOnStartup = true;
+    private boolean writeBehind;
+    private int writeBehindBatchSize = HdfsConstants.DEFAULT_WRITE_BEHIND_BATCH_SIZE;
+    private int writeBehindQueueSize = HdfsConstants.DEFAULT_WRITE_BEHIND_QUEUE_SIZE;
+    private int writeBehindPoolSize = HdfsConstants.DEFAULT_WRITE_BEHIND_POOL_SIZE;
+    private String partitionExpression;
+    private int concurrentConsumers = 1;
+    private boolean orderedChunks = true;
 
     public HdfsConfiguration() {
     }
@@ -175,6 +182,36 @@ public class HdfsConfiguration {
                 throw new IllegalArgumentException("append=true works only with NORMAL_FILEs");
             }
         }
+        if (getPartitionExpression() != null && !isWriteBehind()) {
+            throw new IllegalArgumentException("partitionExpression requires writeBehind=true");
+        }
+        if (getPartitionExpression() != null && !hasSplitStrategy(HdfsProducer.SplitStrategyType.IDLE)) {
+            // the idle partitions are closed and removed, so the number of open partitions is bounded
+            throw new IllegalArgumentException("partitionExpression requires an IDLE split strategy");
+        }
+        if (isWriteBehind() && isAppend()) {
+            throw new IllegalArgumentException("writeBehind=true is incompatible with append=true");
+        }
+        if (isWriteBehind()) {
+            if (getWriteBehindBatchSize() <= 0) {
+                throw new IllegalArgumentException("writeBehindBatchSize must be positive, was: " + getWriteBehindBatchSize());
+            }
+            if (getWriteBehindQueueSize() <= 0) {
+                throw new IllegalArgumentException("writeBehindQueueSize must be positive, was: " + getWriteBehindQueueSize());
+            }
+            if (getWriteBehindPoolSize() <= 0) {
+                throw new IllegalArgumentException("writeBehindPoolSize must be positive, was: " + getWriteBehindPoolSize());
+            }
+        }
+    }
+
+    private boolean hasSplitStrategy(HdfsProducer.SplitStrategyType type) {
+        for (HdfsProducer.SplitStrategy strategy : getSplitStrategies()) {
+            if (strategy.getType() == type) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void parseURI(URI uri) throws URISyntaxException {
@@ -208,6 +245,13 @@ public class HdfsConfiguration {
         pattern = getString(hdfsSettings, "pattern", pattern);
         chunkSize = getInteger(hdfsSettings, "chunkSize", chunkSize);
         splitStrategies = getSplitStrategies(hdfsSettings);
+        writeBehind = getBoolean(hdfsSettings, "writeBehind", writeBehind);
+        writeBehindBatchSize = getInteger(hdfsSettings, "writeBehindBatchSize", writeBehindBatchSize);
+        writeBehindQueueSize = getInteger(hdfsSettings, "writeBehindQueueSize", writeBehindQueueSize);
+        writeBehindPoolSize = getInteger(hdfsSettings, "writeBehindPoolSize", writeBehindPoolSize);
+        partitionExpression = getString(hdfsSettings, "partitionExpression", partitionExpression);
+        concurrentConsumers = getInteger(hdfsSettings, "concurrentConsumers", concurrentConsumers);
+        orderedChunks = getBoolean(hdfsSettings, "orderedChunks", orderedChunks);
     }
 
     public URI getUri() {
@@ -401,4 +445,85 @@ public class HdfsConfiguration {
     public void setConnectOnStartup(boolean connectOnStartup) {
         this.connectOnStartup = connectOnStartup;
     }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Whether the messages should be written to the files in batches on background threads. The exchanges
+     * are completed when their batch has been written and flushed, or failed with the write error.
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public int getWriteBehindBatchSize() {
+        return writeBehindBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of messages written to a file before the file is flushed.
+     */
+    public void setWriteBehindBatchSize(int writeBehindBatchSize) {
+        this.writeBehindBatchSize = writeBehindBatchSize;
+    }
+
+    public int getWriteBehindQueueSize() {
+        return writeBehindQueueSize;
+    }
+
+    /**
+     * Sets the maximum number of messages waiting to be written, before the producer blocks.
+     */
+    public void setWriteBehindQueueSize(int writeBehindQueueSize) {
+        this.writeBehindQueueSize = writeBehindQueueSize;
+    }
+
+    public int getWriteBehindPoolSize() {
+        return writeBehindPoolSize;
+    }
+
+    /**
+     * Sets the number of background threads writing to the files in parallel.
+     */
+    public void setWriteBehindPoolSize(int writeBehindPoolSize) {
+        this.writeBehindPoolSize = writeBehindPoolSize;
+    }
+
+    public String getPartitionExpression() {
+        return partitionExpression;
+    }
+
+    /**
+     * Sets a <a href="http://camel.apache.org/simple.html">Simple</a> expression which is evaluated
+     * per message, to write the messages to a sub directory per partition. Requires an <tt>IDLE</tt> split
+     * strategy, which closes and removes the idle partitions.
+     */
+    public void setPartitionExpression(String partitionExpression) {
+        this.partitionExpression = partitionExpression;
+    }
+
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    /**
+     * Sets the number of threads the consumer uses to process the files in parallel.
+     */
+    public void setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+    }
+
+    public boolean isOrderedChunks() {
+        return orderedChunks;
+    }
+
+    /**
+     * Whether the chunks of each file must be processed in order. If disabled then the chunks of normal
+     * files can be read and processed in parallel when using <tt>concurrentConsumers</tt>.
+     */
+    public void setOrderedChunks(boolean orderedChunks) {
+        this.orderedChunks = orderedChunks;
+    }
 }
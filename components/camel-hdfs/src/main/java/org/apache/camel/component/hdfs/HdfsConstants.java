@@ -44,6 +44,12 @@ public final class HdfsConstants {
 
     public static final int DEFAULT_CHECK_IDLE_INTERVAL = 500;
 
+    public static final int DEFAULT_WRITE_BEHIND_BATCH_SIZE = 1000;
+
+    public static final int DEFAULT_WRITE_BEHIND_QUEUE_SIZE = 10000;
+
+    public static final int DEFAULT_WRITE_BEHIND_POOL_SIZE = 1;
+
     private HdfsConstants() {
     }
 }
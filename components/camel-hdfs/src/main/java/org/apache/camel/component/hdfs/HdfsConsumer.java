@@ -16,9 +16,17 @@
  */
 package org.apache.camel.component.hdfs;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -26,18 +34,19 @@ import org.apache.camel.Processor;
 import org.apache.camel.impl.DefaultMessage;
 import org.apache.camel.impl.ScheduledPollConsumer;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.PathFilter;
+import org.apache.hadoop.fs.PositionedReadable;
 
 public final class HdfsConsumer extends ScheduledPollConsumer {
 
     private final HdfsConfiguration config;
     private final StringBuilder hdfsPath;
     private final Processor processor;
-    private final ReadWriteLock rwlock = new ReentrantReadWriteLock();
-    private volatile HdfsInputStream istream;
+    private ExecutorService executorService;
 
     public HdfsConsumer(HdfsEndpoint endpoint, Processor processor, HdfsConfiguration config) {
         super(endpoint, processor);
@@ -59,6 +68,11 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
     protected void doStart() throws Exception {
         super.doStart();
 
+        if (config.getConcurrentConsumers() > 1 && executorService == null) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "HdfsConsumer", config.getConcurrentConsumers());
+        }
+
         if (config.isConnectOnStartup()) {
             // setup hdfs if configured to do on startup
             setupHdfs(true);
@@ -88,6 +102,15 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
         return answer;
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+        super.doStop();
+    }
+
     @Override
     protected int poll() throws Exception {
         class ExcludePathFilter implements PathFilter {
@@ -107,54 +130,154 @@ public final class HdfsConsumer extends ScheduledPollConsumer {
             fileStatuses = info.getFileSystem().globStatus(pattern, new ExcludePathFilter());
         }
 
-        for (int i = 0; i < fileStatuses.length; ++i) {
-            FileStatus status = fileStatuses[i];
-            if (normalFileIsDirectoryNoSuccessFile(status, info)) {
-                continue;
+        List<FileStatus> files = new ArrayList<FileStatus>(fileStatuses.length);
+        for (FileStatus status : fileStatuses) {
+            if (!normalFileIsDirectoryNoSuccessFile(status, info)) {
+                files.add(status);
             }
+        }
+
+        if (config.getConcurrentConsumers() > 1) {
+            return processFilesInParallel(files);
+        }
+
+        for (FileStatus status : files) {
+            HdfsInputStream istream = HdfsInputStream.createInputStream(status.getPath().toString(), this.config);
             try {
-                this.rwlock.writeLock().lock();
-                this.istream = HdfsInputStream.createInputStream(fileStatuses[i].getPath().toString(), this.config);
+                numMessages += processFile(istream, getFileName(status));
             } finally {
-                this.rwlock.writeLock().unlock();
+                IOHelper.close(istream, "input stream", log);
             }
+        }
 
-            try {
-                Holder<Object> key = new Holder<Object>();
-                Holder<Object> value = new Holder<Object>();
-                while (this.istream.next(key, value) != 0) {
-                    Exchange exchange = this.getEndpoint().createExchange();
-                    Message message = new DefaultMessage();
-                    String fileName = StringUtils.substringAfterLast(status.getPath().toString(), "/");
-                    message.setHeader(Exchange.FILE_NAME, fileName);
-                    if (key.value != null) {
-                        message.setHeader(HdfsHeader.KEY.name(), key.value);
-                    }
-                    message.setBody(value.value);
-                    exchange.setIn(message);
-
-                    log.debug("Processing file {}", fileName);
-                    try {
-                        processor.process(exchange);
-                    } catch (Exception e) {
-                        exchange.setException(e);
-                    }
+        return numMessages;
+    }
+
+    /**
+     * Processes the files in parallel using the thread pool, and waits for all the files to be processed.
+     * <p/>
+     * Each file is opened by the task which processes it, so the files are opened in parallel, and only when
+     * there is a thread to process them. If the chunks of the files does not need to be processed in order,
+     * then normal files is split into ranges which is read in parallel using positional reads.
+     */
+    private int processFilesInParallel(List<FileStatus> files) throws Exception {
+        // the task processing a file may add tasks to process the ranges of the file
+        final BlockingQueue<Future<Integer>> futures = new LinkedBlockingQueue<Future<Integer>>();
+        final List<HdfsInputStream> streams = Collections.synchronizedList(new ArrayList<HdfsInputStream>(files.size()));
+        Exception cause = null;
+        try {
+            for (final FileStatus status : files) {
+                futures.add(executorService.submit(new Callable<Integer>() {
+                    public Integer call() throws Exception {
+                        HdfsInputStream istream = HdfsInputStream.createInputStream(status.getPath().toString(), config);
+                        streams.add(istream);
+                        String fileName = getFileName(status);
 
-                    // in case of unhandled exceptions then let the exception handler handle them
-                    if (exchange.getException() != null) {
-                        getExceptionHandler().handleException(exchange.getException());
+                        if (!config.isOrderedChunks() && config.getFileType() == HdfsFileType.NORMAL_FILE
+                                && istream.getIn() instanceof PositionedReadable) {
+                            submitRanges((PositionedReadable) istream.getIn(), fileName, status.getLen(), futures);
+                            return 0;
+                        }
+                        return processFile(istream, fileName);
                     }
+                }));
+            }
+        } catch (Exception e) {
+            cause = e;
+        }
 
-                    numMessages++;
+        // wait for the files to be processed before closing them, the tasks processing the ranges
+        // of a file are added before the task processing the file completes
+        int numMessages = 0;
+        Future<Integer> future;
+        while ((future = futures.poll()) != null) {
+            try {
+                numMessages += future.get();
+            } catch (ExecutionException e) {
+                if (cause == null) {
+                    cause = ObjectHelper.wrapRuntimeCamelException(e.getCause());
                 }
-            } finally {
-                IOHelper.close(istream, "input stream", log);
             }
         }
+        for (HdfsInputStream istream : streams) {
+            IOHelper.close(istream, "input stream", log);
+        }
+        if (cause != null) {
+            throw cause;
+        }
+        return numMessages;
+    }
+
+    /**
+     * Splits the file into ranges of whole chunks, one range per consumer, and submits a task per range
+     */
+    private void submitRanges(final PositionedReadable in, final String fileName, long length, BlockingQueue<Future<Integer>> futures) {
+        long chunkSize = config.getChunkSize();
+        long rangeSize = (length / config.getConcurrentConsumers() + chunkSize - 1) / chunkSize * chunkSize;
+        rangeSize = Math.max(rangeSize, chunkSize);
+        for (long start = 0; start < length; start += rangeSize) {
+            final long from = start;
+            final long to = Math.min(start + rangeSize, length);
+            futures.add(executorService.submit(new Callable<Integer>() {
+                public Integer call() throws Exception {
+                    return processRange(in, fileName, from, to);
+                }
+            }));
+        }
+    }
+
+    private int processFile(HdfsInputStream istream, String fileName) throws Exception {
+        int numMessages = 0;
+        Holder<Object> key = new Holder<Object>();
+        Holder<Object> value = new Holder<Object>();
+        while (istream.next(key, value) != 0) {
+            processMessage(fileName, key.value, value.value);
+            numMessages++;
+        }
+        return numMessages;
+    }
 
+    private int processRange(PositionedReadable in, String fileName, long from, long to) throws Exception {
+        int numMessages = 0;
+        byte[] buf = new byte[config.getChunkSize()];
+        for (long position = from; position < to; position += buf.length) {
+            int length = (int) Math.min(buf.length, to - position);
+            in.readFully(position, buf, 0, length);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(length);
+            bos.write(buf, 0, length);
+            processMessage(fileName, null, bos);
+            numMessages++;
+        }
         return numMessages;
     }
 
+    private void processMessage(String fileName, Object key, Object body) {
+        Exchange exchange = this.getEndpoint().createExchange();
+        Message message = new DefaultMessage();
+        message.setHeader(Exchange.FILE_NAME, fileName);
+        if (key != null) {
+            message.setHeader(HdfsHeader.KEY.name(), key);
+        }
+        message.setBody(body);
+        exchange.setIn(message);
+
+        log.debug("Processing file {}", fileName);
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        // in case of unhandled exceptions then let the exception handler handle them
+        if (exchange.getException() != null) {
+            getExceptionHandler().handleException(exchange.getException());
+        }
+    }
+
+    private static String getFileName(FileStatus status) {
+        return StringUtils.substringAfterLast(status.getPath().toString(), "/");
+    }
+
     private boolean normalFileIsDirectoryNoSuccessFile(FileStatus status, HdfsInfo info) throws IOException {
         if (config.getFileType().equals(HdfsFileType.NORMAL_FILE) && status.isDir()) {
             Path successPath = new Path(status.getPath().toString() + "/_SUCCESS");
@@ -18,16 +18,29 @@ package org.apache.camel.component.hdfs;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Consumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.impl.DefaultEndpoint;
 
+@ManagedResource(description = "Managed HDFS Endpoint")
 public class HdfsEndpoint extends DefaultEndpoint {
 
     private final HdfsConfiguration config;
+    private final AtomicLong pendingMessages = new AtomicLong();
+    private final AtomicLong oldestPendingTime = new AtomicLong();
+    private final AtomicLong totalWrittenMessages = new AtomicLong();
+    private final AtomicLong totalWrittenBytes = new AtomicLong();
+    private final AtomicLong totalFailedMessages = new AtomicLong();
+    private final AtomicLong totalFlushes = new AtomicLong();
+    private final AtomicLong totalRollovers = new AtomicLong();
+    private volatile long statisticsResetTime = System.currentTimeMillis();
 
     @SuppressWarnings("deprecation")
     public HdfsEndpoint(String endpointUri, CamelContext context) throws URISyntaxException {
@@ -45,6 +58,9 @@ public class HdfsEndpoint extends DefaultEndpoint {
     @Override
     public Producer createProducer() {
         config.checkProducerOptions();
+        if (config.isWriteBehind()) {
+            return new HdfsWriteBehindProducer(this, config);
+        }
         return new HdfsProducer(this, config);
     }
 
@@ -57,4 +73,86 @@ public class HdfsEndpoint extends DefaultEndpoint {
         return config;
     }
 
+    @ManagedAttribute(description = "Whether messages are written to the files on background threads")
+    public boolean isWriteBehind() {
+        return config.isWriteBehind();
+    }
+
+    @ManagedAttribute(description = "Number of messages waiting to be written")
+    public long getPendingMessages() {
+        return pendingMessages.get();
+    }
+
+    @ManagedAttribute(description = "Time in millis the oldest message in the last written batch waited to be written")
+    public long getWriteLag() {
+        return oldestPendingTime.get();
+    }
+
+    @ManagedAttribute(description = "Total number of written messages")
+    public long getTotalWrittenMessages() {
+        return totalWrittenMessages.get();
+    }
+
+    @ManagedAttribute(description = "Total number of written bytes")
+    public long getTotalWrittenBytes() {
+        return totalWrittenBytes.get();
+    }
+
+    @ManagedAttribute(description = "Total number of messages which failed to be written")
+    public long getTotalFailedMessages() {
+        return totalFailedMessages.get();
+    }
+
+    @ManagedAttribute(description = "Total number of times the open files have been flushed")
+    public long getTotalFlushes() {
+        return totalFlushes.get();
+    }
+
+    @ManagedAttribute(description = "Total number of times a new file has been rolled over to")
+    public long getTotalRollovers() {
+        return totalRollovers.get();
+    }
+
+    @ManagedAttribute(description = "Mean number of written messages per second since the statistics was reset")
+    public long getWriteThroughput() {
+        long elapsed = System.currentTimeMillis() - statisticsResetTime;
+        return elapsed > 0 ? totalWrittenMessages.get() * 1000 / elapsed : 0;
+    }
+
+    @ManagedOperation(description = "Reset write statistics")
+    public void resetWriteStatistics() {
+        totalWrittenMessages.set(0);
+        totalWrittenBytes.set(0);
+        totalFailedMessages.set(0);
+        totalFlushes.set(0);
+        totalRollovers.set(0);
+        oldestPendingTime.set(0);
+        statisticsResetTime = System.currentTimeMillis();
+    }
+
+    void onQueued() {
+        pendingMessages.incrementAndGet();
+    }
+
+    /**
+     * Callback from {@link HdfsWriteBehindProducer} when a batch has been written and flushed.
+     *
+     * @param messages number of written messages
+     * @param failed   number of messages which failed to be written
+     * @param bytes    number of written bytes
+     * @param lag      time in millis the oldest message in the batch waited to be written
+     */
+    void onBatchWritten(int messages, int failed, long bytes, long lag) {
+        pendingMessages.addAndGet(-(messages + failed));
+        totalWrittenMessages.addAndGet(messages);
+        totalFailedMessages.addAndGet(failed);
+        totalWrittenBytes.addAndGet(bytes);
+        totalFlushes.incrementAndGet();
+        oldestPendingTime.set(lag);
+    }
+
+    void onRollover() {
+        totalRollovers.incrementAndGet();
+    }
+
 }
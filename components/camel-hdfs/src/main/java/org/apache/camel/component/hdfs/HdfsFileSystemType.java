@@ -20,34 +20,54 @@ public enum HdfsFileSystemType {
 
     LOCAL {
         @Override
-        public StringBuilder getHdfsPath(HdfsConfiguration config) {
+        public StringBuilder getHdfsPath(HdfsConfiguration config, String partition) {
             StringBuilder hpath = new StringBuilder();
             hpath.append("file://");
             hpath.append(config.getPath());
-            if (config.getSplitStrategies().size() > 0) {
-                hpath.append('/');
-                hpath.append(HdfsConstants.DEFAULT_SEGMENT_PREFIX);
-            }
+            appendPartitionAndSegment(hpath, config, partition);
             return hpath;
         }
     },
 
     HDFS {
         @Override
-        public StringBuilder getHdfsPath(HdfsConfiguration config) {
+        public StringBuilder getHdfsPath(HdfsConfiguration config, String partition) {
             StringBuilder hpath = new StringBuilder();
             hpath.append("hdfs://");
             hpath.append(config.getHostName());
             hpath.append(':');
             hpath.append(config.getPort());
             hpath.append(config.getPath());
-            if (config.getSplitStrategies().size() > 0) {
-                hpath.append('/');
-                hpath.append(HdfsConstants.DEFAULT_SEGMENT_PREFIX);
-            }
+            appendPartitionAndSegment(hpath, config, partition);
             return hpath;
         }
     };
 
-    public abstract StringBuilder getHdfsPath(HdfsConfiguration conf);
+    public StringBuilder getHdfsPath(HdfsConfiguration conf) {
+        return getHdfsPath(conf, null);
+    }
+
+    /**
+     * Gets the path to write to for the given partition, which is a sub directory of the configured path.
+     *
+     * @param partition the partition, or <tt>null</tt> for no partition
+     * @throws IllegalArgumentException if the partition is not a valid directory name
+     */
+    public abstract StringBuilder getHdfsPath(HdfsConfiguration conf, String partition);
+
+    private static void appendPartitionAndSegment(StringBuilder hpath, HdfsConfiguration config, String partition) {
+        if (partition != null) {
+            // the partition must be a single sub directory of the configured path
+            if (partition.length() == 0 || partition.equals(".") || partition.equals("..")
+                    || partition.indexOf('/') != -1 || partition.indexOf('\\') != -1 || partition.indexOf(':') != -1) {
+                throw new IllegalArgumentException("Invalid partition: " + partition);
+            }
+            hpath.append('/');
+            hpath.append(partition);
+        }
+        if (config.getSplitStrategies().size() > 0) {
+            hpath.append('/');
+            hpath.append(HdfsConstants.DEFAULT_SEGMENT_PREFIX);
+        }
+    }
 }
@@ -18,16 +18,23 @@ package org.apache.camel.component.hdfs;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConverter;
+import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.IOUtils;
+import org.apache.hadoop.io.SequenceFile;
 
 public class HdfsOutputStream implements Closeable {
 
+    // hflush replaces the deprecated sync from Hadoop 2 onwards, and is looked up as its not in Hadoop 1
+    private static final Method HFLUSH = findHflush();
+
     private HdfsFileType fileType;
     private String actualPath;
     private String suffixedPath;
@@ -79,6 +86,47 @@ public class HdfsOutputStream implements Closeable {
         }
     }
 
+    /**
+     * Flushes the written data to the file system, so its visible to readers of the file.
+     */
+    public void flush() throws IOException {
+        if (!opened) {
+            return;
+        }
+        if (out instanceof FSDataOutputStream) {
+            FSDataOutputStream fsout = (FSDataOutputStream) out;
+            if (HFLUSH != null) {
+                hflush(fsout);
+            } else {
+                fsout.flush();
+                fsout.sync();
+            }
+        } else if (out instanceof SequenceFile.Writer) {
+            ((SequenceFile.Writer) out).syncFs();
+        }
+    }
+
+    private static void hflush(FSDataOutputStream out) throws IOException {
+        try {
+            HFLUSH.invoke(out);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Error flushing file", e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IOException("Error flushing file", e);
+        }
+    }
+
+    private static Method findHflush() {
+        try {
+            return FSDataOutputStream.class.getMethod("hflush");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
     public void append(Object key, Object value, TypeConverter typeConverter) {
         try {
             busy.set(true);
@@ -0,0 +1,386 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hdfs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A producer which writes the messages to the files in batches on background threads.
+ * <p/>
+ * The queued messages are written in batches of up to <tt>writeBehindBatchSize</tt> messages per file, and
+ * the file is flushed once per batch. The exchanges are completed asynchronously when their batch has been
+ * written and flushed, or failed with the exception if the message could not be written or flushed. Batching
+ * therefore only occurs when messages are sent concurrently, such as from concurrent consumers.
+ * Rolling over to new files according to the split strategies, and closing idle files, is also done on the
+ * background threads.
+ * <p/>
+ * If a <tt>partitionExpression</tt> is configured, then the messages are written to a sub directory per
+ * partition, where each partition has its own open file. Up to <tt>writeBehindPoolSize</tt> partitions are
+ * written in parallel. The idle partitions are closed and removed according to the <tt>IDLE</tt> split strategy.
+ */
+public class HdfsWriteBehindProducer extends DefaultAsyncProducer {
+
+    private static final String NO_PARTITION = "";
+    private final HdfsConfiguration config;
+    private final ConcurrentMap<String, Partition> partitions = new ConcurrentHashMap<String, Partition>();
+    // the files are numbered per producer, as a partition which has been removed can be opened again later
+    private final AtomicLong splitNum = new AtomicLong();
+    private Semaphore permits;
+    private Expression partitionExpression;
+    private HdfsProducer.SplitStrategy idleStrategy;
+    private ExecutorService writers;
+    private ScheduledExecutorService scheduler;
+
+    public HdfsWriteBehindProducer(HdfsEndpoint endpoint, HdfsConfiguration config) {
+        super(endpoint);
+        this.config = config;
+    }
+
+    @Override
+    public HdfsEndpoint getEndpoint() {
+        return (HdfsEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        permits = new Semaphore(config.getWriteBehindQueueSize());
+        if (config.getPartitionExpression() != null) {
+            partitionExpression = getEndpoint().getCamelContext().resolveLanguage("simple").createExpression(config.getPartitionExpression());
+        }
+        for (HdfsProducer.SplitStrategy strategy : config.getSplitStrategies()) {
+            if (strategy.getType() == HdfsProducer.SplitStrategyType.IDLE) {
+                idleStrategy = strategy;
+                break;
+            }
+        }
+
+        writers = getEndpoint().getCamelContext().getExecutorServiceManager()
+                .newFixedThreadPool(this, "HdfsWriteBehind", config.getWriteBehindPoolSize());
+        if (idleStrategy != null) {
+            scheduler = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "HdfsIdleCheck");
+            log.debug("Creating IdleCheck task scheduled to run every {} millis", config.getCheckIdleInterval());
+            scheduler.scheduleAtFixedRate(new Runnable() {
+                public void run() {
+                    closeIdlePartitions();
+                }
+            }, config.getCheckIdleInterval(), config.getCheckIdleInterval(), TimeUnit.MILLISECONDS);
+        }
+
+        // setup hdfs if configured to do on startup, which is only possible without partitions
+        if (config.isConnectOnStartup() && partitionExpression == null) {
+            log.info("Connecting to hdfs file-system {}:{}/{} (may take a while if connection is not available)",
+                    new Object[]{config.getHostName(), config.getPort(), config.getPath()});
+            getPartition(NO_PARTITION).open();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(scheduler);
+            scheduler = null;
+        }
+        // write all the pending messages before stopping
+        for (Partition partition : partitions.values()) {
+            partition.drainAndClose();
+        }
+        partitions.clear();
+        if (writers != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(writers);
+            writers = null;
+        }
+        super.doStop();
+    }
+
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Producer is not running: " + this);
+            }
+            String partitionKey = NO_PARTITION;
+            if (partitionExpression != null) {
+                String value = partitionExpression.evaluate(exchange, String.class);
+                if (value != null) {
+                    partitionKey = value;
+                }
+            }
+            // resolve the partition first, as an invalid partition fails the exchange before its queued
+            Partition partition = getPartition(partitionKey);
+            PendingMessage message = new PendingMessage(exchange, callback);
+
+            // block if too many messages are waiting to be written
+            permits.acquire();
+            getEndpoint().onQueued();
+            while (!partition.add(message)) {
+                // the partition was removed as it was idle, so add to a new partition instead
+                log.trace("Partition {} was removed", partitionKey);
+                partitions.remove(partitionKey, partition);
+                partition = getPartition(partitionKey);
+            }
+        } catch (Throwable e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        // the exchange is completed when the message has been written
+        return false;
+    }
+
+    private Partition getPartition(String name) {
+        Partition answer = partitions.get(name);
+        if (answer == null) {
+            // the path is validated before the partition is used
+            answer = new Partition(name, config.getFileSystemType().getHdfsPath(config, name.length() > 0 ? name : null).toString());
+            Partition existing = partitions.putIfAbsent(name, answer);
+            if (existing != null) {
+                answer = existing;
+            }
+        }
+        return answer;
+    }
+
+    private void closeIdlePartitions() {
+        for (Partition partition : partitions.values()) {
+            try {
+                if (partition.closeIfIdle(idleStrategy.getValue(), partitionExpression != null)) {
+                    // remove the idle partition, so the number of partitions is bounded
+                    partitions.remove(partition.name, partition);
+                }
+            } catch (Throwable e) {
+                log.warn("Error closing idle file. This exception will be ignored.", e);
+            }
+        }
+    }
+
+    /**
+     * A partition with its own queue of messages and open file. At most one background thread writes to
+     * a partition at any time.
+     */
+    private final class Partition implements Runnable {
+        private final String name;
+        private final String path;
+        private final Queue<PendingMessage> queue = new ConcurrentLinkedQueue<PendingMessage>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // guards adding messages to the queue and removing the partition, which must be atomic
+        private final Object addLock = new Object();
+        private boolean removed;
+        private HdfsOutputStream ostream;
+        private long lastWrite = System.currentTimeMillis();
+
+        private Partition(String name, String path) {
+            this.name = name;
+            this.path = path;
+        }
+
+        /**
+         * Adds the message to be written
+         *
+         * @return <tt>false</tt> if the partition has been removed, and the message was not added
+         */
+        private boolean add(PendingMessage message) {
+            synchronized (addLock) {
+                if (removed) {
+                    return false;
+                }
+                queue.add(message);
+            }
+            schedule();
+            return true;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                writers.execute(this);
+            }
+        }
+
+        public void run() {
+            List<PendingMessage> batch = null;
+            try {
+                batch = writeBatch();
+            } catch (Throwable e) {
+                log.warn("Error writing batch. This exception will be ignored.", e);
+            } finally {
+                scheduled.set(false);
+            }
+            // schedule again if more messages was added meanwhile
+            if (!queue.isEmpty() && isRunAllowed()) {
+                schedule();
+            }
+            // continue routing the exchanges outside the lock
+            done(batch);
+        }
+
+        /**
+         * Writes and flushes a batch of messages
+         *
+         * @return the messages in the batch, which must be completed using {@link #done(java.util.List)}
+         */
+        private synchronized List<PendingMessage> writeBatch() {
+            TypeConverter typeConverter = getEndpoint().getCamelContext().getTypeConverter();
+            List<PendingMessage> batch = new ArrayList<PendingMessage>();
+            int written = 0;
+            long bytes = 0;
+            long oldest = 0;
+
+            PendingMessage message;
+            while (batch.size() < config.getWriteBehindBatchSize() && (message = queue.poll()) != null) {
+                permits.release();
+                batch.add(message);
+                if (oldest == 0) {
+                    oldest = message.time;
+                }
+                try {
+                    Exchange exchange = message.exchange;
+                    HdfsOutputStream out = open();
+                    long before = out.getNumOfWrittenBytes();
+                    out.append(exchange.getIn().getHeader(HdfsHeader.KEY.name()), exchange.getIn().getBody(), typeConverter);
+                    bytes += out.getNumOfWrittenBytes() - before;
+                    written++;
+                } catch (Throwable e) {
+                    message.exchange.setException(e);
+                }
+            }
+            if (batch.isEmpty()) {
+                return batch;
+            }
+
+            if (ostream != null && written > 0) {
+                try {
+                    ostream.flush();
+                } catch (Throwable e) {
+                    // the written messages may be lost, so fail them
+                    for (PendingMessage pending : batch) {
+                        if (pending.exchange.getException() == null) {
+                            pending.exchange.setException(e);
+                            written--;
+                        }
+                    }
+                }
+            }
+            lastWrite = System.currentTimeMillis();
+            getEndpoint().onBatchWritten(written, batch.size() - written, bytes, lastWrite - oldest);
+            log.trace("Written batch of {} messages to partition: {}", written, name);
+            return batch;
+        }
+
+        private void done(List<PendingMessage> batch) {
+            if (batch != null) {
+                for (PendingMessage message : batch) {
+                    message.callback.done(false);
+                }
+            }
+        }
+
+        /**
+         * Gets the open file, which is rolled over to a new file if any of the split strategies says so
+         */
+        private synchronized HdfsOutputStream open() throws IOException {
+            if (ostream != null) {
+                boolean split = false;
+                for (HdfsProducer.SplitStrategy strategy : config.getSplitStrategies()) {
+                    if (strategy.getType() != HdfsProducer.SplitStrategyType.IDLE) {
+                        split |= strategy.getType().split(ostream, strategy.getValue(), null);
+                    }
+                }
+                if (split) {
+                    close();
+                    getEndpoint().onRollover();
+                }
+            }
+            if (ostream == null) {
+                StringBuilder actualPath = new StringBuilder(path);
+                if (config.getSplitStrategies().size() > 0) {
+                    actualPath.append(splitNum.getAndIncrement());
+                }
+                log.debug("Opening file: {}", actualPath);
+                ostream = HdfsOutputStream.createOutputStream(actualPath.toString(), config);
+            }
+            return ostream;
+        }
+
+        private synchronized void close() {
+            if (ostream != null) {
+                IOHelper.close(ostream, "output stream", log);
+                ostream = null;
+            }
+        }
+
+        /**
+         * Closes the file if the partition is idle, and optionally marks the partition as removed if there is no
+         * pending messages
+         *
+         * @return <tt>true</tt> if the partition was marked as removed
+         */
+        private synchronized boolean closeIfIdle(long idleTime, boolean remove) {
+            if (System.currentTimeMillis() - lastWrite <= idleTime) {
+                return false;
+            }
+            if (ostream != null && ostream.getNumOfWrittenMessages() > 0 && queue.isEmpty()) {
+                log.debug("Closing idle file: {}", ostream.getActualPath());
+                close();
+                getEndpoint().onRollover();
+            }
+            synchronized (addLock) {
+                if (remove && ostream == null && queue.isEmpty() && !scheduled.get()) {
+                    removed = true;
+                }
+                return removed;
+            }
+        }
+
+        private void drainAndClose() {
+            while (!queue.isEmpty()) {
+                done(writeBatch());
+            }
+            close();
+        }
+    }
+
+    private static final class PendingMessage {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final long time = System.currentTimeMillis();
+
+        private PendingMessage(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
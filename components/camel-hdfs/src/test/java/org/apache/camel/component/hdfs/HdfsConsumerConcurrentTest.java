@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hdfs;
+
+import java.io.File;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HdfsConsumerConcurrentTest extends CamelTestSupport {
+    //Hadoop doesn't run on IBM JDK
+    private static final boolean SKIP = System.getProperty("java.vendor").contains("IBM");
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        if (SKIP) {
+            return;
+        }
+        deleteDirectory("target/test");
+        super.setUp();
+    }
+
+    @Test
+    public void testConcurrentFiles() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        final Path dir = new Path(new File("target/test/concurrent-files").getAbsolutePath());
+        for (int i = 0; i < 5; ++i) {
+            writeFile(new Path(dir, "file" + i), "PIPPO" + i);
+        }
+
+        MockEndpoint resultEndpoint = context.getEndpoint("mock:result", MockEndpoint.class);
+        resultEndpoint.expectedMessageCount(5);
+        resultEndpoint.expectedBodiesReceivedInAnyOrder("PIPPO0", "PIPPO1", "PIPPO2", "PIPPO3", "PIPPO4");
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("hdfs:///" + dir.toUri() + "?fileSystemType=LOCAL&concurrentConsumers=3&initialDelay=0")
+                    .convertBodyTo(String.class).to("mock:result");
+            }
+        });
+        context.start();
+
+        resultEndpoint.assertIsSatisfied();
+    }
+
+    @Test
+    public void testConcurrentUnorderedChunks() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        final Path file = new Path(new File("target/test/concurrent-chunks").getAbsolutePath());
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            sb.append("0123456789");
+        }
+        writeFile(file, sb.toString());
+
+        MockEndpoint resultEndpoint = context.getEndpoint("mock:result", MockEndpoint.class);
+        resultEndpoint.expectedMessageCount(100);
+        resultEndpoint.allMessages().body().isEqualTo("0123456789");
+
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("hdfs:///" + file.toUri() + "?fileSystemType=LOCAL&concurrentConsumers=4&orderedChunks=false&chunkSize=10&initialDelay=0")
+                    .convertBodyTo(String.class).to("mock:result");
+            }
+        });
+        context.start();
+
+        resultEndpoint.assertIsSatisfied();
+        // the file should be renamed when all the chunks is done
+        File done = new File(file.toUri().getPath() + "." + HdfsConstants.DEFAULT_READ_SUFFIX);
+        for (int i = 0; i < 50 && !done.exists(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue("The file should have been renamed", done.exists());
+    }
+
+    private static void writeFile(Path file, String content) throws Exception {
+        Configuration conf = new Configuration();
+        FileSystem fs = FileSystem.get(file.toUri(), conf);
+        FSDataOutputStream out = fs.create(file);
+        out.write(content.getBytes("UTF-8"));
+        out.close();
+    }
+}
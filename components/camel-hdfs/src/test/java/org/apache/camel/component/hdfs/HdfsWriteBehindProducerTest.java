@@ -0,0 +1,259 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.hdfs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import junit.framework.Assert;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HdfsWriteBehindProducerTest extends CamelTestSupport {
+    //Hadoop doesn't run on IBM JDK
+    private static final boolean SKIP = System.getProperty("java.vendor").contains("IBM");
+
+    private static final Path BASE_FILE = new Path(new File("target/test/test-camel-write-behind").getAbsolutePath());
+
+    @Before
+    public void setUp() throws Exception {
+        if (SKIP) {
+            return;
+        }
+        super.setUp();
+    }
+
+    @Test
+    public void testWriteBehind() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        for (int i = 0; i < 10; ++i) {
+            template.sendBody("direct:start1", "CIAO" + i);
+        }
+        HdfsEndpoint endpoint = context.getEndpoint(uri(1, "&writeBehindBatchSize=3"), HdfsEndpoint.class);
+        stopCamelContext();
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10; ++i) {
+            expected.append("CIAO").append(i);
+        }
+        Assert.assertEquals(expected.toString(), readFile(BASE_FILE.toUri() + "1"));
+        Assert.assertEquals(10, endpoint.getTotalWrittenMessages());
+        Assert.assertEquals(expected.length(), endpoint.getTotalWrittenBytes());
+        Assert.assertEquals(0, endpoint.getPendingMessages());
+        Assert.assertEquals(0, endpoint.getTotalFailedMessages());
+    }
+
+    @Test
+    public void testWriteBehindWithMessageSplit() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        for (int i = 0; i < 10; ++i) {
+            template.sendBody("direct:start2", "CIAO" + i);
+        }
+        stopCamelContext();
+
+        for (int i = 0; i < 5; ++i) {
+            Assert.assertEquals("CIAO" + (i * 2) + "CIAO" + (i * 2 + 1),
+                    readFile(BASE_FILE.toUri() + "2/" + HdfsConstants.DEFAULT_SEGMENT_PREFIX + i));
+        }
+    }
+
+    @Test
+    public void testWriteBehindPartitioned() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        for (int i = 0; i < 10; ++i) {
+            template.sendBodyAndHeader("direct:start3", "CIAO" + i, "part", i % 2 == 0 ? "even" : "odd");
+        }
+        stopCamelContext();
+
+        Assert.assertEquals("CIAO0CIAO2CIAO4CIAO6CIAO8", readFiles(BASE_FILE.toUri() + "3/even"));
+        Assert.assertEquals("CIAO1CIAO3CIAO5CIAO7CIAO9", readFiles(BASE_FILE.toUri() + "3/odd"));
+    }
+
+    @Test
+    public void testWriteBehindIdlePartitionIsRemoved() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        template.sendBodyAndHeader("direct:start3", "CIAO0", "part", "even");
+        HdfsEndpoint endpoint = context.getEndpoint(uri(3, "&writeBehindPoolSize=2&partitionExpression=${header.part}&splitStrategy=IDLE:200"),
+                HdfsEndpoint.class);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (endpoint.getTotalRollovers() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(1, endpoint.getTotalRollovers());
+
+        // the removed partition is written to a new file
+        template.sendBodyAndHeader("direct:start3", "CIAO2", "part", "even");
+        stopCamelContext();
+
+        Assert.assertEquals(2, listFiles(BASE_FILE.toUri() + "3/even").length);
+        Assert.assertEquals("CIAO0CIAO2", readFiles(BASE_FILE.toUri() + "3/even"));
+    }
+
+    @Test
+    public void testWriteBehindInvalidPartition() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        try {
+            template.sendBodyAndHeader("direct:start3", "CIAO", "part", "..");
+            Assert.fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+        }
+        HdfsEndpoint endpoint = context.getEndpoint(uri(3, "&writeBehindPoolSize=2&partitionExpression=${header.part}&splitStrategy=IDLE:200"),
+                HdfsEndpoint.class);
+        Assert.assertEquals(0, endpoint.getPendingMessages());
+
+        // the invalid message should not hold up the valid messages
+        template.sendBodyAndHeader("direct:start3", "CIAO", "part", "even");
+        stopCamelContext();
+
+        Assert.assertEquals(1, endpoint.getTotalWrittenMessages());
+        Assert.assertEquals(0, endpoint.getPendingMessages());
+        Assert.assertEquals("CIAO", readFiles(BASE_FILE.toUri() + "3/even"));
+    }
+
+    @Test
+    public void testWriteBehindInvalidOptions() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        for (String option : new String[]{"writeBehindBatchSize", "writeBehindQueueSize", "writeBehindPoolSize"}) {
+            try {
+                context.getEndpoint(uri(5, "&" + option + "=0")).createProducer();
+                Assert.fail("Should have thrown an exception");
+            } catch (IllegalArgumentException e) {
+                Assert.assertEquals(option + " must be positive, was: 0", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testWriteBehindFailure() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        // the file exists and must not be overwritten
+        FileSystem fs = FileSystem.get(BASE_FILE.toUri(), new Configuration());
+        fs.create(new Path(BASE_FILE.toUri() + "4")).close();
+
+        try {
+            template.sendBody("direct:start4", "CIAO");
+            Assert.fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            Assert.assertEquals("The file already exists", e.getCause().getMessage());
+        }
+        HdfsEndpoint endpoint = context.getEndpoint(uri(4, "&overwrite=false&connectOnStartup=false"), HdfsEndpoint.class);
+        Assert.assertEquals(1, endpoint.getTotalFailedMessages());
+        Assert.assertEquals(0, endpoint.getPendingMessages());
+    }
+
+    private static String uri(int routeNr, String options) {
+        return "hdfs:///" + BASE_FILE.toUri() + routeNr + "?fileSystemType=LOCAL&writeBehind=true" + options;
+    }
+
+    private static String readFiles(String dir) throws Exception {
+        String[] names = listFiles(dir);
+        // the files are numbered in the order they are written
+        Arrays.sort(names, new Comparator<String>() {
+            public int compare(String o1, String o2) {
+                return Long.valueOf(o1.substring(HdfsConstants.DEFAULT_SEGMENT_PREFIX.length()))
+                        .compareTo(Long.valueOf(o2.substring(HdfsConstants.DEFAULT_SEGMENT_PREFIX.length())));
+            }
+        });
+        StringBuilder answer = new StringBuilder();
+        for (String name : names) {
+            answer.append(readFile(dir + "/" + name));
+        }
+        return answer.toString();
+    }
+
+    private static String[] listFiles(String dir) throws Exception {
+        // skip the hidden checksum files
+        return new File(new URL("file:///" + dir).getPath()).list(new FilenameFilter() {
+            public boolean accept(File dir, String name) {
+                return !name.startsWith(".");
+            }
+        });
+    }
+
+    private static String readFile(String path) throws Exception {
+        InputStream in = null;
+        try {
+            in = new URL("file:///" + path).openStream();
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            IOUtils.copyBytes(in, bos, 4096, false);
+            return new String(bos.toByteArray());
+        } finally {
+            IOUtils.closeStream(in);
+        }
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        if (SKIP) {
+            return;
+        }
+
+        super.tearDown();
+        Thread.sleep(100);
+        Configuration conf = new Configuration();
+        Path dir = new Path("target/test");
+        FileSystem fs = FileSystem.get(dir.toUri(), conf);
+        fs.delete(dir, true);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start1").to(uri(1, "&writeBehindBatchSize=3"));
+                from("direct:start2").to(uri(2, "&splitStrategy=MESSAGES:2"));
+                from("direct:start3").to(uri(3, "&writeBehindPoolSize=2&partitionExpression=${header.part}&splitStrategy=IDLE:200"));
+                from("direct:start4").to(uri(4, "&overwrite=false&connectOnStartup=false"));
+            }
+        };
+    }
+}
@@ -23,17 +23,35 @@ import java.util.Map;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonGenerator;
+import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.ObjectWriter;
+import org.codehaus.jackson.smile.SmileFactory;
 
 /**
  * A <a href="http://camel.apache.org/data-format.html">data format</a> ({@link DataFormat})
  * using <a href="http://jackson.codehaus.org/">Jackson</a> to marshal to and from JSON.
+ * <p/>
+ * If <tt>lazyLoad</tt> is enabled then unmarshalling returns an {@link java.util.Iterator} which reads
+ * the elements of the top-level JSON array on demand, which allows splitting huge JSON documents in
+ * streaming mode. If <tt>smile</tt> is enabled then the binary
+ * <a href="http://wiki.fasterxml.com/SmileFormat">Smile</a> format is used instead of textual JSON.
  */
 public class JacksonDataFormat implements DataFormat {
 
     private final ObjectMapper objectMapper;
     private Class<?> unmarshalType;
     private Class<?> jsonView;
+    private boolean lazyLoad;
+    private boolean smile;
+    // readers and writers are immutable and thread safe, so they are created once and reused
+    private volatile ObjectReader reader;
+    private volatile ObjectWriter writer;
+    private volatile JsonFactory smileFactory;
 
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Map}
@@ -89,11 +107,74 @@ public class JacksonDataFormat implements DataFormat {
     }
 
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws Exception {
-        this.objectMapper.writerWithView(jsonView).writeValue(stream, graph);
+        if (smile) {
+            JsonGenerator generator = getSmileFactory().createJsonGenerator(stream);
+            try {
+                getWriter().writeValue(generator, graph);
+            } finally {
+                generator.close();
+            }
+        } else {
+            getWriter().writeValue(stream, graph);
+        }
     }
 
     public Object unmarshal(Exchange exchange, InputStream stream) throws Exception {
-        return this.objectMapper.readValue(stream, this.unmarshalType);
+        JsonFactory factory = smile ? getSmileFactory() : objectMapper.getJsonFactory();
+
+        if (lazyLoad) {
+            final JacksonIterator answer = new JacksonIterator(factory.createJsonParser(stream), getReader());
+            // make sure the input is closed when the exchange is done, in case the iterator was not read to the end
+            exchange.addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    answer.close();
+                }
+
+                @Override
+                public String toString() {
+                    return "JacksonIteratorCloser";
+                }
+            });
+            return answer;
+        }
+
+        if (smile) {
+            JsonParser parser = factory.createJsonParser(stream);
+            try {
+                return getReader().readValue(parser);
+            } finally {
+                parser.close();
+            }
+        }
+        return getReader().readValue(stream);
+    }
+
+    protected ObjectReader getReader() {
+        ObjectReader answer = reader;
+        if (answer == null) {
+            answer = objectMapper.reader(unmarshalType);
+            reader = answer;
+        }
+        return answer;
+    }
+
+    protected ObjectWriter getWriter() {
+        ObjectWriter answer = writer;
+        if (answer == null) {
+            answer = objectMapper.writerWithView(jsonView);
+            writer = answer;
+        }
+        return answer;
+    }
+
+    protected JsonFactory getSmileFactory() {
+        JsonFactory answer = smileFactory;
+        if (answer == null) {
+            answer = new SmileFactory(objectMapper);
+            smileFactory = answer;
+        }
+        return answer;
     }
 
     // Properties
@@ -105,6 +186,7 @@ public class JacksonDataFormat implements DataFormat {
 
     public void setUnmarshalType(Class<?> unmarshalType) {
         this.unmarshalType = unmarshalType;
+        this.reader = null;
     }
 
     public Class<?> getJsonView() {
@@ -113,6 +195,30 @@ public class JacksonDataFormat implements DataFormat {
 
     public void setJsonView(Class<?> jsonView) {
         this.jsonView = jsonView;
+        this.writer = null;
+    }
+
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether to unmarshal the elements of the top-level JSON array lazily using an {@link java.util.Iterator},
+     * instead of reading the entire document at once.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public boolean isSmile() {
+        return smile;
+    }
+
+    /**
+     * Whether to use the binary Smile format instead of textual JSON.
+     */
+    public void setSmile(boolean smile) {
+        this.smile = smile;
     }
 
     public ObjectMapper getObjectMapper() {
@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.ObjectReader;
+
+/**
+ * An {@link Iterator} which reads the elements of a top-level JSON array one element at a time,
+ * using the {@link JsonParser} token stream.
+ * <p/>
+ * If the top-level JSON value is not an array, then the value is returned as the only element.
+ * The parser is closed when all the elements has been read, or when the iterator is explicit closed.
+ */
+public class JacksonIterator implements Iterator<Object>, Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private boolean array;
+    private boolean hasNext;
+
+    public JacksonIterator(JsonParser parser, ObjectReader reader) throws IOException {
+        this.parser = parser;
+        this.reader = reader;
+
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            array = true;
+            token = parser.nextToken();
+        }
+        hasNext = token != null && token != JsonToken.END_ARRAY;
+        if (!hasNext) {
+            close();
+        }
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public Object next() {
+        if (!hasNext) {
+            throw new NoSuchElementException();
+        }
+        try {
+            Object answer = reader.readValue(parser);
+            if (array) {
+                JsonToken token = parser.nextToken();
+                hasNext = token != null && token != JsonToken.END_ARRAY;
+            } else {
+                hasNext = false;
+            }
+            if (!hasNext) {
+                close();
+            }
+            return answer;
+        } catch (IOException e) {
+            close();
+            throw new RuntimeCamelException("Error reading next JSON element", e);
+        }
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    public void close() {
+        hasNext = false;
+        IOHelper.close(parser);
+    }
+}
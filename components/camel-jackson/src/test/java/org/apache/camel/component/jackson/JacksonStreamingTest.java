@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class JacksonStreamingTest extends CamelTestSupport {
+
+    @Test
+    public void testSplitArrayStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(100);
+        mock.allMessages().body().isInstanceOf(TestPojo.class);
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append("{\"name\":\"Camel").append(i).append("\"}");
+        }
+        sb.append("]");
+        template.sendBody("direct:split", sb.toString());
+
+        assertMockEndpointsSatisfied();
+        assertEquals("Camel99", mock.getReceivedExchanges().get(99).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testSplitSingleValue() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:split", "{\"name\":\"Camel\"}");
+
+        assertMockEndpointsSatisfied();
+        assertEquals("Camel", mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testSplitEmptyArray() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(0);
+
+        template.sendBody("direct:split", "[]");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMarshalAndUnmarshalSmile() throws Exception {
+        TestPojo in = new TestPojo();
+        in.setName("Camel");
+
+        MockEndpoint mock = getMockEndpoint("mock:smile");
+        mock.expectedBodiesReceived(in);
+
+        byte[] marshalled = template.requestBody("direct:inSmile", in, byte[].class);
+        // smile documents starts with the ':)' header
+        assertEquals(':', marshalled[0]);
+        assertEquals(')', marshalled[1]);
+
+        template.sendBody("direct:backSmile", marshalled);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                JacksonDataFormat streaming = new JacksonDataFormat(TestPojo.class);
+                streaming.setLazyLoad(true);
+
+                from("direct:split").unmarshal(streaming)
+                    .split(body()).streaming()
+                        .to("mock:pojo");
+
+                JacksonDataFormat smile = new JacksonDataFormat(TestPojo.class);
+                smile.setSmile(true);
+
+                from("direct:inSmile").marshal(smile);
+                from("direct:backSmile").unmarshal(smile).to("mock:smile");
+            }
+        };
+    }
+
+}
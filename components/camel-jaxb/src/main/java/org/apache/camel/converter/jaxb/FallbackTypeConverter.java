@@ -24,8 +24,8 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -57,7 +57,7 @@ import org.slf4j.LoggerFactory;
  */
 public class FallbackTypeConverter extends ServiceSupport implements TypeConverter, TypeConverterAware {
     private static final transient Logger LOG = LoggerFactory.getLogger(FallbackTypeConverter.class);
-    private final Map<Class<?>, JAXBContext> contexts = new HashMap<Class<?>, JAXBContext>();
+    private final ConcurrentMap<Class<?>, JaxbContextPool> contexts = new ConcurrentHashMap<Class<?>, JaxbContextPool>();
     private final StaxConverter staxConverter = new StaxConverter();
     private TypeConverter parentTypeConverter;
     private boolean prettyPrint = true;
@@ -155,8 +155,15 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
             throw new IllegalArgumentException("Cannot convert from null value to JAXBSource");
         }
 
-        Unmarshaller unmarshaller = getUnmarshaller(type);
+        JaxbContextPool pool = getContextPool(type);
+        Unmarshaller unmarshaller = pool.acquireUnmarshaller();
+        T answer = doUnmarshall(type, exchange, value, unmarshaller);
+        // only return the unmarshaller to the pool if it did not fail
+        pool.releaseUnmarshaller(unmarshaller);
+        return answer;
+    }
 
+    private <T> T doUnmarshall(Class<T> type, Exchange exchange, Object value, Unmarshaller unmarshaller) throws Exception {
         if (parentTypeConverter != null) {
             if (!needFiltering(exchange)) {
                 // we cannot filter the XMLStreamReader if necessary
@@ -202,9 +209,9 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
         if (parentTypeConverter != null) {
             // lets convert the object to a JAXB source and try convert that to
             // the required source
-            JAXBContext context = createContext(value.getClass());
-            // must create a new instance of marshaller as its not thread safe
-            Marshaller marshaller = context.createMarshaller();
+            JaxbContextPool pool = getContextPool(value.getClass());
+            // marshaller is not thread safe so use a pooled instance
+            Marshaller marshaller = pool.acquireMarshaller();
             Writer buffer = new StringWriter();
             if (isPrettyPrint()) {
                 marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
@@ -219,6 +226,8 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
             } else {
                 marshaller.marshal(value, buffer);
             }
+            // only return the marshaller to the pool if it did not fail
+            pool.releaseMarshaller(marshaller);
             answer = parentTypeConverter.convertTo(type, buffer.toString());
         }
 
@@ -263,18 +272,24 @@ public class FallbackTypeConverter extends ServiceSupport implements TypeConvert
         return exchange != null && exchange.getProperty(Exchange.FILTER_NON_XML_CHARS, Boolean.FALSE, Boolean.class);
     }
 
-    protected synchronized <T> JAXBContext createContext(Class<T> type) throws JAXBException {
-        JAXBContext context = contexts.get(type);
-        if (context == null) {
-            context = JAXBContext.newInstance(type);
-            contexts.put(type, context);
-        }
-        return context;
+    protected <T> JAXBContext createContext(Class<T> type) throws JAXBException {
+        return JAXBContext.newInstance(type);
     }
 
-    protected <T> Unmarshaller getUnmarshaller(Class<T> type) throws JAXBException {
-        JAXBContext context = createContext(type);
-        return context.createUnmarshaller();
+    /**
+     * Gets the pool holding the {@link JAXBContext} for the given type, which is created on first use
+     */
+    protected <T> JaxbContextPool getContextPool(Class<T> type) throws JAXBException {
+        JaxbContextPool pool = contexts.get(type);
+        if (pool == null) {
+            // creating the context is expensive so do not hold any lock, at worst the context is created twice
+            pool = new JaxbContextPool(createContext(type));
+            JaxbContextPool existing = contexts.putIfAbsent(type, pool);
+            if (existing != null) {
+                pool = existing;
+            }
+        }
+        return pool;
     }
 
     private static <T> boolean isNotStreamCacheType(Class<T> type) {
@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.jaxb;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds a {@link JAXBContext} together with a pool of {@link Marshaller} and {@link Unmarshaller}
+ * instances created from the context.
+ * <p/>
+ * Marshallers and unmarshallers are not thread safe, but they are expensive to create, so instead
+ * of creating a new instance for each message they are acquired from the pool and released back to
+ * the pool after use. When a marshaller is released the properties set per message (formatted output,
+ * encoding and fragment) are reset, so the next user does not see the properties set by the previous user.
+ * The settings applied when the instances are created, such as a schema or event handler, are kept, so a pool
+ * should only be shared by users with the same configuration. Instances which failed should not be released,
+ * as their state is unknown.
+ *
+ * @version
+ */
+public class JaxbContextPool {
+
+    public static final int DEFAULT_POOL_SIZE = 32;
+
+    private static final transient Logger LOG = LoggerFactory.getLogger(JaxbContextPool.class);
+    private final JAXBContext context;
+    private final BlockingQueue<Marshaller> marshallers;
+    private final BlockingQueue<Unmarshaller> unmarshallers;
+
+    public JaxbContextPool(JAXBContext context) {
+        this(context, DEFAULT_POOL_SIZE);
+    }
+
+    public JaxbContextPool(JAXBContext context, int poolSize) {
+        ObjectHelper.notNull(context, "JAXBContext");
+        this.context = context;
+        this.marshallers = new ArrayBlockingQueue<Marshaller>(poolSize);
+        this.unmarshallers = new ArrayBlockingQueue<Unmarshaller>(poolSize);
+    }
+
+    public JAXBContext getContext() {
+        return context;
+    }
+
+    /**
+     * Acquires a marshaller, which must be released after use
+     */
+    public Marshaller acquireMarshaller() throws JAXBException {
+        Marshaller answer = marshallers.poll();
+        if (answer == null) {
+            answer = createMarshaller();
+        }
+        return answer;
+    }
+
+    /**
+     * Resets the marshaller and returns it to the pool
+     */
+    public void releaseMarshaller(Marshaller marshaller) {
+        try {
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.FALSE);
+            marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.FALSE);
+        } catch (Exception e) {
+            LOG.debug("Cannot reset marshaller, which will not be pooled due: " + e.getMessage(), e);
+            return;
+        }
+        // if the pool is full then the marshaller is discarded
+        marshallers.offer(marshaller);
+    }
+
+    /**
+     * Acquires an unmarshaller, which must be released after use
+     */
+    public Unmarshaller acquireUnmarshaller() throws JAXBException {
+        Unmarshaller answer = unmarshallers.poll();
+        if (answer == null) {
+            answer = createUnmarshaller();
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the unmarshaller to the pool, the unmarshaller is not configured per message so there is nothing to reset
+     */
+    public void releaseUnmarshaller(Unmarshaller unmarshaller) {
+        // if the pool is full then the unmarshaller is discarded
+        unmarshallers.offer(unmarshaller);
+    }
+
+    /**
+     * Strategy to create a new marshaller when the pool is empty
+     */
+    protected Marshaller createMarshaller() throws JAXBException {
+        return context.createMarshaller();
+    }
+
+    /**
+     * Strategy to create a new unmarshaller when the pool is empty
+     */
+    protected Unmarshaller createUnmarshaller() throws JAXBException {
+        return context.createUnmarshaller();
+    }
+}
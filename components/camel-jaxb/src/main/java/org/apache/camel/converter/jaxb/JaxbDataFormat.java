@@ -54,6 +54,7 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, CamelC
     private static final transient Logger LOG = LoggerFactory.getLogger(JaxbDataFormat.class);
     private CamelContext camelContext;
     private JAXBContext context;
+    private volatile JaxbContextPool pool;
     private String contextPath;
     private boolean prettyPrint = true;
     private boolean ignoreJAXBElement = true;
@@ -79,9 +80,10 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, CamelC
     }
 
     public void marshal(Exchange exchange, Object graph, OutputStream stream) throws IOException {
-        try {            
-            // must create a new instance of marshaller as its not thread safe
-            Marshaller marshaller = getContext().createMarshaller();
+        try {
+            // marshaller is not thread safe so use a pooled instance
+            JaxbContextPool pool = getContextPool();
+            Marshaller marshaller = pool.acquireMarshaller();
             if (isPrettyPrint()) {
                 marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
             } 
@@ -99,6 +101,8 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, CamelC
 
             marshal(exchange, graph, stream, marshaller);
 
+            // only return the marshaller to the pool if it did not fail
+            pool.releaseMarshaller(marshaller);
         } catch (JAXBException e) {
             throw new IOException(e);
         } catch (XMLStreamException e) {
@@ -138,12 +142,17 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, CamelC
             } else {
                 xmlReader = typeConverter.convertTo(XMLStreamReader.class, stream);
             }
+            // unmarshaller is not thread safe so use a pooled instance
+            JaxbContextPool pool = getContextPool();
+            Unmarshaller unmarshaller = pool.acquireUnmarshaller();
             if (partialClass != null) {
                 // partial unmarshalling
-                answer = createUnmarshaller().unmarshal(xmlReader, partialClass);
+                answer = unmarshaller.unmarshal(xmlReader, partialClass);
             } else {
-                answer = createUnmarshaller().unmarshal(xmlReader);
+                answer = unmarshaller.unmarshal(xmlReader);
             }
+            // only return the unmarshaller to the pool if it did not fail
+            pool.releaseUnmarshaller(unmarshaller);
 
             if (answer instanceof JAXBElement && isIgnoreJAXBElement()) {
                 answer = ((JAXBElement<?>)answer).getValue();
@@ -261,6 +270,7 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, CamelC
 
     @Override
     protected void doStop() throws Exception {
+        pool = null;
     }
 
     /**
@@ -288,4 +298,25 @@ public class JaxbDataFormat extends ServiceSupport implements DataFormat, CamelC
         return getContext().createUnmarshaller();
     }
 
+    /**
+     * Gets the pool of marshallers and unmarshallers for the current JAXB context.
+     * <p/>
+     * The pool is not shared with other data formats or the {@link FallbackTypeConverter},
+     * as the unmarshallers are configured by this data format, such as with its schema.
+     */
+    protected JaxbContextPool getContextPool() {
+        JaxbContextPool answer = pool;
+        if (answer == null || answer.getContext() != getContext()) {
+            // the context may have been changed, which requires a new pool
+            answer = new JaxbContextPool(getContext()) {
+                @Override
+                protected Unmarshaller createUnmarshaller() throws JAXBException {
+                    return JaxbDataFormat.this.createUnmarshaller();
+                }
+            };
+            pool = answer;
+        }
+        return answer;
+    }
+
 }
@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.jaxb;
+
+import java.io.StringWriter;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.ValidationEvent;
+import javax.xml.bind.ValidationEventHandler;
+
+import org.apache.camel.example.Foo;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JaxbContextPoolTest {
+
+    @Test
+    public void testMarshallerIsReusedAndReset() throws Exception {
+        JaxbContextPool pool = new JaxbContextPool(JAXBContext.newInstance(Foo.class));
+
+        Marshaller marshaller = pool.acquireMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        // a concurrent user gets its own instance
+        Marshaller other = pool.acquireMarshaller();
+        assertNotSame(marshaller, other);
+
+        pool.releaseMarshaller(marshaller);
+        pool.releaseMarshaller(other);
+
+        Marshaller reused = pool.acquireMarshaller();
+        assertSame(marshaller, reused);
+        assertEquals(Boolean.FALSE, reused.getProperty(Marshaller.JAXB_FORMATTED_OUTPUT));
+        assertEquals(Boolean.FALSE, reused.getProperty(Marshaller.JAXB_FRAGMENT));
+
+        StringWriter writer = new StringWriter();
+        reused.marshal(new Foo(), writer);
+        assertTrue(writer.toString().startsWith("<?xml"));
+        assertFalse(writer.toString().contains("\n"));
+    }
+
+    @Test
+    public void testUnmarshallerIsReused() throws Exception {
+        JaxbContextPool pool = new JaxbContextPool(JAXBContext.newInstance(Foo.class));
+
+        Unmarshaller unmarshaller = pool.acquireUnmarshaller();
+        pool.releaseUnmarshaller(unmarshaller);
+        assertSame(unmarshaller, pool.acquireUnmarshaller());
+    }
+
+    @Test
+    public void testUnmarshallerKeepsConfiguration() throws Exception {
+        final ValidationEventHandler handler = new ValidationEventHandler() {
+            public boolean handleEvent(ValidationEvent event) {
+                return false;
+            }
+        };
+        JaxbContextPool pool = new JaxbContextPool(JAXBContext.newInstance(Foo.class)) {
+            @Override
+            protected Unmarshaller createUnmarshaller() throws JAXBException {
+                Unmarshaller answer = super.createUnmarshaller();
+                answer.setEventHandler(handler);
+                return answer;
+            }
+        };
+
+        Unmarshaller unmarshaller = pool.acquireUnmarshaller();
+        pool.releaseUnmarshaller(unmarshaller);
+
+        // the configuration applied when created is kept when reused
+        Unmarshaller reused = pool.acquireUnmarshaller();
+        assertSame(unmarshaller, reused);
+        assertSame(handler, reused.getEventHandler());
+    }
+
+    @Test
+    public void testPoolSizeIsBounded() throws Exception {
+        JaxbContextPool pool = new JaxbContextPool(JAXBContext.newInstance(Foo.class), 1);
+
+        Unmarshaller first = pool.acquireUnmarshaller();
+        Unmarshaller second = pool.acquireUnmarshaller();
+        pool.releaseUnmarshaller(first);
+        // the pool is full so the second is discarded
+        pool.releaseUnmarshaller(second);
+
+        assertSame(first, pool.acquireUnmarshaller());
+        Unmarshaller third = pool.acquireUnmarshaller();
+        assertNotSame(first, third);
+        assertNotSame(second, third);
+    }
+}
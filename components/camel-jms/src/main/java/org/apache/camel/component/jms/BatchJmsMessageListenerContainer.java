@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.Session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.TransactionStatus;
+
+/**
+ * A {@link DefaultJmsMessageListenerContainer} which receives messages in batches.
+ * <p/>
+ * Up to <tt>batchSize</tt> messages are received within <tt>batchTimeout</tt> millis using the same
+ * JMS session, and the session is committed (or acknowledged) once, after the entire batch has been
+ * processed. If processing any of the messages fails then the entire batch is rolled back.
+ * <p/>
+ * Batching requires the container to cache the JMS session and consumer, which is the default.
+ * An external transaction manager cannot be used with batching. If the cache level does not cache
+ * the consumer then the container falls back to receive one message at a time, and logs a WARN.
+ *
+ * @version
+ */
+public class BatchJmsMessageListenerContainer extends DefaultJmsMessageListenerContainer {
+
+    private static final transient Logger LOG = LoggerFactory.getLogger(BatchJmsMessageListenerContainer.class);
+    private final JmsEndpoint endpoint;
+    private volatile boolean fallbackLogged;
+
+    public BatchJmsMessageListenerContainer(JmsEndpoint endpoint) {
+        super(endpoint);
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    protected boolean doReceiveAndExecute(Object invoker, Session session, MessageConsumer consumer, TransactionStatus status) throws JMSException {
+        if (session == null || consumer == null) {
+            // no cached session and consumer so we cannot batch
+            if (!fallbackLogged) {
+                fallbackLogged = true;
+                LOG.warn("Cannot receive messages in batches from {} as the JMS session and consumer is not cached,"
+                        + " will receive one message at a time. Use cacheLevelName=CACHE_CONSUMER to enable batching.", endpoint);
+            }
+            return super.doReceiveAndExecute(invoker, session, consumer, status);
+        }
+
+        List<Message> messages = receiveBatch(consumer);
+        if (messages.isEmpty()) {
+            noMessageReceived(invoker, session);
+            return false;
+        }
+
+        messageReceived(invoker, session);
+        try {
+            doExecuteBatch(session, messages);
+        } catch (Throwable ex) {
+            if (status != null) {
+                status.setRollbackOnly();
+            }
+            handleListenerException(ex);
+            if (ex instanceof JMSException) {
+                throw (JMSException) ex;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Receives the next batch of messages.
+     * <p/>
+     * Waits up till the receive timeout for the first message, and then keeps receiving
+     * until the batch is full or the batch timeout has elapsed.
+     *
+     * @param consumer the consumer
+     * @return the received messages, is empty if no messages was received
+     */
+    protected List<Message> receiveBatch(MessageConsumer consumer) throws JMSException {
+        List<Message> answer = new ArrayList<Message>();
+
+        Message message = receiveMessage(consumer);
+        if (message == null) {
+            return answer;
+        }
+        answer.add(message);
+
+        int batchSize = endpoint.getBatchSize();
+        long deadline = System.currentTimeMillis() + endpoint.getBatchTimeout();
+        while (answer.size() < batchSize) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                message = consumer.receiveNoWait();
+            } else {
+                message = consumer.receive(remaining);
+            }
+            if (message == null) {
+                break;
+            }
+            answer.add(message);
+        }
+
+        LOG.debug("Received batch of {} messages", answer.size());
+        return answer;
+    }
+
+    protected void doExecuteBatch(Session session, List<Message> messages) throws JMSException {
+        if (!isAcceptMessagesWhileStopping() && !isRunning()) {
+            LOG.debug("Rejecting received batch because of the listener container having been stopped in the meantime");
+            rollbackIfNecessary(session);
+            return;
+        }
+
+        try {
+            Object listener = getMessageListener();
+            if (listener instanceof EndpointMessageListener) {
+                ((EndpointMessageListener) listener).onMessages(messages);
+            } else {
+                for (Message message : messages) {
+                    invokeListener(session, message);
+                }
+            }
+        } catch (JMSException ex) {
+            rollbackOnExceptionIfNecessary(session, ex);
+            throw ex;
+        } catch (RuntimeException ex) {
+            rollbackOnExceptionIfNecessary(session, ex);
+            throw ex;
+        } catch (Error err) {
+            rollbackOnExceptionIfNecessary(session, err);
+            throw err;
+        }
+
+        // commit or acknowledge the entire batch at once
+        commitIfNecessary(session, messages.get(messages.size() - 1));
+    }
+}
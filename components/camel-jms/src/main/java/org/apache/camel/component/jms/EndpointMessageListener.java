@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.ArrayList;
+import java.util.List;
 import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -64,6 +66,71 @@ public class EndpointMessageListener implements MessageListener {
     }
 
     public void onMessage(final Message message) {
+        onMessage(message, -1, 0);
+    }
+
+    /**
+     * Processes a batch of messages which has been received in the same JMS session.
+     * <p/>
+     * If the endpoint is configured with <tt>batchGroupExchanges=true</tt> then the messages are
+     * processed as a single grouped {@link Exchange}, otherwise they are processed one by one in sequence.
+     * An exception is thrown if any of the messages failed, which causes the entire batch to rollback.
+     *
+     * @param messages the messages
+     */
+    public void onMessages(final List<Message> messages) {
+        LOG.debug("{} consumer received batch of {} JMS messages", endpoint, messages.size());
+
+        if (endpoint.isBatchGroupExchanges()) {
+            onGroupedMessages(messages);
+        } else {
+            for (int i = 0; i < messages.size(); i++) {
+                onMessage(messages.get(i), i, messages.size());
+            }
+        }
+    }
+
+    protected void onGroupedMessages(final List<Message> messages) {
+        RuntimeCamelException rce;
+        try {
+            List<Exchange> grouped = new ArrayList<Exchange>(messages.size());
+            for (Message message : messages) {
+                Exchange answer = createExchange(message, null);
+                if (eagerLoadingOfProperties) {
+                    answer.getIn().getHeaders();
+                }
+                grouped.add(answer);
+            }
+
+            // the grouped exchange is InOnly as we cannot send back a reply for many messages
+            Exchange exchange = endpoint.createExchange(ExchangePattern.InOnly);
+            exchange.setProperty(Exchange.GROUPED_EXCHANGE, grouped);
+            exchange.setProperty(Exchange.BATCH_SIZE, grouped.size());
+
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            if (exchange.isRollbackOnly()) {
+                rce = wrapRuntimeCamelException(new RollbackExchangeException(exchange));
+            } else if (exchange.getException() != null) {
+                rce = wrapRuntimeCamelException(exchange.getException());
+            } else {
+                rce = null;
+            }
+        } catch (Exception e) {
+            rce = wrapRuntimeCamelException(e);
+        }
+
+        if (rce != null) {
+            // rethrow to trigger rollback of the entire batch on JMS listener
+            throw rce;
+        }
+    }
+
+    protected void onMessage(final Message message, int batchIndex, int batchSize) {
         LOG.trace("onMessage START");
 
         LOG.debug("{} consumer received JMS message: {}", endpoint, message);
@@ -80,6 +147,11 @@ public class EndpointMessageListener implements MessageListener {
             if (eagerLoadingOfProperties) {
                 exchange.getIn().getHeaders();
             }
+            if (batchSize > 0) {
+                exchange.setProperty(Exchange.BATCH_INDEX, batchIndex);
+                exchange.setProperty(Exchange.BATCH_SIZE, batchSize);
+                exchange.setProperty(Exchange.BATCH_COMPLETE, batchIndex == batchSize - 1);
+            }
             String correlationId = message.getJMSCorrelationID();
             if (correlationId != null) {
                 LOG.debug("Received Message has JMSCorrelationID [{}]", correlationId);
@@ -0,0 +1,183 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.jms.Destination;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.jms.JmsConfiguration.CamelJmsTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.core.MessageCreator;
+
+/**
+ * A {@link JmsProducer} which groups concurrent <tt>InOnly</tt> sends, and sends them
+ * using a single transacted JMS session which is committed once.
+ * <p/>
+ * A batch is sent when it contains <tt>batchSize</tt> messages, or when the oldest message
+ * in the batch has waited <tt>batchTimeout</tt> millis, whichever comes first. The exchanges are
+ * completed asynchronously when their batch has been committed. If the batch fails then all the
+ * exchanges in the batch fail with the same exception.
+ * <p/>
+ * Request/Reply (<tt>InOut</tt>) exchanges are not batched. The batches are always sent using a local transacted
+ * session, and therefore batching cannot be used together with an external transaction manager.
+ *
+ * @version
+ */
+public class JmsBatchProducer extends JmsProducer {
+    private static final transient Logger LOG = LoggerFactory.getLogger(JmsBatchProducer.class);
+    private final Object lock = new Object();
+    private CamelJmsTemplate batchTemplate;
+    private ScheduledExecutorService timeoutExecutor;
+    private List<BatchEntry> current;
+
+    public JmsBatchProducer(JmsEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected boolean doSendInOnly(Exchange exchange, AsyncCallback callback, String destinationName, Destination destination,
+                                   MessageCreator messageCreator) {
+        Object target = destination != null ? destination : destinationName;
+        if (target == null) {
+            exchange.setException(new IllegalArgumentException("Neither destination nor destinationName is specified on this endpoint: " + getEndpoint()));
+            callback.done(true);
+            return true;
+        }
+
+        List<BatchEntry> full = null;
+        synchronized (lock) {
+            if (current == null) {
+                current = new ArrayList<BatchEntry>();
+                final List<BatchEntry> batch = current;
+                timeoutExecutor.schedule(new Runnable() {
+                    public void run() {
+                        onTimeout(batch);
+                    }
+                }, getEndpoint().getBatchTimeout(), TimeUnit.MILLISECONDS);
+            }
+            current.add(new BatchEntry(exchange, callback, target, messageCreator));
+            if (current.size() >= getEndpoint().getBatchSize()) {
+                full = current;
+                current = null;
+            }
+        }
+
+        if (full != null) {
+            sendBatch(full);
+        }
+        // the exchange is completed when its batch has been sent
+        return false;
+    }
+
+    protected void onTimeout(List<BatchEntry> batch) {
+        synchronized (lock) {
+            if (current != batch) {
+                // the batch has already been sent as it was full
+                return;
+            }
+            current = null;
+        }
+        LOG.trace("Sending batch of {} messages due batch timeout", batch.size());
+        sendBatch(batch);
+    }
+
+    protected void sendBatch(List<BatchEntry> batch) {
+        List<Object> destinations = new ArrayList<Object>(batch.size());
+        List<MessageCreator> messageCreators = new ArrayList<MessageCreator>(batch.size());
+        for (BatchEntry entry : batch) {
+            destinations.add(entry.destination);
+            messageCreators.add(entry.messageCreator);
+        }
+
+        try {
+            getBatchTemplate().sendBatch(destinations, messageCreators);
+            LOG.debug("Sent batch of {} messages", batch.size());
+            for (BatchEntry entry : batch) {
+                // after sending then set the OUT message id to the JMSMessageID so its identical
+                setMessageId(entry.exchange);
+            }
+        } catch (Throwable e) {
+            for (BatchEntry entry : batch) {
+                entry.exchange.setException(e);
+            }
+        }
+
+        for (BatchEntry entry : batch) {
+            entry.callback.done(false);
+        }
+    }
+
+    /**
+     * Gets the template used for sending the batches, which always uses a transacted session
+     * so the batch can be committed at once.
+     */
+    public CamelJmsTemplate getBatchTemplate() {
+        if (batchTemplate == null) {
+            batchTemplate = (CamelJmsTemplate) getEndpoint().createInOnlyTemplate();
+            batchTemplate.setSessionTransacted(true);
+        }
+        return batchTemplate;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (timeoutExecutor == null) {
+            timeoutExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "JmsBatchTimeoutChecker");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // send any pending batch so no exchanges is left behind
+        List<BatchEntry> pending;
+        synchronized (lock) {
+            pending = current;
+            current = null;
+        }
+        if (pending != null) {
+            sendBatch(pending);
+        }
+
+        if (timeoutExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(timeoutExecutor);
+            timeoutExecutor = null;
+        }
+        super.doStop();
+    }
+
+    private static final class BatchEntry {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final Object destination;
+        private final MessageCreator messageCreator;
+
+        private BatchEntry(Exchange exchange, AsyncCallback callback, Object destination, MessageCreator messageCreator) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.destination = destination;
+            this.messageCreator = messageCreator;
+        }
+    }
+}
@@ -376,6 +376,18 @@ public class JmsComponent extends DefaultComponent implements ApplicationContext
         getConfiguration().setAllowNullBody(allowNullBody);
     }
 
+    public void setBatchSize(int batchSize) {
+        getConfiguration().setBatchSize(batchSize);
+    }
+
+    public void setBatchTimeout(long batchTimeout) {
+        getConfiguration().setBatchTimeout(batchTimeout);
+    }
+
+    public void setBatchGroupExchanges(boolean batchGroupExchanges) {
+        getConfiguration().setBatchGroupExchanges(batchGroupExchanges);
+    }
+
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
     }
@@ -498,6 +510,7 @@ public class JmsComponent extends DefaultComponent implements ApplicationContext
         }
 
         setProperties(endpoint.getConfiguration(), parameters);
+        endpoint.getConfiguration().checkBatchOptions();
         endpoint.setHeaderFilterStrategy(getHeaderFilterStrategy());
 
         return endpoint;
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.List;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.ExceptionListener;
@@ -135,6 +136,9 @@ public class JmsConfiguration implements Cloneable {
     // the cacheLevelName of reply manager
     private String replyToCacheLevelName;
     private boolean allowNullBody = true;
+    private int batchSize;
+    private long batchTimeout = 1000L;
+    private boolean batchGroupExchanges;
 
     public JmsConfiguration() {
     }
@@ -202,6 +206,50 @@ public class JmsConfiguration implements Cloneable {
             }, false);
         }
 
+        /**
+         * Sends the messages using the same session, and commits the session once after all the
+         * messages has been sent, if the session is locally transacted.
+         *
+         * @param destinations    the destinations, either a {@link Destination} or the name of the destination
+         * @param messageCreators the creators to create the messages to send
+         */
+        public void sendBatch(final List<Object> destinations,
+                              final List<MessageCreator> messageCreators) throws JmsException {
+            execute(new SessionCallback<Object>() {
+                public Object doInJms(Session session) throws JMSException {
+                    try {
+                        for (int i = 0; i < messageCreators.size(); i++) {
+                            Object target = destinations.get(i);
+                            Destination destination = target instanceof Destination
+                                    ? (Destination) target : resolveDestinationName(session, (String) target);
+                            MessageProducer producer = createProducer(session, destination);
+                            try {
+                                Message message = messageCreators.get(i).createMessage(session);
+                                doSend(producer, message);
+                            } finally {
+                                JmsUtils.closeMessageProducer(producer);
+                            }
+                        }
+                        if (session.getTransacted() && isSessionLocallyTransacted(session)) {
+                            // commit all the messages at once
+                            JmsUtils.commitIfNecessary(session);
+                        }
+                    } catch (JMSException e) {
+                        if (session.getTransacted() && isSessionLocallyTransacted(session)) {
+                            JmsUtils.rollbackIfNecessary(session);
+                        }
+                        throw e;
+                    } catch (RuntimeException e) {
+                        if (session.getTransacted() && isSessionLocallyTransacted(session)) {
+                            JmsUtils.rollbackIfNecessary(session);
+                        }
+                        throw e;
+                    }
+                    return null;
+                }
+            }, false);
+        }
+
         private Object doSendToDestination(final Destination destination,
                                            final MessageCreator messageCreator,
                                            final MessageSentCallback callback,
@@ -382,6 +430,9 @@ public class JmsConfiguration implements Cloneable {
         case Simple:
             return new SimpleJmsMessageListenerContainer(endpoint);
         case Default:
+            if (batchSize > 0) {
+                return new BatchJmsMessageListenerContainer(endpoint);
+            }
             return new DefaultJmsMessageListenerContainer(endpoint);
         default:
             throw new IllegalArgumentException("Unknown consumer type: " + consumerType);
@@ -983,11 +1034,16 @@ public class JmsConfiguration implements Cloneable {
         if (taskExecutor != null) {
             container.setTaskExecutor(taskExecutor);
         }
-        PlatformTransactionManager tm = getTransactionManager();
-        if (tm != null) {
-            container.setTransactionManager(tm);
-        } else if (transactionManager == null && transacted && !lazyCreateTransactionManager) {
+        if (batchSize > 0 && transacted) {
+            // batching uses a local transacted session so the entire batch can be committed at once
             container.setSessionTransacted(true);
+        } else {
+            PlatformTransactionManager tm = getTransactionManager();
+            if (tm != null) {
+                container.setTransactionManager(tm);
+            } else if (transactionManager == null && transacted && !lazyCreateTransactionManager) {
+                container.setSessionTransacted(true);
+            }
         }
         if (transactionName != null) {
             container.setTransactionName(transactionName);
@@ -1277,4 +1333,58 @@ public class JmsConfiguration implements Cloneable {
     public void setAllowNullBody(boolean allowNullBody) {
         this.allowNullBody = allowNullBody;
     }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of messages to consume or send in a single transacted JMS session.
+     * <p/>
+     * By default this is <tt>0</tt> which means batching is disabled. If configured with a positive value
+     * then the {@link BatchJmsMessageListenerContainer} receives up to this number of messages and commits them at once, and
+     * the {@link JmsBatchProducer} groups concurrent <tt>InOnly</tt> sends and commits them at once.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * Sets the maximum time in millis to wait for a batch to fill up before it is processed anyway.
+     * <p/>
+     * By default this is <tt>1000</tt> millis.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    /**
+     * Validates the batch options, as a batch is committed using a local transacted session
+     * and therefore cannot be used together with an external transaction manager.
+     */
+    public void checkBatchOptions() {
+        if (batchSize > 0 && transactionManager != null) {
+            throw new IllegalArgumentException("The batchSize option cannot be used together with a transactionManager,"
+                    + " as the batch is committed using a local transacted session");
+        }
+    }
+
+    public boolean isBatchGroupExchanges() {
+        return batchGroupExchanges;
+    }
+
+    /**
+     * Whether the {@link BatchJmsMessageListenerContainer} should emit the consumed batch as a single grouped
+     * {@link org.apache.camel.Exchange} holding the messages as a {@link java.util.List} in the
+     * {@link org.apache.camel.Exchange#GROUPED_EXCHANGE} property.
+     * <p/>
+     * By default this is <tt>false</tt> which means the messages are emitted one by one in sequence.
+     */
+    public void setBatchGroupExchanges(boolean batchGroupExchanges) {
+        this.batchGroupExchanges = batchGroupExchanges;
+    }
 }
@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.ExceptionListener;
@@ -39,7 +42,9 @@ import org.apache.camel.Producer;
 import org.apache.camel.Service;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.component.jms.reply.ReplyManager;
 import org.apache.camel.impl.DefaultEndpoint;
 import org.apache.camel.impl.DefaultExchange;
 import org.apache.camel.impl.SynchronousDelegateProducer;
@@ -75,6 +80,8 @@ public class JmsEndpoint extends DefaultEndpoint implements HeaderFilterStrategy
     private String selector;
     private JmsConfiguration configuration;
     private final AtomicBoolean running = new AtomicBoolean();
+    private final Set<ReplyManager> replyManagers = new CopyOnWriteArraySet<ReplyManager>();
+    private final AtomicLong replyTimeouts = new AtomicLong();
 
     public JmsEndpoint() {
         this(null, null);
@@ -140,7 +147,7 @@ public class JmsEndpoint extends DefaultEndpoint implements HeaderFilterStrategy
     }
 
     public Producer createProducer() throws Exception {
-        Producer answer = new JmsProducer(this);
+        Producer answer = getBatchSize() > 0 ? new JmsBatchProducer(this) : new JmsProducer(this);
         if (isSynchronous()) {
             return new SynchronousDelegateProducer(answer);
         } else {
@@ -1041,6 +1048,36 @@ public class JmsEndpoint extends DefaultEndpoint implements HeaderFilterStrategy
         configuration.setAllowNullBody(allowNullBody);
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return configuration.getBatchSize();
+    }
+
+    @ManagedAttribute
+    public void setBatchSize(int batchSize) {
+        configuration.setBatchSize(batchSize);
+    }
+
+    @ManagedAttribute
+    public long getBatchTimeout() {
+        return configuration.getBatchTimeout();
+    }
+
+    @ManagedAttribute
+    public void setBatchTimeout(long batchTimeout) {
+        configuration.setBatchTimeout(batchTimeout);
+    }
+
+    @ManagedAttribute
+    public boolean isBatchGroupExchanges() {
+        return configuration.isBatchGroupExchanges();
+    }
+
+    @ManagedAttribute
+    public void setBatchGroupExchanges(boolean batchGroupExchanges) {
+        configuration.setBatchGroupExchanges(batchGroupExchanges);
+    }
+
     @ManagedAttribute
     public String getReplyToType() {
         if (configuration.getReplyToType() != null) {
@@ -1056,6 +1093,25 @@ public class JmsEndpoint extends DefaultEndpoint implements HeaderFilterStrategy
         configuration.setReplyToType(type);
     }
 
+    @ManagedAttribute(description = "Number of request/reply exchanges currently waiting for a reply message")
+    public int getPendingReplies() {
+        int answer = 0;
+        for (ReplyManager replyManager : replyManagers) {
+            answer += replyManager.getPendingReplies();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of request/reply exchanges which timed out waiting for a reply message")
+    public long getTotalReplyTimeouts() {
+        return replyTimeouts.get();
+    }
+
+    @ManagedOperation(description = "Reset the request/reply timeout counter")
+    public void resetReplyTimeouts() {
+        replyTimeouts.set(0);
+    }
+
     @ManagedAttribute(description = "Camel id")
     public String getCamelId() {
         return getCamelContext().getName();
@@ -1080,6 +1136,25 @@ public class JmsEndpoint extends DefaultEndpoint implements HeaderFilterStrategy
     // Implementation methods
     //-------------------------------------------------------------------------
 
+    /**
+     * Registers a {@link ReplyManager} in use by a producer of this endpoint, so its
+     * statistics is included in the endpoint statistics.
+     */
+    void addReplyManager(ReplyManager replyManager) {
+        replyManagers.add(replyManager);
+    }
+
+    void removeReplyManager(ReplyManager replyManager) {
+        replyManagers.remove(replyManager);
+    }
+
+    /**
+     * Callback when a request/reply exchange timed out waiting for the reply message.
+     */
+    public void onReplyTimeout() {
+        replyTimeouts.incrementAndGet();
+    }
+
     @Override
     protected String createEndpointUri() {
         String scheme = "jms";
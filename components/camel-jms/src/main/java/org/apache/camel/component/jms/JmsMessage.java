@@ -237,6 +237,12 @@ public class JmsMessage extends DefaultMessage {
         }
     }
 
+    @Override
+    protected boolean isMessageIdGenerated() {
+        // the message id is the JMSMessageID when we have a JMS message
+        return jmsMessage == null;
+    }
+
     @Override
     protected Boolean isTransactedRedelivered() {
         if (jmsMessage != null) {
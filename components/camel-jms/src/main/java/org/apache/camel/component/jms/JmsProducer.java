@@ -97,6 +97,7 @@ public class JmsProducer extends DefaultAsyncProducer {
                 } catch (Exception e) {
                     throw new FailedToCreateProducerException(endpoint, e);
                 }
+                endpoint.addReplyManager(replyManager);
                 started.set(true);
             }
         }
@@ -104,6 +105,9 @@ public class JmsProducer extends DefaultAsyncProducer {
 
     protected void unInitReplyManager() {
         try {
+            if (replyManager != null) {
+                endpoint.removeReplyManager(replyManager);
+            }
             ServiceHelper.stopService(replyManager);
         } catch (Exception e) {
             throw ObjectHelper.wrapRuntimeCamelException(e);
@@ -349,6 +353,21 @@ public class JmsProducer extends DefaultAsyncProducer {
             }
         };
 
+        return doSendInOnly(exchange, callback, destinationName, destination, messageCreator);
+    }
+
+    /**
+     * Sends the InOnly message.
+     *
+     * @param exchange        the exchange
+     * @param callback        the callback
+     * @param destinationName the destination name
+     * @param destination     the destination (if no name provided)
+     * @param messageCreator  the creator to create the {@link Message} to send
+     * @return <tt>true</tt> if the exchange was sent synchronously, <tt>false</tt> if it will be completed asynchronously
+     */
+    protected boolean doSendInOnly(Exchange exchange, AsyncCallback callback, String destinationName, Destination destination,
+                                   MessageCreator messageCreator) {
         doSend(false, destinationName, destination, messageCreator, null);
 
         // after sending then set the OUT message id to the JMSMessageID so its identical
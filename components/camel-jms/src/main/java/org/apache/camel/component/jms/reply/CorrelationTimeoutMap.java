@@ -16,23 +16,62 @@
  */
 package org.apache.camel.component.jms.reply;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A {@link org.apache.camel.TimeoutMap} which is used to track reply messages which
  * has been timed out, and thus should trigger the waiting {@link org.apache.camel.Exchange} to
  * timeout as well.
+ * <p/>
+ * The correlation ids are kept in a {@link ConcurrentMap} so adding, looking up and removing
+ * correlation ids do not require any locking. The timeouts are tracked using a hashed timing wheel,
+ * which is advanced by a background task every <tt>requestMapPollTimeMillis</tt>. The background task
+ * only visits the entries which are due in the current tick, instead of scanning all the entries,
+ * which allows tracking a very large number of concurrent request/reply exchanges.
  *
- * @version 
+ * @version
  */
-public class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
+public class CorrelationTimeoutMap extends ServiceSupport implements TimeoutMap<String, ReplyHandler>, Runnable {
 
+    private static final int WHEEL_SIZE = 512;
+
+    protected final transient Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentMap<String, CorrelationEntry> map = new ConcurrentHashMap<String, CorrelationEntry>();
+    private final Queue<CorrelationEntry> pending = new ConcurrentLinkedQueue<CorrelationEntry>();
+    private final List<List<CorrelationEntry>> wheel = new ArrayList<List<CorrelationEntry>>(WHEEL_SIZE);
+    private final ScheduledExecutorService executor;
+    private final long tickDuration;
+    private final long startTime;
+    private long tick;
+    private ScheduledFuture<?> future;
     private CorrelationListener listener;
 
     public CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-        super(executor, requestMapPollTimeMillis);
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        this.executor = executor;
+        this.tickDuration = requestMapPollTimeMillis > 0 ? requestMapPollTimeMillis : 1000;
+        this.startTime = currentTime();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new LinkedList<CorrelationEntry>());
+        }
     }
 
     public void setListener(CorrelationListener listener) {
@@ -40,6 +79,53 @@ public class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandle
         this.listener = listener;
     }
 
+    public ReplyHandler get(String key) {
+        CorrelationEntry entry = map.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    public Object[] getKeys() {
+        Set<String> keys = map.keySet();
+        return keys.toArray(new Object[keys.size()]);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public void put(String key, ReplyHandler value, long timeoutMillis) {
+        try {
+            if (listener != null) {
+                listener.onPut(key);
+            }
+        } catch (Throwable e) {
+            // ignore
+        }
+
+        CorrelationEntry entry = new CorrelationEntry(key, value, timeoutMillis > 0 ? currentTime() + timeoutMillis : 0);
+        map.put(key, entry);
+        if (timeoutMillis > 0) {
+            // the background task will schedule the entry on the wheel
+            pending.add(entry);
+        }
+        log.trace("Added correlationID: {} to timeout after: {} millis", key, timeoutMillis);
+    }
+
+    public ReplyHandler remove(String key) {
+        try {
+            if (listener != null) {
+                listener.onRemove(key);
+            }
+        } catch (Throwable e) {
+            // ignore
+        }
+
+        // the entry is lazy removed from the wheel when its tick is due
+        CorrelationEntry entry = map.remove(key);
+        log.trace("Removed correlationID: {} -> {}", key, entry != null);
+        return entry != null ? entry.value : null;
+    }
+
     public boolean onEviction(String key, ReplyHandler value) {
         try {
             if (listener != null) {
@@ -51,43 +137,113 @@ public class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandle
 
         // trigger timeout
         value.onTimeout(key);
-        // return true to remove the element
         log.trace("Evicted correlationID: {}", key);
         return true;
     }
 
-    @Override
-    public void put(String key, ReplyHandler value, long timeoutMillis) {
+    /**
+     * The timer task which advances the timing wheel and evicts the timed out entries
+     */
+    public void run() {
+        // only run if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
         try {
-            if (listener != null) {
-                listener.onPut(key);
+            purge();
+        } catch (Throwable t) {
+            // must catch and log exception otherwise the executor will now schedule next run
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    public synchronized void purge() {
+        long now = currentTime();
+
+        // schedule the new entries on the wheel
+        CorrelationEntry entry;
+        while ((entry = pending.poll()) != null) {
+            if (map.get(entry.key) != entry) {
+                // already removed
+                continue;
             }
-        } catch (Throwable e) {
-            // ignore
+            // the first tick at or after the deadline, and never a tick which has already passed
+            long due = Math.max((entry.deadline - startTime + tickDuration - 1) / tickDuration, tick);
+            entry.rounds = (due - tick) / WHEEL_SIZE;
+            wheel.get((int) (due % WHEEL_SIZE)).add(entry);
         }
 
-        if (timeoutMillis <= 0) {
-            // no timeout (must use Integer.MAX_VALUE)
-            super.put(key, value, Integer.MAX_VALUE);
-        } else {
-            super.put(key, value, timeoutMillis);
+        // advance the wheel up till now
+        long until = (now - startTime) / tickDuration;
+        while (tick <= until) {
+            expireBucket(wheel.get((int) (tick % WHEEL_SIZE)), now);
+            tick++;
+        }
+    }
+
+    private void expireBucket(List<CorrelationEntry> bucket, long now) {
+        Iterator<CorrelationEntry> it = bucket.iterator();
+        while (it.hasNext()) {
+            CorrelationEntry entry = it.next();
+            if (map.get(entry.key) != entry) {
+                // already removed (reply received) so just discard it
+                it.remove();
+            } else if (entry.rounds > 0) {
+                entry.rounds--;
+            } else if (entry.deadline <= now) {
+                it.remove();
+                // only evict if the entry has not been removed concurrently
+                if (map.remove(entry.key, entry)) {
+                    log.debug("Evicting inactive correlationID: {}", entry.key);
+                    onEviction(entry.key, entry.value);
+                }
+            }
         }
-        log.trace("Added correlationID: {} to timeout after: {} millis", key, timeoutMillis);
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
     }
 
     @Override
-    public ReplyHandler remove(String key) {
-        try {
-            if (listener != null) {
-                listener.onRemove(key);
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        if (future == null) {
+            future = executor.scheduleWithFixedDelay(this, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        map.clear();
+        pending.clear();
+        synchronized (this) {
+            for (List<CorrelationEntry> bucket : wheel) {
+                bucket.clear();
             }
-        } catch (Throwable e) {
-            // ignore
         }
+    }
 
-        ReplyHandler answer = super.remove(key);
-        log.trace("Removed correlationID: {} -> {}", key, answer != null);
-        return answer;
+    private static final class CorrelationEntry {
+        private final String key;
+        private final ReplyHandler value;
+        private final long deadline;
+        private long rounds;
+
+        private CorrelationEntry(String key, ReplyHandler value, long deadline) {
+            this.key = key;
+            this.value = value;
+            this.deadline = deadline;
+        }
     }
 
 }
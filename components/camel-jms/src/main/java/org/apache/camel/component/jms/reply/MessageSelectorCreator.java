@@ -16,7 +16,10 @@
  */
 package org.apache.camel.component.jms.reply;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,13 +27,22 @@ import org.slf4j.LoggerFactory;
 /**
  * A creator which can build the JMS message selector query string to use
  * with a shared persistent reply-to queue, so we can select the correct messages we expect as replies.
+ * <p/>
+ * The selector is built incrementally, so new correlation ids are appended to the existing
+ * selector. Correlation ids which have been removed are left in the selector (selecting a reply
+ * which is no longer expected is harmless) until they outnumber the active ids, and only then
+ * the selector is rebuilt from scratch.
  */
 public class MessageSelectorCreator implements CorrelationListener {
     protected static final Logger LOG = LoggerFactory.getLogger(MessageSelectorCreator.class);
     protected final CorrelationTimeoutMap timeoutMap;
     protected final ConcurrentSkipListSet<String> correlationIds;
+    protected final Queue<String> added = new ConcurrentLinkedQueue<String>();
+    protected final AtomicInteger removed = new AtomicInteger();
     protected boolean dirty = true;
     protected StringBuilder expression;
+    protected int expressionSize;
+    protected String selector;
 
     public MessageSelectorCreator(CorrelationTimeoutMap timeoutMap) {
         this.timeoutMap = timeoutMap;
@@ -42,46 +54,64 @@ public class MessageSelectorCreator implements CorrelationListener {
     }
 
     public synchronized String get() {
-        if (!dirty) {
-            return expression.toString();
+        if (dirty || removed.get() > correlationIds.size()) {
+            rebuild();
+        } else {
+            String id;
+            while ((id = added.poll()) != null) {
+                append(id);
+            }
+            if (expressionSize > 0) {
+                selector = expression.toString();
+            }
         }
+        return selector;
+    }
 
-        expression = new StringBuilder("JMSCorrelationID='");
+    private void rebuild() {
+        // clear the changes before we iterate the ids, as any id added concurrently is
+        // then either included or appended on next call
+        dirty = false;
+        added.clear();
+        removed.set(0);
+
+        expression = new StringBuilder();
+        expressionSize = 0;
+        for (String value : correlationIds) {
+            append(value);
+        }
 
-        if (correlationIds.size() == 0) {
+        if (expressionSize == 0) {
             // no id's so use a dummy to select nothing
-            expression.append("CamelDummyJmsMessageSelector'");
+            selector = "JMSCorrelationID='CamelDummyJmsMessageSelector'";
         } else {
-            boolean first = true;
-            for (String value : correlationIds) {
-                if (!first) {
-                    expression.append(" OR JMSCorrelationID='");
-                }
-                expression.append(value).append("'");
-                if (first) {
-                    first = false;
-                }
-            }
+            selector = expression.toString();
         }
+        LOG.trace("Rebuilt message selector with {} correlation ids", expressionSize);
+    }
 
-        String answer = expression.toString();
-
-        dirty = false;
-        return answer;
+    private void append(String value) {
+        if (expressionSize > 0) {
+            expression.append(" OR ");
+        }
+        expression.append("JMSCorrelationID='").append(value).append("'");
+        expressionSize++;
     }
 
     public void onPut(String key) {
-        dirty = true;
         correlationIds.add(key);
+        added.add(key);
     }
 
     public void onRemove(String key) {
-        dirty = true;
-        correlationIds.remove(key);
+        if (correlationIds.remove(key)) {
+            removed.incrementAndGet();
+        }
     }
 
     public void onEviction(String key) {
-        dirty = true;
-        correlationIds.remove(key);
+        if (correlationIds.remove(key)) {
+            removed.incrementAndGet();
+        }
     }
-}
\ No newline at end of file
+}
@@ -95,4 +95,9 @@ public interface ReplyManager extends MessageListener {
      * @param holder  containing needed data to process the reply and continue routing
      */
     void processReply(ReplyHolder holder);
+
+    /**
+     * Gets the number of request/reply exchanges currently waiting for a reply message
+     */
+    int getPendingReplies();
 }
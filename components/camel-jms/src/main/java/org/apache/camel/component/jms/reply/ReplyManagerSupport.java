@@ -113,6 +113,10 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         handleReplyMessage(correlationID, message);
     }
 
+    public int getPendingReplies() {
+        return correlation != null ? correlation.size() : 0;
+    }
+
     public void processReply(ReplyHolder holder) {
         if (holder != null && isRunAllowed()) {
             try {
@@ -121,6 +125,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
 
                 boolean timeout = holder.isTimeout();
                 if (timeout) {
+                    endpoint.onReplyTimeout();
                     // timeout occurred do a WARN log so its easier to spot in the logs
                     if (log.isWarnEnabled()) {
                         log.warn("Timeout occurred after {} millis waiting for reply message with correlationID [{}]."
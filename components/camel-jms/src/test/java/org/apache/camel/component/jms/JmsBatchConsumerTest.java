@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.List;
+import javax.jms.ConnectionFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+/**
+ * @version
+ */
+public class JmsBatchConsumerTest extends CamelTestSupport {
+
+    @Test
+    public void testBatchConsumeInSequence() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:sequence");
+        mock.expectedMessageCount(10);
+        mock.allMessages().property(Exchange.BATCH_SIZE).isNotNull();
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("activemq:queue:sequence", "Message " + i);
+        }
+        context.startRoute("sequence");
+
+        assertMockEndpointsSatisfied();
+
+        Exchange first = mock.getReceivedExchanges().get(0);
+        assertEquals(0, first.getProperty(Exchange.BATCH_INDEX));
+        assertEquals(5, first.getProperty(Exchange.BATCH_SIZE));
+        Exchange last = mock.getReceivedExchanges().get(4);
+        assertEquals(Boolean.TRUE, last.getProperty(Exchange.BATCH_COMPLETE));
+    }
+
+    @Test
+    public void testBatchConsumeGrouped() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(2);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("activemq:queue:grouped", "Message " + i);
+        }
+        context.startRoute("grouped");
+
+        assertMockEndpointsSatisfied();
+
+        int total = 0;
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            List<?> grouped = exchange.getProperty(Exchange.GROUPED_EXCHANGE, List.class);
+            assertNotNull(grouped);
+            total += grouped.size();
+        }
+        assertEquals(10, total);
+
+        List<?> grouped = mock.getReceivedExchanges().get(0).getProperty(Exchange.GROUPED_EXCHANGE, List.class);
+        assertEquals("Message 0", ((Exchange) grouped.get(0)).getIn().getBody());
+    }
+
+    @Test
+    public void testBatchConsumeRollback() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:rollback");
+        // the first attempt of the batch fails and is rolled back, and then the entire batch is redelivered
+        mock.expectedMessageCount(6);
+        mock.message(5).header("JMSRedelivered").isEqualTo(true);
+
+        for (int i = 0; i < 3; i++) {
+            template.sendBody("activemq:queue:rollback", "Message " + i);
+        }
+        context.startRoute("rollback");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("activemq:queue:sequence?transacted=true&batchSize=5&batchTimeout=2000").routeId("sequence").noAutoStartup()
+                    .to("mock:sequence");
+
+                from("activemq:queue:grouped?transacted=true&batchSize=5&batchTimeout=2000&batchGroupExchanges=true")
+                    .routeId("grouped").noAutoStartup()
+                    .to("mock:grouped");
+
+                from("activemq:queue:rollback?transacted=true&batchSize=3&batchTimeout=2000").routeId("rollback").noAutoStartup()
+                    .errorHandler(noErrorHandler())
+                    .to("mock:rollback")
+                    .filter(simple("${body} == 'Message 2' && ${header.JMSRedelivered} == false"))
+                        .throwException(new IllegalArgumentException("Forced"));
+            }
+        };
+    }
+}
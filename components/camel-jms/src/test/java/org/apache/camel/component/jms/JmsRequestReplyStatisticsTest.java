@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import javax.jms.ConnectionFactory;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+import static org.apache.camel.component.jms.JmsComponent.jmsComponentAutoAcknowledge;
+
+/**
+ * Unit test for the request/reply statistics on the JMS endpoint.
+ */
+public class JmsRequestReplyStatisticsTest extends CamelTestSupport {
+
+    @Test
+    public void testTimeoutStatistics() throws Exception {
+        JmsEndpoint endpoint = context.getEndpoint("activemq:queue:slow?requestTimeout=500&requestTimeoutCheckerInterval=100", JmsEndpoint.class);
+
+        try {
+            template.requestBody(endpoint, "Hello World");
+            fail("Should have timed out with an exception");
+        } catch (RuntimeCamelException e) {
+            assertTrue("Should have timed out with an exception", e.getCause() instanceof ExchangeTimedOutException);
+        }
+
+        assertEquals(1, endpoint.getTotalReplyTimeouts());
+        assertEquals(0, endpoint.getPendingReplies());
+
+        endpoint.resetReplyTimeouts();
+        assertEquals(0, endpoint.getTotalReplyTimeouts());
+    }
+
+    @Test
+    public void testSharedReplyToStatistics() throws Exception {
+        JmsEndpoint endpoint = context.getEndpoint("activemq:queue:fast?replyTo=queue:bar&replyToType=Shared", JmsEndpoint.class);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Bye " + i, template.requestBody(endpoint, "" + i));
+        }
+
+        assertEquals(0, endpoint.getTotalReplyTimeouts());
+        // the correlation id is removed just after the reply has been handed over
+        for (int i = 0; i < 50 && endpoint.getPendingReplies() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, endpoint.getPendingReplies());
+    }
+
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+
+        ConnectionFactory connectionFactory = CamelJmsTestHelper.createConnectionFactory();
+        camelContext.addComponent("activemq", jmsComponentAutoAcknowledge(connectionFactory));
+
+        return camelContext;
+    }
+
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("activemq:queue:slow").delay(2000).transform(constant("Bye World"));
+
+                from("activemq:queue:fast").transform(body().prepend("Bye "));
+            }
+        };
+    }
+}
@@ -16,7 +16,9 @@
  */
 package org.apache.camel.component.lucene;
 
+import java.io.File;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.camel.CamelContext;
@@ -24,24 +26,84 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.impl.DefaultComponent;
 
 public class LuceneComponent extends DefaultComponent {
-    LuceneConfiguration config;
+    // the indexers by index directory, which are shared as only one index writer can be open per index directory,
+    // and so the query producers can use near-real-time searches
+    private final Map<String, IndexerReference> indexers = new HashMap<String, IndexerReference>();
     
     public LuceneComponent() {
-        config = new LuceneConfiguration();
     }
 
     public LuceneComponent(CamelContext context) {
         super(context);
-        config = new LuceneConfiguration();
     }
     
     @Override
     protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters)
         throws Exception {
-        config.parseURI(new URI(uri), parameters, this);
-        LuceneEndpoint luceneEndpoint = new LuceneEndpoint(uri, this, config);
+        // each endpoint has its own configuration, as the indexers are configured when the producers are started
+        LuceneConfiguration endpointConfig = new LuceneConfiguration();
+        endpointConfig.parseURI(new URI(uri), parameters, this);
+        LuceneEndpoint luceneEndpoint = new LuceneEndpoint(uri, this, endpointConfig);
         setProperties(luceneEndpoint.getConfig(), parameters);
         return luceneEndpoint;
     }
 
+    /**
+     * Acquires the indexer which indexes into the index directory of the configuration, which is created if
+     * this is the first user of the index directory. The indexer must be released using {@link #releaseIndexer(LuceneIndexer)}.
+     * <p/>
+     * The indexer is shared by all the users of the same index directory, and is therefore configured by the first user.
+     */
+    synchronized LuceneIndexer acquireIndexer(LuceneConfiguration config) throws Exception {
+        String key = getIndexDirectoryKey(config.getIndexDirectory());
+        IndexerReference reference = indexers.get(key);
+        if (reference == null) {
+            LuceneIndexer indexer = new LuceneIndexer(config.getSourceDirectory(), config.getIndexDirectory(), config.getAnalyzer());
+            indexer.setCommitSize(config.getCommitSize());
+            indexer.setCommitInterval(config.getCommitInterval());
+            reference = new IndexerReference(indexer);
+            indexers.put(key, reference);
+        }
+        reference.count++;
+        return reference.indexer;
+    }
+
+    /**
+     * Releases the indexer, which is closed when it has no more users.
+     */
+    synchronized void releaseIndexer(LuceneIndexer indexer) throws Exception {
+        for (Map.Entry<String, IndexerReference> entry : indexers.entrySet()) {
+            IndexerReference reference = entry.getValue();
+            if (reference.indexer == indexer) {
+                if (--reference.count <= 0) {
+                    indexers.remove(entry.getKey());
+                    // commit any pending changes and close the writer
+                    indexer.close();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the indexer which indexes into the given index directory, if any
+     */
+    synchronized LuceneIndexer getIndexer(File indexDirectory) {
+        IndexerReference reference = indexers.get(getIndexDirectoryKey(indexDirectory));
+        return reference != null ? reference.indexer : null;
+    }
+
+    private static String getIndexDirectoryKey(File indexDirectory) {
+        return (indexDirectory != null ? indexDirectory : new File("./indexDirectory")).getAbsolutePath();
+    }
+
+    private static final class IndexerReference {
+        private final LuceneIndexer indexer;
+        private int count;
+
+        private IndexerReference(LuceneIndexer indexer) {
+            this.indexer = indexer;
+        }
+    }
+
 }
@@ -35,6 +35,8 @@ public class LuceneConfiguration {
     private File indexDirectory;
     private Analyzer analyzer;
     private int maxHits;
+    private int commitSize;
+    private long commitInterval;
     private Version luceneVersion = Version.LUCENE_35; 
 
     public LuceneConfiguration() {
@@ -68,6 +70,8 @@ public class LuceneConfiguration {
                 parameters, "analyzer", Analyzer.class, new StandardAnalyzer(luceneVersion));
 
         setMaxHits(component.getAndRemoveParameter(parameters, "maxHits", Integer.class, 10));
+        setCommitSize(component.getAndRemoveParameter(parameters, "commitSize", Integer.class, 1));
+        setCommitInterval(component.getAndRemoveParameter(parameters, "commitInterval", Long.class, 0L));
     }
     
     private boolean isValidAuthority() throws URISyntaxException {
@@ -163,6 +167,22 @@ public class LuceneConfiguration {
         this.maxHits = maxHits;
     }
     
+    public int getCommitSize() {
+        return commitSize;
+    }
+
+    public void setCommitSize(int commitSize) {
+        this.commitSize = commitSize;
+    }
+
+    public long getCommitInterval() {
+        return commitInterval;
+    }
+
+    public void setCommitInterval(long commitInterval) {
+        this.commitInterval = commitInterval;
+    }
+
     public void setLuceneVersion(Version luceneVersion) {
         this.luceneVersion = luceneVersion;
     }
@@ -25,7 +25,6 @@ import org.apache.camel.impl.DefaultEndpoint;
 
 public class LuceneEndpoint extends DefaultEndpoint {
     LuceneConfiguration config;
-    LuceneIndexer indexer;
     boolean insertFlag;
 
     public LuceneEndpoint() {
@@ -49,7 +48,6 @@ public class LuceneEndpoint extends DefaultEndpoint {
         this(endpointUri, component);
         this.config = config;
         if (config.getOperation().equalsIgnoreCase("insert")) {
-            this.indexer = new LuceneIndexer(config.getSourceDirectory(), config.getIndexDirectory(), config.getAnalyzer());  
             insertFlag = true;
         }
     }
@@ -62,7 +60,8 @@ public class LuceneEndpoint extends DefaultEndpoint {
         if (!insertFlag) {
             return new LuceneQueryProducer(this, this.config);
         }
-        return new LuceneIndexProducer(this, this.config, indexer);
+        // the indexer is acquired from the component when the producer is started
+        return new LuceneIndexProducer(this, this.config, null);
     }
     
     public LuceneConfiguration getConfig() {
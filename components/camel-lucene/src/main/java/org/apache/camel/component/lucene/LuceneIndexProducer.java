@@ -16,6 +16,9 @@
  */
 package org.apache.camel.component.lucene;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultProducer;
@@ -23,6 +26,9 @@ import org.apache.camel.impl.DefaultProducer;
 public class LuceneIndexProducer extends DefaultProducer {
     LuceneConfiguration config;
     LuceneIndexer indexer;
+    ScheduledExecutorService committer;
+    // whether the indexer was acquired from the component, and must be released when stopping
+    boolean acquired;
     
     public LuceneIndexProducer(Endpoint endpoint, LuceneConfiguration config, LuceneIndexer indexer) throws Exception {
         super(endpoint);
@@ -30,12 +36,45 @@ public class LuceneIndexProducer extends DefaultProducer {
         this.indexer = indexer;
     }
     
-    public void start() throws Exception {
+    @Override
+    protected void doStart() throws Exception {
         super.doStart();
+        if (indexer == null) {
+            // share the indexer with the other producers indexing into the same index directory
+            indexer = getLuceneComponent().acquireIndexer(config);
+            acquired = true;
+        }
+        long interval = indexer.getCommitInterval();
+        if (interval > 0 && committer == null) {
+            committer = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "LuceneCommitter");
+            committer.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    try {
+                        indexer.commitIfNecessary();
+                    } catch (Throwable e) {
+                        log.warn("Error committing index. This exception will be ignored.", e);
+                    }
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
     }
 
-    public void stop() throws Exception {
-        this.indexer.getNiofsDirectory().close();
+    @Override
+    protected void doStop() throws Exception {
+        if (committer != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(committer);
+            committer = null;
+        }
+        if (acquired) {
+            // the indexer is closed when its last user is stopped
+            getLuceneComponent().releaseIndexer(indexer);
+            indexer = null;
+            acquired = false;
+        } else if (indexer != null) {
+            // commit any pending changes and close the writer
+            indexer.close();
+        }
         super.doStop();
     }
 
@@ -43,6 +82,10 @@ public class LuceneIndexProducer extends DefaultProducer {
         indexer.index(exchange);
     }
 
+    private LuceneComponent getLuceneComponent() {
+        return (LuceneComponent) ((LuceneEndpoint) getEndpoint()).getComponent();
+    }
+
     public LuceneConfiguration getConfig() {
         return config;
     }
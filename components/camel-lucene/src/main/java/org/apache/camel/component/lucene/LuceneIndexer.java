@@ -20,28 +20,50 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.converter.IOConverter;
+import org.apache.camel.processor.lucene.support.Hits;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.NIOFSDirectory;
 import org.apache.lucene.util.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Indexes into a Lucene index using a long-lived {@link IndexWriter}.
+ * <p/>
+ * The changes are committed as a group when <tt>commitSize</tt> exchanges has been indexed since the last
+ * commit, and/or by calling {@link #commitIfNecessary()} periodically. The indexed exchanges can be searched
+ * before they have been committed using {@link #search(String, int, Version)}, which uses a near-real-time
+ * searcher on the open index writer.
+ */
 public class LuceneIndexer {
     private static final transient Logger LOG = LoggerFactory.getLogger(LuceneIndexer.class);
     private File sourceDirectory;
     private Analyzer analyzer;
     private NIOFSDirectory niofsDirectory;
     private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
     private boolean sourceDirectoryIndexed;
     private boolean indexCreated;
+    private int commitSize = 1;
+    private long commitInterval;
+    private final AtomicInteger uncommitted = new AtomicInteger();
+    // indexing and searching use the read lock, and closing uses the write lock, so the index writer
+    // is not closed while in use
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object commitLock = new Object();
+    private boolean closed;
     
     public LuceneIndexer(File sourceDirectory, File indexDirectory, Analyzer analyzer)  throws Exception {
         if (indexDirectory != null) {
@@ -64,17 +86,125 @@ public class LuceneIndexer {
 
     public void index(Exchange exchange) throws Exception {
         LOG.debug("Indexing {}", exchange);
-        openIndexWriter();
-        Map<String, Object> headers = exchange.getIn().getHeaders();
-        add("exchangeId", exchange.getExchangeId(), true);
-        for (Entry<String, Object> entry : headers.entrySet()) {
-            String field = entry.getKey();
-            String value = exchange.getContext().getTypeConverter().convertTo(String.class, entry.getValue());
-            add(field, value, true);
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Cannot index as the indexer is closed: " + niofsDirectory);
+            }
+            openIndexWriter();
+            Map<String, Object> headers = exchange.getIn().getHeaders();
+            add("exchangeId", exchange.getExchangeId(), true);
+            for (Entry<String, Object> entry : headers.entrySet()) {
+                String field = entry.getKey();
+                String value = exchange.getContext().getTypeConverter().convertTo(String.class, entry.getValue());
+                add(field, value, true);
+            }
+
+            add("contents", exchange.getIn().getMandatoryBody(String.class), true);
+
+            int count = uncommitted.incrementAndGet();
+            if (commitSize > 0 && count >= commitSize) {
+                commit();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Commits the changes if any exchanges has been indexed since the last commit.
+     */
+    public void commitIfNecessary() throws IOException {
+        lock.readLock().lock();
+        try {
+            if (!closed && indexWriter != null && uncommitted.get() > 0) {
+                commit();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Commits the changes, and closes the index writer and the index directory.
+     */
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (searcherManager != null) {
+                searcherManager.close();
+                searcherManager = null;
+            }
+            if (indexWriter != null) {
+                LOG.debug("Closing index writer");
+                closeIndexWriter();
+                indexWriter = null;
+            }
+            uncommitted.set(0);
+            niofsDirectory.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the indexed exchanges using a near-real-time searcher on the open index writer, which
+     * includes the exchanges which has not yet been committed.
+     *
+     * @return the hits, or <tt>null</tt> if the index writer is not open, and the index directory should
+     *         be searched instead
+     */
+    public Hits search(String searchPhrase, int maxNumberOfHits, Version luceneVersion) throws Exception {
+        lock.readLock().lock();
+        try {
+            SearcherManager manager = getSearcherManager();
+            if (manager == null) {
+                return null;
+            }
+            return LuceneSearcher.search(manager, analyzer, searchPhrase, maxNumberOfHits, luceneVersion);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private synchronized SearcherManager getSearcherManager() throws IOException {
+        // never open an index writer for searching
+        if (closed || indexWriter == null) {
+            return null;
         }
+        if (searcherManager == null) {
+            searcherManager = new SearcherManager(indexWriter, true, null);
+        }
+        return searcherManager;
+    }
+
+    public int getCommitSize() {
+        return commitSize;
+    }
+
+    /**
+     * Sets the number of exchanges to index before the changes are committed.
+     * Is default <tt>1</tt> which commits after each exchange. Use <tt>0</tt> to only commit
+     * when {@link #commitIfNecessary()} is called.
+     */
+    public void setCommitSize(int commitSize) {
+        this.commitSize = commitSize;
+    }
+
+    public long getCommitInterval() {
+        return commitInterval;
+    }
 
-        add("contents", exchange.getIn().getMandatoryBody(String.class), true);
-        closeIndexWriter();
+    /**
+     * Sets the interval in millis at which the changes are committed, if any exchanges has been indexed.
+     * Is default <tt>0</tt> which means not to commit based on time.
+     */
+    public void setCommitInterval(long commitInterval) {
+        this.commitInterval = commitInterval;
     }
 
     public NIOFSDirectory getNiofsDirectory() {
@@ -132,7 +262,7 @@ public class LuceneIndexer {
                 openIndexWriter();
                 add("path", file.getPath(), false);
                 add("contents", new String(IOConverter.toByteArray(file)), true);
-                closeIndexWriter();
+                indexWriter.commit();
 
                 LOG.trace("Added {} successfully", file);
             }
@@ -142,7 +272,11 @@ public class LuceneIndexer {
         }
     }
 
-    private void openIndexWriter() throws IOException {
+    private synchronized void openIndexWriter() throws IOException {
+        if (indexWriter != null) {
+            // keep using the open index writer
+            return;
+        }
         IndexWriterConfig indexWriterConfig;
         if (!indexCreated) {
             indexWriterConfig = new IndexWriterConfig(Version.LUCENE_35, getAnalyzer()).setOpenMode(OpenMode.CREATE);            
@@ -154,6 +288,21 @@ public class LuceneIndexer {
         indexWriter = new IndexWriter(niofsDirectory, indexWriterConfig);
     }
 
+    private void commit() throws IOException {
+        synchronized (commitLock) {
+            int count = uncommitted.get();
+            if (count <= 0) {
+                // already committed concurrently
+                return;
+            }
+            LOG.trace("Committing {} indexed exchanges", count);
+            indexWriter.commit();
+            // only count down after the commit succeeded, the changes indexed concurrently may also have been
+            // included, which at worst causes an extra commit
+            uncommitted.addAndGet(-count);
+        }
+    }
+
     private void closeIndexWriter() throws IOException {
         indexWriter.commit();
         indexWriter.close();
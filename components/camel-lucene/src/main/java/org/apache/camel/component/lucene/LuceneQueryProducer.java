@@ -23,10 +23,13 @@ import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultProducer;
 import org.apache.camel.processor.lucene.support.Hits;
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.NIOFSDirectory;
 
 public class LuceneQueryProducer extends DefaultProducer {
     LuceneConfiguration config;
-    LuceneSearcher searcher;
+    SearcherManager searcherManager;
+    NIOFSDirectory directory;
     Analyzer analyzer;
     File indexDirectory;
     int maxNumberOfHits;
@@ -39,13 +42,16 @@ public class LuceneQueryProducer extends DefaultProducer {
         maxNumberOfHits = config.getMaxHits();
     }
     
-    public void start() throws Exception {
-        searcher = new LuceneSearcher();
-        super.doStart();
-    }
-
-    public void stop() throws Exception {
-        searcher.close();
+    @Override
+    protected void doStop() throws Exception {
+        if (searcherManager != null) {
+            searcherManager.close();
+            searcherManager = null;
+        }
+        if (directory != null) {
+            directory.close();
+            directory = null;
+        }
         super.doStop();
     }
 
@@ -54,8 +60,12 @@ public class LuceneQueryProducer extends DefaultProducer {
         
         String phrase = exchange.getIn().getHeader("QUERY", String.class);
         if (phrase != null) {
-            searcher.open(indexDirectory, analyzer);
-            hits = searcher.search(phrase, maxNumberOfHits, config.getLuceneVersion());            
+            // search the uncommitted changes if the index directory is being indexed by this component
+            LuceneIndexer indexer = ((LuceneComponent) ((LuceneEndpoint) getEndpoint()).getComponent()).getIndexer(indexDirectory);
+            hits = indexer != null ? indexer.search(phrase, maxNumberOfHits, config.getLuceneVersion()) : null;
+            if (hits == null) {
+                hits = LuceneSearcher.search(getSearcherManager(), analyzer, phrase, maxNumberOfHits, config.getLuceneVersion());
+            }
         } else {
             throw new IllegalArgumentException("SearchPhrase for LucenePhraseQuerySearcher not set. Set the Header value: QUERY");
         }            
@@ -63,6 +73,17 @@ public class LuceneQueryProducer extends DefaultProducer {
         exchange.getIn().setBody(hits);                           
     }
 
+    /**
+     * Gets the searcher manager on the index directory, which only reads the index and never opens an index writer.
+     */
+    protected synchronized SearcherManager getSearcherManager() throws Exception {
+        if (searcherManager == null) {
+            directory = new NIOFSDirectory(indexDirectory != null ? indexDirectory : new File("./indexDirectory"));
+            searcherManager = new SearcherManager(directory, null);
+        }
+        return searcherManager;
+    }
+
     public LuceneConfiguration getConfig() {
         return config;
     }
@@ -29,6 +29,7 @@ import org.apache.lucene.queryParser.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.store.NIOFSDirectory;
 import org.apache.lucene.util.Version;
@@ -39,7 +40,6 @@ public class LuceneSearcher {
     private static final transient Logger LOG = LoggerFactory.getLogger(LuceneSearcher.class);
     private Analyzer analyzer;
     private IndexSearcher indexSearcher; 
-    private ScoreDoc[] hits;
 
     public void open(File indexDirectory, Analyzer analyzer) throws IOException {
         if (indexDirectory != null) {
@@ -59,10 +59,30 @@ public class LuceneSearcher {
     }
 
     public Hits search(String searchPhrase, int maxNumberOfHits, Version luenceVersion) throws Exception {
+        return doSearch(indexSearcher, analyzer, searchPhrase, maxNumberOfHits, luenceVersion);
+    }
+
+    /**
+     * Searches using a searcher acquired from the given {@link SearcherManager}, which is refreshed first
+     * if the index has changed, and then released after the search.
+     */
+    public static Hits search(SearcherManager searcherManager, Analyzer analyzer, String searchPhrase, int maxNumberOfHits,
+                              Version luenceVersion) throws Exception {
+        searcherManager.maybeRefresh();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return doSearch(searcher, analyzer, searchPhrase, maxNumberOfHits, luenceVersion);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private static Hits doSearch(IndexSearcher indexSearcher, Analyzer analyzer, String searchPhrase, int maxNumberOfHits,
+                                 Version luenceVersion) throws ParseException, IOException {
         Hits searchHits = new Hits();
 
-        int numberOfHits = doSearch(searchPhrase, maxNumberOfHits, luenceVersion);
-        searchHits.setNumberOfHits(numberOfHits);
+        ScoreDoc[] hits = collectHits(indexSearcher, analyzer, searchPhrase, maxNumberOfHits, luenceVersion);
+        searchHits.setNumberOfHits(hits.length);
 
         for (ScoreDoc hit : hits) {
             Document selectedDocument = indexSearcher.doc(hit.doc);
@@ -76,16 +96,17 @@ public class LuceneSearcher {
         return searchHits;
     }
                 
-    private int doSearch(String searchPhrase, int maxNumberOfHits, Version luenceVersion) throws NullPointerException, ParseException, IOException {
+    private static ScoreDoc[] collectHits(IndexSearcher indexSearcher, Analyzer analyzer, String searchPhrase, int maxNumberOfHits,
+                                          Version luenceVersion) throws ParseException, IOException {
         LOG.trace("*** Search Phrase: {} ***", searchPhrase);
 
         QueryParser parser = new QueryParser(luenceVersion, "contents", analyzer);
         Query query = parser.parse(searchPhrase);
         TopScoreDocCollector collector = TopScoreDocCollector.create(maxNumberOfHits, true);
         indexSearcher.search(query, collector);
-        hits = collector.topDocs().scoreDocs;
+        ScoreDoc[] hits = collector.topDocs().scoreDocs;
         
         LOG.trace("*** Search generated {} hits ***", hits.length);
-        return hits.length;
+        return hits;
     }
 }
@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.lucene;
+
+import java.io.File;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.processor.lucene.support.Hits;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.lucene.analysis.WhitespaceAnalyzer;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.Version;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LuceneNearRealTimeQueryTest extends CamelTestSupport {
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/nrtindexDir");
+        super.setUp();
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = new JndiRegistry(createJndiContext());
+        registry.bind("nrt", new File("target/nrtindexDir"));
+        registry.bind("whitespaceAnalyzer", new WhitespaceAnalyzer(Version.LUCENE_35));
+        return registry;
+    }
+
+    @Test
+    public void testQueryUncommittedChanges() throws Exception {
+        template.sendBody("direct:insert", "Hello Camel");
+        template.sendBody("direct:insert", "Bye Camel");
+        template.sendBody("direct:insert", "Hello World");
+
+        // the changes is not committed yet
+        assertFalse(IndexReader.indexExists(new NIOFSDirectory(new File("target/nrtindexDir"))));
+
+        // but can be searched
+        Hits hits = template.requestBodyAndHeader("direct:query", null, "QUERY", "Camel", Hits.class);
+        assertEquals(2, hits.getNumberOfHits());
+
+        template.sendBody("direct:insert", "Hi Camel");
+        hits = template.requestBodyAndHeader("direct:query", null, "QUERY", "Camel", Hits.class);
+        assertEquals(3, hits.getNumberOfHits());
+
+        // stopping commits the changes
+        context.stop();
+
+        IndexReader reader = IndexReader.open(new NIOFSDirectory(new File("target/nrtindexDir")));
+        try {
+            // a document per header and body
+            assertTrue(reader.numDocs() >= 4);
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testSharedIndexer() throws Exception {
+        template.sendBody("direct:insert", "Hello Camel");
+        template.sendBody("direct:insert2", "Bye Camel");
+
+        // both endpoints index into the same index directory using the same index writer
+        Hits hits = template.requestBodyAndHeader("direct:query", null, "QUERY", "Camel", Hits.class);
+        assertEquals(2, hits.getNumberOfHits());
+
+        // the indexer is kept open while its used by the other route
+        context.stopRoute("insert2");
+        template.sendBody("direct:insert", "Hi Camel");
+        hits = template.requestBodyAndHeader("direct:query", null, "QUERY", "Camel", Hits.class);
+        assertEquals(3, hits.getNumberOfHits());
+
+        // and closed when the last route is stopped
+        context.stopRoute("insert");
+        assertNull(((LuceneComponent) context.getComponent("lucene")).getIndexer(new File("target/nrtindexDir")));
+
+        // the query side reads the committed index
+        hits = template.requestBodyAndHeader("direct:query", null, "QUERY", "Camel", Hits.class);
+        assertEquals(3, hits.getNumberOfHits());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:insert").routeId("insert")
+                    .to("lucene:nrtIndex:insert?analyzer=#whitespaceAnalyzer&indexDir=#nrt&commitSize=0");
+
+                from("direct:insert2").routeId("insert2")
+                    .to("lucene:nrtIndex2:insert?analyzer=#whitespaceAnalyzer&indexDir=#nrt&commitSize=0");
+
+                from("direct:query")
+                    .to("lucene:nrtIndex:query?analyzer=#whitespaceAnalyzer&indexDir=#nrt&maxHits=20");
+            }
+        };
+    }
+}
@@ -94,6 +94,8 @@ public class CamelContextFactoryBean extends AbstractCamelContextFactoryBean<Spr
     @XmlAttribute(required = false)
     private String handleFault;
     @XmlAttribute(required = false)
+    private String lightweightUnitOfWork;
+    @XmlAttribute(required = false)
     private String errorHandlerRef;
     @XmlAttribute(required = false)
     private String autoStartup;
@@ -484,6 +486,14 @@ public class CamelContextFactoryBean extends AbstractCamelContextFactoryBean<Spr
         this.handleFault = handleFault;
     }
 
+    public String getLightweightUnitOfWork() {
+        return lightweightUnitOfWork;
+    }
+
+    public void setLightweightUnitOfWork(String lightweightUnitOfWork) {
+        this.lightweightUnitOfWork = lightweightUnitOfWork;
+    }
+
     public String getAutoStartup() {
         return autoStartup;
     }
@@ -0,0 +1,237 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+/**
+ * A producer which collects the parameters of many exchanges and executes them
+ * together as a single JDBC batch using {@link PreparedStatement#executeBatch()}.
+ * <p/>
+ * A batch is executed when it contains <tt>batchSize</tt> exchanges, or when the
+ * oldest exchange in the batch has waited <tt>batchTimeout</tt> millis, whichever
+ * comes first. Each exchange is completed with its own update count in the
+ * {@link SqlConstants#SQL_UPDATE_COUNT} header. If the batch fails then all the
+ * exchanges in the batch fail with the same exception.
+ * <p/>
+ * The callbacks of the exchanges in a batch are completed one after the other on
+ * the thread which executed the batch, which is the thread of the exchange which
+ * filled up the batch, or the timeout thread. So the routing of these exchanges
+ * continues serially, unless the route uses threads or other asynchronous
+ * processing after the producer.
+ * <p/>
+ * Only statements which do not return a result set (such as <tt>INSERT</tt>,
+ * <tt>UPDATE</tt> and <tt>DELETE</tt>) can be batched.
+ */
+public class SqlBatchProducer extends DefaultAsyncProducer {
+    private final String query;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final Object lock = new Object();
+    private ScheduledExecutorService timeoutExecutor;
+    private Batch current;
+
+    public SqlBatchProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, int batchSize, long batchTimeout) {
+        super(endpoint);
+        this.query = query;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+        String sql = queryHeader != null ? queryHeader : query;
+
+        // capture the parameters now as the body may change once we return
+        List<Object> parameters = new ArrayList<Object>();
+        if (exchange.getIn().getBody() != null) {
+            Iterator<?> iterator = exchange.getIn().getBody(Iterator.class);
+            while (iterator != null && iterator.hasNext()) {
+                parameters.add(iterator.next());
+            }
+        }
+
+        Batch full = null;
+        Batch previous = null;
+        synchronized (lock) {
+            if (current != null && !current.sql.equals(sql)) {
+                // a different statement cannot be part of the same batch
+                previous = current;
+                current = null;
+            }
+            if (current == null) {
+                current = new Batch(sql);
+                if (batchTimeout > 0) {
+                    final Batch batch = current;
+                    timeoutExecutor.schedule(new Runnable() {
+                        public void run() {
+                            onTimeout(batch);
+                        }
+                    }, batchTimeout, TimeUnit.MILLISECONDS);
+                }
+            }
+            current.add(new BatchEntry(exchange, callback, parameters));
+            if (current.size() >= batchSize) {
+                full = current;
+                current = null;
+            }
+        }
+
+        if (previous != null) {
+            executeBatch(previous);
+        }
+        if (full != null) {
+            executeBatch(full);
+        }
+        // the exchange is completed when its batch has been executed
+        return false;
+    }
+
+    protected void onTimeout(Batch batch) {
+        synchronized (lock) {
+            if (current != batch) {
+                // the batch has already been executed as it was full
+                return;
+            }
+            current = null;
+        }
+        log.trace("Executing batch of {} exchanges due batch timeout", batch.size());
+        executeBatch(batch);
+    }
+
+    protected void executeBatch(final Batch batch) {
+        final List<BatchEntry> entries = batch.entries;
+        long start = System.currentTimeMillis();
+        try {
+            jdbcTemplate.execute(batch.sql, new PreparedStatementCallback<Object>() {
+                public Object doInPreparedStatement(PreparedStatement ps) throws SQLException {
+                    int expected = ps.getParameterMetaData().getParameterCount();
+                    for (BatchEntry entry : entries) {
+                        populateStatement(ps, entry.parameters, expected);
+                        ps.addBatch();
+                    }
+
+                    int[] updateCounts = ps.executeBatch();
+                    for (int i = 0; i < entries.size(); i++) {
+                        int count = i < updateCounts.length ? updateCounts[i] : 0;
+                        entries.get(i).exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, count);
+                    }
+                    return null;
+                }
+            });
+        } catch (Throwable e) {
+            for (BatchEntry entry : entries) {
+                entry.exchange.setException(e);
+            }
+        } finally {
+            long elapsed = System.currentTimeMillis() - start;
+            log.debug("Executed batch of {} exchanges took {} millis", entries.size(), elapsed);
+            getEndpoint().onBatchCompleted(entries.size(), elapsed);
+        }
+
+        for (BatchEntry entry : entries) {
+            entry.callback.done(false);
+        }
+    }
+
+    private void populateStatement(PreparedStatement ps, List<Object> parameters, int expectedParams) throws SQLException {
+        if (parameters.size() != expectedParams) {
+            throw new SQLException("Number of parameters mismatch. Expected: " + expectedParams + ", was:" + parameters.size());
+        }
+        for (int i = 0; i < expectedParams; i++) {
+            Object value = parameters.get(i);
+            log.trace("Setting parameter #{} with value: {}", i + 1, value);
+            ps.setObject(i + 1, value);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (timeoutExecutor == null && batchTimeout > 0) {
+            timeoutExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "SqlBatchTimeoutChecker");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // execute any pending batch so no exchanges is left behind
+        Batch pending;
+        synchronized (lock) {
+            pending = current;
+            current = null;
+        }
+        if (pending != null) {
+            executeBatch(pending);
+        }
+
+        if (timeoutExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(timeoutExecutor);
+            timeoutExecutor = null;
+        }
+        super.doStop();
+    }
+
+    private static final class Batch {
+        private final String sql;
+        private final List<BatchEntry> entries = new ArrayList<BatchEntry>();
+
+        private Batch(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(BatchEntry entry) {
+            entries.add(entry);
+        }
+
+        private int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class BatchEntry {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final List<Object> parameters;
+
+        private BatchEntry(Exchange exchange, AsyncCallback callback, List<Object> parameters) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.parameters = parameters;
+        }
+    }
+}
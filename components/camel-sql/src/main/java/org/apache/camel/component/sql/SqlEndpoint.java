@@ -16,10 +16,15 @@
  */
 package org.apache.camel.component.sql;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.apache.camel.Component;
 import org.apache.camel.Consumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.impl.DefaultEndpoint;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -28,11 +33,22 @@ import org.springframework.jdbc.core.JdbcTemplate;
  * SQL Endpoint. Endpoint URI should contain valid SQL statement, but instead of
  * question marks (that are parameter placeholders), sharp signs should be used.
  * This is because in camel question mark has other meaning.
+ * <p/>
+ * When <tt>batchSize</tt> is greater than zero the parameters of many exchanges
+ * are collected and executed as a single JDBC batch, see {@link SqlBatchProducer}.
  */
+@ManagedResource(description = "Managed SQL Endpoint")
 public class SqlEndpoint extends DefaultEndpoint {
     private JdbcTemplate jdbcTemplate;
     private String query;
     private boolean batch;
+    private int batchSize;
+    private long batchTimeout = 1000;
+    private final AtomicLong totalBatches = new AtomicLong();
+    private final AtomicLong totalBatchedExchanges = new AtomicLong();
+    private final AtomicLong totalBatchProcessingTime = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastBatchProcessingTime;
 
     public SqlEndpoint() {
     }
@@ -48,6 +64,13 @@ public class SqlEndpoint extends DefaultEndpoint {
     }
 
     public Producer createProducer() throws Exception {
+        if (batchSize > 0) {
+            if (batchSize > 1 && batchTimeout <= 0) {
+                // a batch which is not full would otherwise not be executed until the producer is stopped
+                throw new IllegalArgumentException("The batchTimeout option must be a positive value when batchSize is greater than 1, was: " + batchTimeout);
+            }
+            return new SqlBatchProducer(this, query, jdbcTemplate, batchSize, batchTimeout);
+        }
         return new SqlProducer(this, query, jdbcTemplate, batch);
     }
 
@@ -79,6 +102,87 @@ public class SqlEndpoint extends DefaultEndpoint {
         this.batch = batch;
     }
 
+    @ManagedAttribute(description = "Maximum number of exchanges executed together in a single batch")
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of exchanges to collect and execute together in a single JDBC batch.
+     * Is by default 0 which means each exchange is executed on its own.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute(description = "Maximum time in millis an exchange waits for its batch to be executed")
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * Sets the maximum time in millis an exchange waits for its batch to fill up, before the batch is
+     * executed anyway. Is by default 1000 millis, and must be a positive value when the batch size is greater than 1.
+     */
+    public void setBatchTimeout(long batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    @ManagedAttribute(description = "Total number of executed batches")
+    public long getTotalBatches() {
+        return totalBatches.get();
+    }
+
+    @ManagedAttribute(description = "Total number of exchanges executed in batches")
+    public long getTotalBatchedExchanges() {
+        return totalBatchedExchanges.get();
+    }
+
+    @ManagedAttribute(description = "Number of exchanges in the last executed batch")
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    @ManagedAttribute(description = "Processing time in millis of the last executed batch")
+    public long getLastBatchProcessingTime() {
+        return lastBatchProcessingTime;
+    }
+
+    @ManagedAttribute(description = "Mean number of exchanges per executed batch")
+    public long getMeanBatchSize() {
+        long batches = totalBatches.get();
+        return batches > 0 ? totalBatchedExchanges.get() / batches : 0;
+    }
+
+    @ManagedAttribute(description = "Mean processing time in millis per executed batch")
+    public long getMeanBatchProcessingTime() {
+        long batches = totalBatches.get();
+        return batches > 0 ? totalBatchProcessingTime.get() / batches : 0;
+    }
+
+    @ManagedOperation(description = "Reset batch statistics")
+    public void resetBatchStatistics() {
+        totalBatches.set(0);
+        totalBatchedExchanges.set(0);
+        totalBatchProcessingTime.set(0);
+        lastBatchSize = 0;
+        lastBatchProcessingTime = 0;
+    }
+
+    /**
+     * Callback from {@link SqlBatchProducer} when a batch has been executed.
+     *
+     * @param size    number of exchanges in the batch
+     * @param elapsed processing time in millis
+     */
+    void onBatchCompleted(int size, long elapsed) {
+        totalBatches.incrementAndGet();
+        totalBatchedExchanges.addAndGet(size);
+        totalBatchProcessingTime.addAndGet(elapsed);
+        lastBatchSize = size;
+        lastBatchProcessingTime = elapsed;
+    }
+
     @Override
     protected String createEndpointUri() {
         // Make sure it's properly encoded
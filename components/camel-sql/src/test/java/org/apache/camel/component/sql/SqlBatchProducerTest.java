@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * @version
+ */
+public class SqlBatchProducerTest extends CamelTestSupport {
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint mockEndpoint;
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testBatchSizeCompletion() throws Exception {
+        int messages = 20;
+        mockEndpoint.expectedMessageCount(messages);
+        mockEndpoint.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(messages);
+        List<Future<?>> responses = new ArrayList<Future<?>>();
+        for (int i = 0; i < messages; i++) {
+            final int id = 100 + i;
+            responses.add(executor.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    template.sendBody("direct:insert", new Object[]{id, "Project" + id, "ASF"});
+                    return null;
+                }
+            }));
+        }
+        for (Future<?> future : responses) {
+            future.get();
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(3 + messages, jdbcTemplate.queryForInt("select count(*) from projects"));
+
+        SqlEndpoint endpoint = context.getEndpoint("sql:insert into projects values (#, #, #)?batchSize=5&batchTimeout=5000", SqlEndpoint.class);
+        assertEquals(messages, endpoint.getTotalBatchedExchanges());
+        assertEquals(4, endpoint.getTotalBatches());
+        assertEquals(5, endpoint.getMeanBatchSize());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBatchTimeoutCompletion() throws Exception {
+        mockEndpoint.expectedMessageCount(1);
+        mockEndpoint.allMessages().header(SqlConstants.SQL_UPDATE_COUNT).isEqualTo(1);
+
+        template.sendBody("direct:timeout", new Object[]{4, "Karaf", "ASF"});
+
+        assertMockEndpointsSatisfied();
+        assertEquals(1, jdbcTemplate.queryForInt("select count(*) from projects where id = 4"));
+    }
+
+    @Test
+    public void testBatchFailure() throws Exception {
+        mockEndpoint.expectedMessageCount(0);
+
+        try {
+            // duplicate primary key
+            template.sendBody("direct:timeout", new Object[]{1, "Camel", "ASF"});
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertNotNull(e.getCause());
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchTimeoutRequired() throws Exception {
+        try {
+            context.getEndpoint("sql:insert into projects values (#, #, #)?batchSize=5&batchTimeout=0").createProducer();
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:insert")
+                    .to("sql:insert into projects values (#, #, #)?batchSize=5&batchTimeout=5000")
+                    .to("mock:result");
+
+                from("direct:timeout")
+                    .to("sql:insert into projects values (#, #, #)?batchSize=100&batchTimeout=100")
+                    .to("mock:result");
+            }
+        };
+    }
+}